@@ -26,7 +26,6 @@ import org.apache.commons.dbcp2.PoolingDriver;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.lang.mutable.MutableBoolean;
-import org.apache.commons.pool2.ObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.UserGroupInformation;
@@ -48,16 +47,24 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.KerberosInterpreter;
 import org.apache.zeppelin.interpreter.ResultMessages;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
@@ -107,6 +114,7 @@ public class JDBCInterpreter extends KerberosInterpreter {
   static final String COMPLETER_TTL_KEY = "completer.ttlInSeconds";
   static final String DEFAULT_COMPLETER_TTL = "120";
   static final String SPLIT_QURIES_KEY = "splitQueries";
+  static final String PARALLEL_QUERIES_KEY = "parallelQueries";
   static final String JDBC_JCEKS_FILE = "jceks.file";
   static final String JDBC_JCEKS_CREDENTIAL_KEY = "jceks.credentialKey";
   static final String PRECODE_KEY_TEMPLATE = "%s.precode";
@@ -131,6 +139,11 @@ public class JDBCInterpreter extends KerberosInterpreter {
   private static final String CONCURRENT_EXECUTION_KEY = "zeppelin.jdbc.concurrent.use";
   private static final String CONCURRENT_EXECUTION_COUNT =
           "zeppelin.jdbc.concurrent.max_connection";
+  private static final String STREAMING_EXECUTION_KEY = "zeppelin.jdbc.streaming.use";
+  private static final String STREAMING_CHUNK_SIZE = "zeppelin.jdbc.streaming.chunk_size";
+  private static final int STREAMING_CHUNK_SIZE_DEFAULT = 100;
+  private static final String POOL_MAX_WAIT_KEY = "zeppelin.jdbc.pool.maxWaitMillis";
+  private static final long POOL_MAX_WAIT_DEFAULT = -1;
   private static final String DBCP_STRING = "jdbc:apache:commons:dbcp:";
 
   private final HashMap<String, Properties> basePropretiesMap;
@@ -139,6 +152,10 @@ public class JDBCInterpreter extends KerberosInterpreter {
 
   private int maxLineResults;
 
+  private ExecutorService parallelQueryExecutor;
+  private final Map<String, List<Future<InterpreterResult>>> paragraphIdFuturesMap =
+      new ConcurrentHashMap<>();
+
   public JDBCInterpreter(Properties property) {
     super(property);
     jdbcUserConfigurationsMap = new HashMap<>();
@@ -293,6 +310,12 @@ public class JDBCInterpreter extends KerberosInterpreter {
   @Override
   public void close() {
     super.close();
+    synchronized (this) {
+      if (parallelQueryExecutor != null) {
+        parallelQueryExecutor.shutdownNow();
+        parallelQueryExecutor = null;
+      }
+    }
     try {
       initStatementMap();
       initConnectionPoolMap();
@@ -333,14 +356,16 @@ public class JDBCInterpreter extends KerberosInterpreter {
   }
 
   public JDBCUserConfigurations getJDBCConfiguration(String user) {
-    JDBCUserConfigurations jdbcUserConfigurations = jdbcUserConfigurationsMap.get(user);
+    synchronized (jdbcUserConfigurationsMap) {
+      JDBCUserConfigurations jdbcUserConfigurations = jdbcUserConfigurationsMap.get(user);
 
-    if (jdbcUserConfigurations == null) {
-      jdbcUserConfigurations = new JDBCUserConfigurations();
-      jdbcUserConfigurationsMap.put(user, jdbcUserConfigurations);
-    }
+      if (jdbcUserConfigurations == null) {
+        jdbcUserConfigurations = new JDBCUserConfigurations();
+        jdbcUserConfigurationsMap.put(user, jdbcUserConfigurations);
+      }
 
-    return jdbcUserConfigurations;
+      return jdbcUserConfigurations;
+    }
   }
 
   private void closeDBPool(String user, String propertyKey) throws SQLException {
@@ -385,7 +410,12 @@ public class JDBCInterpreter extends KerberosInterpreter {
 
     PoolableConnectionFactory poolableConnectionFactory = new PoolableConnectionFactory(
             connectionFactory, null);
-    ObjectPool connectionPool = new GenericObjectPool(poolableConnectionFactory);
+    GenericObjectPool connectionPool = new GenericObjectPool(poolableConnectionFactory);
+    // parallel queries of a paragraph borrow up to max_connection connections at once,
+    // and an exhausted pool waits for a free connection up to the optional max wait
+    connectionPool.setMaxTotal(
+        Math.max(connectionPool.getMaxTotal(), getMaxConcurrentConnection()));
+    connectionPool.setMaxWaitMillis(getPoolMaxWaitMillis());
 
     poolableConnectionFactory.setPool(connectionPool);
     Class.forName(properties.getProperty(DRIVER_KEY));
@@ -398,13 +428,18 @@ public class JDBCInterpreter extends KerberosInterpreter {
       Properties properties) throws SQLException, ClassNotFoundException {
     String jdbcDriver = getJDBCDriverName(user, propertyKey);
 
-    if (!getJDBCConfiguration(user).isConnectionInDBDriverPool(propertyKey)) {
-      createConnectionPool(url, user, propertyKey, properties);
+    JDBCUserConfigurations jdbcUserConfigurations = getJDBCConfiguration(user);
+    synchronized (jdbcUserConfigurations) {
+      if (!jdbcUserConfigurations.isConnectionInDBDriverPool(propertyKey)) {
+        createConnectionPool(url, user, propertyKey, properties);
+      }
     }
+    // borrow outside of the lock, so waiting for a connection doesn't block other users
     return DriverManager.getConnection(jdbcDriver);
   }
 
-  public Connection getConnection(String propertyKey, InterpreterContext interpreterContext)
+  public Connection getConnection(String propertyKey,
+      InterpreterContext interpreterContext)
       throws ClassNotFoundException, SQLException, InterpreterException, IOException {
     final String user =  interpreterContext.getAuthenticationInfo().getUser();
     Connection connection;
@@ -413,9 +448,11 @@ public class JDBCInterpreter extends KerberosInterpreter {
     }
 
     JDBCUserConfigurations jdbcUserConfigurations = getJDBCConfiguration(user);
-    setUserProperty(propertyKey, interpreterContext);
-
-    final Properties properties = jdbcUserConfigurations.getPropertyMap(propertyKey);
+    final Properties properties;
+    synchronized (jdbcUserConfigurations) {
+      setUserProperty(propertyKey, interpreterContext);
+      properties = jdbcUserConfigurations.getPropertyMap(propertyKey);
+    }
     final String url = properties.getProperty(URL_KEY);
 
     if (isEmpty(getProperty("zeppelin.jdbc.auth.type"))) {
@@ -521,47 +558,86 @@ public class JDBCInterpreter extends KerberosInterpreter {
   }
 
   private String getResults(ResultSet resultSet, boolean isTableType, MutableBoolean isComplete)
-      throws SQLException {
-    ResultSetMetaData md = resultSet.getMetaData();
+      throws SQLException, IOException {
     StringBuilder msg;
     if (isTableType) {
       msg = new StringBuilder(TABLE_MAGIC_TAG);
     } else {
       msg = new StringBuilder();
     }
+    fetchResults(resultSet, msg, null, isComplete);
+    return msg.toString();
+  }
+
+  /**
+   * Write results to the InterpreterOutput every streamingChunkSize rows as they are fetched,
+   * instead of returning them once the ResultSet is exhausted.
+   */
+  private void streamResults(ResultSet resultSet, InterpreterOutput out, boolean isTableType,
+      MutableBoolean isComplete) throws SQLException, IOException {
+    out.setType(isTableType ? InterpreterResult.Type.TABLE : InterpreterResult.Type.TEXT);
+    fetchResults(resultSet, new StringBuilder(), out, isComplete);
+  }
+
+  private void fetchResults(ResultSet resultSet, StringBuilder msg, InterpreterOutput out,
+      MutableBoolean isComplete) throws SQLException, IOException {
+    ResultSetMetaData md = resultSet.getMetaData();
+    int columnCount = md.getColumnCount();
 
-    for (int i = 1; i < md.getColumnCount() + 1; i++) {
+    for (int i = 1; i < columnCount + 1; i++) {
       if (i > 1) {
         msg.append(TAB);
       }
-      msg.append(replaceReservedChars(md.getColumnName(i)));
+      appendReplacingReservedChars(msg, md.getColumnName(i));
     }
     msg.append(NEWLINE);
 
     int displayRowCount = 0;
+    int chunkRowCount = 0;
+    int chunkSize = getStreamingChunkSize();
     while (resultSet.next()) {
       if (displayRowCount >= getMaxResult()) {
         isComplete.setValue(false);
         break;
       }
-      for (int i = 1; i < md.getColumnCount() + 1; i++) {
-        Object resultObject;
-        String resultValue;
-        resultObject = resultSet.getObject(i);
-        if (resultObject == null) {
+      for (int i = 1; i < columnCount + 1; i++) {
+        String resultValue = resultSet.getString(i);
+        if (resultSet.wasNull()) {
           resultValue = "null";
-        } else {
-          resultValue = resultSet.getString(i);
         }
-        msg.append(replaceReservedChars(resultValue));
-        if (i != md.getColumnCount()) {
+        appendReplacingReservedChars(msg, resultValue);
+        if (i != columnCount) {
           msg.append(TAB);
         }
       }
       msg.append(NEWLINE);
       displayRowCount++;
+
+      if (out != null && ++chunkRowCount >= chunkSize) {
+        out.write(msg.toString());
+        out.flush();
+        msg.setLength(0);
+        chunkRowCount = 0;
+      }
+    }
+
+    if (out != null && msg.length() > 0) {
+      out.write(msg.toString());
+      out.flush();
+      msg.setLength(0);
+    }
+  }
+
+  private void addResultMessage(InterpreterResult interpreterResult, InterpreterOutput out,
+      InterpreterResult.Type type, String data) throws IOException {
+    if (out == null) {
+      interpreterResult.add(type, data);
+    } else {
+      // keep the order of messages when results are streamed
+      out.setType(type);
+      out.write(data);
+      out.flush();
     }
-    return msg.toString();
   }
 
   private boolean isDDLCommand(int updatedCount, int columnCount) throws SQLException {
@@ -659,18 +735,100 @@ public class JDBCInterpreter extends KerberosInterpreter {
 
   private InterpreterResult executeSql(String propertyKey, String sql,
       InterpreterContext interpreterContext) {
-    Connection connection = null;
-    Statement statement;
-    ResultSet resultSet = null;
-    String paragraphId = interpreterContext.getParagraphId();
-    String user = interpreterContext.getAuthenticationInfo().getUser();
-
     boolean splitQuery = false;
     String splitQueryProperty = getProperty(String.format("%s.%s", propertyKey, SPLIT_QURIES_KEY));
     if (StringUtils.isNotBlank(splitQueryProperty) && splitQueryProperty.equalsIgnoreCase("true")) {
       splitQuery = true;
     }
 
+    List<String> sqlArray;
+    if (splitQuery) {
+      sqlArray = splitSqlQueries(sql);
+    } else {
+      sqlArray = Arrays.asList(sql);
+    }
+
+    InterpreterOutput streamingOutput = isStreamingResults() ? interpreterContext.out : null;
+    if (sqlArray.size() > 1 && isParallelQueries(propertyKey)) {
+      return executeSqlInParallel(propertyKey, sqlArray, interpreterContext, streamingOutput);
+    } else {
+      return executeSql(propertyKey, sqlArray, interpreterContext, streamingOutput);
+    }
+  }
+
+  /**
+   * Execute each query on its own connection from the pool, and render results in the order
+   * of the queries. Queries should not depend on each other.
+   * When results are streamed, the results of a query are written as a whole once it and all
+   * the queries before it are done, because rows of concurrent queries can not be interleaved.
+   */
+  private InterpreterResult executeSqlInParallel(final String propertyKey, List<String> sqlArray,
+      final InterpreterContext interpreterContext, InterpreterOutput streamingOutput) {
+    String paragraphId = interpreterContext.getParagraphId();
+    ExecutorService executor = getParallelQueryExecutor();
+    List<Future<InterpreterResult>> futures = new ArrayList<>();
+    paragraphIdFuturesMap.put(paragraphId, futures);
+
+    InterpreterResult interpreterResult = new InterpreterResult(Code.SUCCESS);
+    Code code = Code.SUCCESS;
+    try {
+      synchronized (futures) {
+        for (final String sqlToExecute : sqlArray) {
+          futures.add(executor.submit(new Callable<InterpreterResult>() {
+            @Override
+            public InterpreterResult call() throws Exception {
+              return executeSql(propertyKey, Arrays.asList(sqlToExecute), interpreterContext,
+                  null);
+            }
+          }));
+        }
+      }
+
+      for (Future<InterpreterResult> future : futures) {
+        try {
+          InterpreterResult result = future.get();
+          for (InterpreterResultMessage message : result.message()) {
+            if (streamingOutput == null) {
+              interpreterResult.add(message);
+            } else {
+              addResultMessage(interpreterResult, streamingOutput, message.getType(),
+                  message.getData());
+            }
+          }
+          if (result.code() != Code.SUCCESS) {
+            code = result.code();
+          }
+        } catch (CancellationException e) {
+          interpreterResult.add(InterpreterResult.Type.TEXT, "Query cancelled.");
+          code = Code.ERROR;
+        } catch (ExecutionException e) {
+          logger.error("Cannot run query", e);
+          interpreterResult.add(ExceptionUtils.getStackTrace(e.getCause()));
+          code = Code.ERROR;
+        }
+      }
+    } catch (IOException e) {
+      logger.error("Cannot write query results", e);
+      interpreterResult.add(ExceptionUtils.getStackTrace(e));
+      code = Code.ERROR;
+    } catch (InterruptedException e) {
+      logger.error("Interrupted while waiting query results", e);
+      interpreterResult.add(ExceptionUtils.getStackTrace(e));
+      code = Code.ERROR;
+    } finally {
+      paragraphIdFuturesMap.remove(paragraphId);
+    }
+    return new InterpreterResult(code, interpreterResult.message());
+  }
+
+  private InterpreterResult executeSql(String propertyKey, List<String> sqlArray,
+      InterpreterContext interpreterContext, InterpreterOutput streamingOutput) {
+    Connection connection = null;
+    Statement statement;
+    ResultSet resultSet = null;
+    String paragraphId = interpreterContext.getParagraphId();
+    String user = interpreterContext.getAuthenticationInfo().getUser();
+
     InterpreterResult interpreterResult = new InterpreterResult(InterpreterResult.Code.SUCCESS);
     try {
       connection = getConnection(propertyKey, interpreterContext);
@@ -689,13 +847,6 @@ public class JDBCInterpreter extends KerberosInterpreter {
     }
 
     try {
-      List<String> sqlArray;
-      if (splitQuery) {
-        sqlArray = splitSqlQueries(sql);
-      } else {
-        sqlArray = Arrays.asList(sql);
-      }
-
       for (int i = 0; i < sqlArray.size(); i++) {
         String sqlToExecute = sqlArray.get(i);
         statement = connection.createStatement();
@@ -719,26 +870,32 @@ public class JDBCInterpreter extends KerberosInterpreter {
             // Regards that the command is DDL.
             if (isDDLCommand(statement.getUpdateCount(),
                 resultSet.getMetaData().getColumnCount())) {
-              interpreterResult.add(InterpreterResult.Type.TEXT,
+              addResultMessage(interpreterResult, streamingOutput, InterpreterResult.Type.TEXT,
                   "Query executed successfully.");
             } else {
               MutableBoolean isComplete = new MutableBoolean(true);
-              String results = getResults(resultSet,
-                  !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE), isComplete);
-              interpreterResult.add(results);
+              boolean isTableType = !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE);
+              if (streamingOutput != null) {
+                streamResults(resultSet, streamingOutput, isTableType, isComplete);
+              } else {
+                interpreterResult.add(getResults(resultSet, isTableType, isComplete));
+              }
               if (!isComplete.booleanValue()) {
-                interpreterResult.add(ResultMessages.getExceedsLimitRowsMessage(getMaxResult(),
-                    String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY)));
+                InterpreterResultMessage exceedsLimit = ResultMessages.getExceedsLimitRowsMessage(
+                    getMaxResult(), String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY));
+                addResultMessage(interpreterResult, streamingOutput,
+                    exceedsLimit.getType(), exceedsLimit.getData());
               }
             }
           } else {
             // Response contains either an update count or there are no results.
             int updateCount = statement.getUpdateCount();
-            interpreterResult.add(InterpreterResult.Type.TEXT,
+            addResultMessage(interpreterResult, streamingOutput, InterpreterResult.Type.TEXT,
                 "Query executed successfully. Affected rows : " +
                     updateCount);
           }
         } finally {
+          getJDBCConfiguration(user).removeStatement(paragraphId, statement);
           if (resultSet != null) {
             try {
               resultSet.close();
@@ -752,7 +909,7 @@ public class JDBCInterpreter extends KerberosInterpreter {
         }
       }
     } catch (Throwable e) {
-      logger.error("Cannot run " + sql, e);
+      logger.error("Cannot run " + sqlArray, e);
       String errorMsg = ExceptionUtils.getStackTrace(e);
       interpreterResult.add(errorMsg);
       return new InterpreterResult(Code.ERROR, interpreterResult.message());
@@ -766,7 +923,6 @@ public class JDBCInterpreter extends KerberosInterpreter {
           connection.close();
         } catch (SQLException e) { /*ignored*/ }
       }
-      getJDBCConfiguration(user).removeStatement(paragraphId);
     }
     return interpreterResult;
   }
@@ -774,11 +930,15 @@ public class JDBCInterpreter extends KerberosInterpreter {
   /**
    * For %table response replace Tab and Newline characters from the content.
    */
-  private String replaceReservedChars(String str) {
+  private void appendReplacingReservedChars(StringBuilder sb, String str) {
     if (str == null) {
-      return EMPTY_COLUMN_VALUE;
+      sb.append(EMPTY_COLUMN_VALUE);
+      return;
+    }
+    for (int i = 0; i < str.length(); i++) {
+      char c = str.charAt(i);
+      sb.append((c == TAB || c == NEWLINE) ? WHITESPACE : c);
     }
-    return str.replace(TAB, WHITESPACE).replace(NEWLINE, WHITESPACE);
   }
 
   @Override
@@ -799,6 +959,15 @@ public class JDBCInterpreter extends KerberosInterpreter {
   public void cancel(InterpreterContext context) {
     logger.info("Cancel current query statement.");
     String paragraphId = context.getParagraphId();
+    List<Future<InterpreterResult>> futures = paragraphIdFuturesMap.get(paragraphId);
+    if (futures != null) {
+      synchronized (futures) {
+        for (Future<InterpreterResult> future : futures) {
+          // running queries are cancelled through their statements
+          future.cancel(false);
+        }
+      }
+    }
     JDBCUserConfigurations jdbcUserConfigurations =
             getJDBCConfiguration(context.getAuthenticationInfo().getUser());
     try {
@@ -872,6 +1041,29 @@ public class JDBCInterpreter extends KerberosInterpreter {
     return maxLineResults;
   }
 
+  boolean isParallelQueries(String propertyKey) {
+    return Boolean.valueOf(getProperty(String.format("%s.%s", propertyKey, PARALLEL_QUERIES_KEY)));
+  }
+
+  private synchronized ExecutorService getParallelQueryExecutor() {
+    if (parallelQueryExecutor == null) {
+      parallelQueryExecutor = Executors.newFixedThreadPool(getMaxConcurrentConnection());
+    }
+    return parallelQueryExecutor;
+  }
+
+  boolean isStreamingResults() {
+    return Boolean.valueOf(getProperty(STREAMING_EXECUTION_KEY));
+  }
+
+  int getStreamingChunkSize() {
+    try {
+      return Integer.valueOf(getProperty(STREAMING_CHUNK_SIZE));
+    } catch (Exception e) {
+      return STREAMING_CHUNK_SIZE_DEFAULT;
+    }
+  }
+
   boolean isConcurrentExecution() {
     return Boolean.valueOf(getProperty(CONCURRENT_EXECUTION_KEY));
   }
@@ -883,4 +1075,12 @@ public class JDBCInterpreter extends KerberosInterpreter {
       return 10;
     }
   }
+
+  long getPoolMaxWaitMillis() {
+    try {
+      return Long.valueOf(getProperty(POOL_MAX_WAIT_KEY));
+    } catch (Exception e) {
+      return POOL_MAX_WAIT_DEFAULT;
+    }
+  }
 }
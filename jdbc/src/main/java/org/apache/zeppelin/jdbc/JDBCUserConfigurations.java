@@ -18,7 +18,9 @@ import org.apache.commons.dbcp2.PoolingDriver;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -28,7 +30,7 @@ import org.apache.zeppelin.user.UsernamePassword;
  * UserConfigurations for JDBC impersonation.
  */
 public class JDBCUserConfigurations {
-  private final Map<String, Statement> paragraphIdStatementMap;
+  private final Map<String, List<Statement>> paragraphIdStatementMap;
   private final Map<String, PoolingDriver> poolingDriverMap;
   private final HashMap<String, Properties> propertiesMap;
   private HashMap<String, Boolean> isSuccessful;
@@ -40,9 +42,11 @@ public class JDBCUserConfigurations {
     isSuccessful = new HashMap<>();
   }
 
-  public void initStatementMap() throws SQLException {
-    for (Statement statement : paragraphIdStatementMap.values()) {
-      statement.close();
+  public synchronized void initStatementMap() throws SQLException {
+    for (List<Statement> statements : paragraphIdStatementMap.values()) {
+      for (Statement statement : statements) {
+        statement.close();
+      }
     }
     paragraphIdStatementMap.clear();
   }
@@ -71,15 +75,55 @@ public class JDBCUserConfigurations {
     propertiesMap.get(propertyKey).setProperty("password", usernamePassword.getPassword());
   }
 
-  public void saveStatement(String key, Statement statement) throws SQLException {
-    paragraphIdStatementMap.put(key, statement);
+  /**
+   * Register a running statement of the paragraph. A paragraph can have several statements
+   * running at the same time when its queries are executed in parallel.
+   */
+  public synchronized void saveStatement(String key, Statement statement) throws SQLException {
+    List<Statement> statements = paragraphIdStatementMap.get(key);
+    if (statements == null) {
+      statements = new ArrayList<>();
+      paragraphIdStatementMap.put(key, statements);
+    }
+    statements.add(statement);
   }
 
+  /**
+   * Cancel all running statements of the paragraph.
+   */
   public void cancelStatement(String key) throws SQLException {
-    paragraphIdStatementMap.get(key).cancel();
+    List<Statement> statements;
+    synchronized (this) {
+      if (!paragraphIdStatementMap.containsKey(key)) {
+        return;
+      }
+      statements = new ArrayList<>(paragraphIdStatementMap.get(key));
+    }
+
+    SQLException exception = null;
+    for (Statement statement : statements) {
+      try {
+        statement.cancel();
+      } catch (SQLException e) {
+        exception = e;
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  public synchronized void removeStatement(String key, Statement statement) {
+    List<Statement> statements = paragraphIdStatementMap.get(key);
+    if (statements != null) {
+      statements.remove(statement);
+      if (statements.isEmpty()) {
+        paragraphIdStatementMap.remove(key);
+      }
+    }
   }
 
-  public void removeStatement(String key) {
+  public synchronized void removeStatement(String key) {
     paragraphIdStatementMap.remove(key);
   }
 
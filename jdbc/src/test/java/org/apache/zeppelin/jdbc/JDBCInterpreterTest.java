@@ -18,6 +18,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import static java.lang.String.format;
 
@@ -40,6 +41,7 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 
@@ -48,7 +50,9 @@ import com.mockrunner.jdbc.BasicJDBCTestCaseAdapter;
 import org.apache.zeppelin.completer.CompletionType;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.scheduler.FIFOScheduler;
 import org.apache.zeppelin.scheduler.ParallelScheduler;
@@ -180,6 +184,95 @@ public class JDBCInterpreterTest extends BasicJDBCTestCaseAdapter {
     assertEquals("ID\tNAME\na\ta_name\nb\tb_name\n", interpreterResult.message().get(0).getData());
   }
 
+  @Test
+  public void testSelectQueryWithStreaming() throws SQLException, IOException {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    properties.setProperty("zeppelin.jdbc.streaming.use", "true");
+    properties.setProperty("zeppelin.jdbc.streaming.chunk_size", "1");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    InterpreterOutput out = new InterpreterOutput(null);
+    InterpreterContext context = new InterpreterContext("", "1", null, "", "",
+        new AuthenticationInfo("testUser"), null, null, null, null, null, null, out);
+    String sqlQuery = "select * from test_table";
+
+    InterpreterResult interpreterResult = t.interpret(sqlQuery, context);
+
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+    assertEquals(0, interpreterResult.message().size());
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    assertEquals("ID\tNAME\na\ta_name\nb\tb_name\nc\tnull\n", messages.get(0).getData());
+  }
+
+  @Test
+  public void testParallelQueries() throws SQLException, IOException {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    properties.setProperty("default.splitQueries", "true");
+    properties.setProperty("default.parallelQueries", "true");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    String sqlQuery = "select * from test_table WHERE ID = 'a';" +
+        "select * from test_table WHERE ID = 'b';" +
+        "select * from test_table WHERE ID = 'c'";
+
+    InterpreterResult interpreterResult = t.interpret(sqlQuery, interpreterContext);
+
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+    assertEquals(3, interpreterResult.message().size());
+    assertEquals("ID\tNAME\na\ta_name\n", interpreterResult.message().get(0).getData());
+    assertEquals("ID\tNAME\nb\tb_name\n", interpreterResult.message().get(1).getData());
+    assertEquals("ID\tNAME\nc\tnull\n", interpreterResult.message().get(2).getData());
+    t.close();
+  }
+
+  @Test
+  public void testParallelQueriesWithStreaming() throws SQLException, IOException {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    properties.setProperty("default.splitQueries", "true");
+    properties.setProperty("default.parallelQueries", "true");
+    properties.setProperty("zeppelin.jdbc.streaming.use", "true");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    InterpreterOutput out = new InterpreterOutput(null);
+    InterpreterContext context = new InterpreterContext("", "1", null, "", "",
+        new AuthenticationInfo("testUser"), null, null, null, null, null, null, out);
+    String sqlQuery = "select * from test_table WHERE ID = 'a';" +
+        "select * from test_table WHERE ID = 'b'";
+
+    InterpreterResult interpreterResult = t.interpret(sqlQuery, context);
+
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+    assertEquals(0, interpreterResult.message().size());
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(2, messages.size());
+    assertEquals("ID\tNAME\na\ta_name\n", messages.get(0).getData());
+    assertEquals("ID\tNAME\nb\tb_name\n", messages.get(1).getData());
+    t.close();
+  }
+
   @Test
   public void testSplitSqlQuery() throws SQLException, IOException {
     String sqlQuery = "insert into test_table(id, name) values ('a', ';\"');" +
@@ -561,4 +654,43 @@ public class JDBCInterpreterTest extends BasicJDBCTestCaseAdapter {
     assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
     assertEquals(3, interpreterResult.message().size());
   }
+
+  @Test
+  public void testExhaustedConnectionPool() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    // pool is kept between calls only when the account is set in the properties
+    properties.setProperty("default.url", "jdbc:h2:mem:pooltest");
+    properties.setProperty("default.user", "sa");
+    properties.setProperty("default.password", "");
+    properties.setProperty("zeppelin.jdbc.concurrent.max_connection", "10");
+    properties.setProperty("zeppelin.jdbc.pool.maxWaitMillis", "100");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    List<Connection> connections = new ArrayList<>();
+    try {
+      // pool is large enough for max_connection parallel queries
+      for (int i = 0; i < 10; i++) {
+        connections.add(t.getConnection("default", interpreterContext));
+      }
+      try {
+        t.getConnection("default", interpreterContext);
+        fail("exhausted pool should fail instead of waiting forever");
+      } catch (SQLException e) {
+        // expected
+      }
+
+      // pool of other user is not affected
+      InterpreterContext otherUserContext = new InterpreterContext("", "1", null, "", "",
+          new AuthenticationInfo("otherUser"), null, null, null, null, null, null, null);
+      connections.add(t.getConnection("default", otherUserContext));
+    } finally {
+      for (Connection connection : connections) {
+        connection.close();
+      }
+      t.close();
+    }
+  }
 }
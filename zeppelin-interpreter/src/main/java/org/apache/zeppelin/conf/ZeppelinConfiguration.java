@@ -355,6 +355,14 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getRelativeDir(ConfVars.ZEPPELIN_RECOVERY_DIR);
   }
 
+  public String getSearchIndexPath() {
+    String path = getString(ConfVars.ZEPPELIN_SEARCH_INDEX_PATH);
+    if (StringUtils.isBlank(path)) {
+      return getRelativeDir(String.format("%s/search-index", getConfDir()));
+    }
+    return getRelativeDir(path);
+  }
+
   public String getNotebookStorageClass() {
     return getString(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE);
   }
@@ -710,6 +718,13 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         "http://repo1.maven.org/maven2/"),
     ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT("zeppelin.interpreter.connect.timeout", 30000),
     ZEPPELIN_INTERPRETER_MAX_POOL_SIZE("zeppelin.interpreter.max.poolsize", 10),
+    ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE("zeppelin.interpreter.process.pool.size", 0),
+    ZEPPELIN_INTERPRETER_CLIENT_POOL_SIZE("zeppelin.interpreter.client.pool.size", 100),
+    ZEPPELIN_INTERPRETER_CLIENT_POOL_MAX_IDLE("zeppelin.interpreter.client.pool.maxIdle", 8),
+    ZEPPELIN_INTERPRETER_RPC_TIMEOUT("zeppelin.interpreter.rpc.timeout", 30000),
+    ZEPPELIN_INTERPRETER_SCHEDULER_USER_MAX_CONCURRENCY(
+        "zeppelin.interpreter.scheduler.user.maxConcurrency", 0),
+    ZEPPELIN_INTERPRETER_SCHEDULER_USER_WEIGHTS("zeppelin.interpreter.scheduler.user.weights", ""),
     ZEPPELIN_INTERPRETER_GROUP_ORDER("zeppelin.interpreter.group.order", "spark,md,angular,sh,"
         + "livy,alluxio,file,psql,flink,python,ignite,lens,cassandra,geode,kylin,elasticsearch,"
         + "scalding,jdbc,hbase,bigquery,beam,pig,scio,groovy,neo4j"),
@@ -720,6 +735,9 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_RECOVERY_STORAGE_CLASS("zeppelin.recovery.storage.class",
         "org.apache.zeppelin.interpreter.recovery.NullRecoveryStorage"),
     ZEPPELIN_PLUGINS_DIR("zeppelin.plugins.dir", "plugins"),
+    // index is stored under the conf dir when not set
+    ZEPPELIN_SEARCH_INDEX_PATH("zeppelin.search.index.path", ""),
+    ZEPPELIN_SEARCH_INDEX_COMMIT_INTERVAL("zeppelin.search.index.commit.interval", 1000L),
 
     // use specified notebook (id) as homescreen
     ZEPPELIN_NOTEBOOK_HOMESCREEN("zeppelin.notebook.homescreen", null),
@@ -744,6 +762,11 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_STORAGE("zeppelin.notebook.storage",
         "org.apache.zeppelin.notebook.repo.GitNotebookRepo"),
     ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC("zeppelin.notebook.one.way.sync", false),
+    ZEPPELIN_NOTEBOOK_SYNC_THREADS("zeppelin.notebook.sync.threads", 4),
+    ZEPPELIN_NOTEBOOK_CACHE_SIZE("zeppelin.notebook.cache.size", 0),
+    ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD("zeppelin.notebook.result.blob.threshold", 0L),
+    ZEPPELIN_NOTEBOOK_PERSIST_QUEUE_SIZE("zeppelin.notebook.persist.queue.size", 0),
+    ZEPPELIN_NOTEBOOK_PERSIST_THREADS("zeppelin.notebook.persist.threads", 2),
     // whether by default note is public or private
     ZEPPELIN_NOTEBOOK_PUBLIC("zeppelin.notebook.public", true),
     ZEPPELIN_INTERPRETER_REMOTE_RUNNER("zeppelin.interpreter.remoterunner",
@@ -753,6 +776,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_AUTO_INTERPRETER_BINDING("zeppelin.notebook.autoInterpreterBinding", true),
     ZEPPELIN_CONF_DIR("zeppelin.conf.dir", "conf"),
     ZEPPELIN_CONFIG_FS_DIR("zeppelin.config.fs.dir", ""),
+    ZEPPELIN_FILESYSTEM_IO_THREADS("zeppelin.filesystem.io.threads", 8),
     ZEPPELIN_CONFIG_STORAGE_CLASS("zeppelin.config.storage.class",
         "org.apache.zeppelin.storage.LocalConfigStorage"),
     ZEPPELIN_DEP_LOCALREPO("zeppelin.dep.localrepo", "local-repo"),
@@ -770,6 +794,8 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_CREDENTIALS_PERSIST("zeppelin.credentials.persist", true),
     ZEPPELIN_CREDENTIALS_ENCRYPT_KEY("zeppelin.credentials.encryptKey", null),
     ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE("zeppelin.websocket.max.text.message.size", "1024000"),
+    // 0 sends websocket messages synchronously from the broadcasting thread
+    ZEPPELIN_WEBSOCKET_SEND_QUEUE_SIZE("zeppelin.websocket.send.queue.size", 0),
     ZEPPELIN_SERVER_DEFAULT_DIR_ALLOWED("zeppelin.server.default.dir.allowed", false),
     ZEPPELIN_SERVER_XFRAME_OPTIONS("zeppelin.server.xframe.options", "SAMEORIGIN"),
     ZEPPELIN_SERVER_JETTY_NAME("zeppelin.server.jetty.name", null),
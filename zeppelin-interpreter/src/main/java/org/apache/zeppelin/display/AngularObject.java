@@ -184,7 +184,8 @@ public class AngularObject<T> implements JsonSerializable {
       ws.addAll(watchers);
     }
 
-    ExecutorService executor = ExecutorFactory.singleton().createOrGet("angularObjectWatcher", 50);
+    ExecutorService executor =
+        ExecutorFactory.singleton().createOrGetBlocking("angularObjectWatcher", 50);
     for (final AngularObjectWatcher w : ws) {
       executor.submit(new Runnable() {
         @Override
@@ -116,7 +116,7 @@ public class InterpreterResultMessageOutput extends OutputStream {
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
     synchronized (outList) {
-      for (int i = off; i < len; i++) {
+      for (int i = off; i < off + len; i++) {
         write(b[i]);
       }
     }
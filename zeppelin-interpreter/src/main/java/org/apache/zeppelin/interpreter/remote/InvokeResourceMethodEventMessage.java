@@ -20,11 +20,22 @@ import com.google.gson.Gson;
 import org.apache.zeppelin.common.JsonSerializable;
 import org.apache.zeppelin.resource.ResourceId;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * message payload to invoke method of resource in the resourcepool
  */
 public class InvokeResourceMethodEventMessage implements JsonSerializable {
   private static final Gson gson = new Gson();
+  private static final Map<String, Class> primitiveTypes = new HashMap<>();
+
+  static {
+    for (Class c : new Class[] {boolean.class, byte.class, char.class, short.class,
+        int.class, long.class, float.class, double.class}) {
+      primitiveTypes.put(c.getName(), c);
+    }
+  }
 
   public final ResourceId resourceId;
   public final String methodName;
@@ -61,12 +72,50 @@ public class InvokeResourceMethodEventMessage implements JsonSerializable {
 
     Class [] types = new Class[paramClassnames.length];
     for (int i = 0; i < paramClassnames.length; i++) {
-      types[i] = this.getClass().getClassLoader().loadClass(paramClassnames[i]);
+      if (primitiveTypes.containsKey(paramClassnames[i])) {
+        types[i] = primitiveTypes.get(paramClassnames[i]);
+      } else {
+        types[i] = this.getClass().getClassLoader().loadClass(paramClassnames[i]);
+      }
     }
 
     return types;
   }
 
+  /**
+   * Gson deserializes every number in params into Double.
+   * Convert them back to the declared parameter types so the method can be invoked.
+   */
+  public Object [] getParams() throws ClassNotFoundException {
+    Class [] types = getParamTypes();
+    if (params == null || types == null) {
+      return params;
+    }
+
+    Object [] converted = new Object[params.length];
+    for (int i = 0; i < params.length; i++) {
+      converted[i] = params[i];
+      if (i < types.length && params[i] instanceof Number) {
+        Number n = (Number) params[i];
+        Class type = types[i];
+        if (type == int.class || type == Integer.class) {
+          converted[i] = n.intValue();
+        } else if (type == long.class || type == Long.class) {
+          converted[i] = n.longValue();
+        } else if (type == short.class || type == Short.class) {
+          converted[i] = n.shortValue();
+        } else if (type == byte.class || type == Byte.class) {
+          converted[i] = n.byteValue();
+        } else if (type == float.class || type == Float.class) {
+          converted[i] = n.floatValue();
+        } else if (type == double.class || type == Double.class) {
+          converted[i] = n.doubleValue();
+        }
+      }
+    }
+    return converted;
+  }
+
   public boolean shouldPutResultIntoResourcePool() {
     return (returnResourceName != null);
   }
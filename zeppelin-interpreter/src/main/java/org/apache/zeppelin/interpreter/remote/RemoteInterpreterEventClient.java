@@ -35,7 +35,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -52,11 +54,24 @@ import java.util.Map;
 public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   private final Logger logger = LoggerFactory.getLogger(RemoteInterpreterEventClient.class);
   private final List<RemoteInterpreterEvent> eventQueue = new LinkedList<>();
+  // OUTPUT_APPEND events in eventQueue whose data is built lazily when they are polled
+  private final Map<RemoteInterpreterEvent, PendingOutputAppend> pendingAppends =
+      new IdentityHashMap<>();
+  // OUTPUT_APPEND events that may still absorb subsequent appends of the same output
+  private final Map<String, RemoteInterpreterEvent> openAppends = new HashMap<>();
   private final List<ResourceSet> getAllResourceResponse = new LinkedList<>();
   private final Map<ResourceId, Object> getResourceResponse = new HashMap<>();
   private final Map<InvokeResourceMethodEventMessage, Object> getInvokeResponse = new HashMap<>();
   private final Gson gson = new Gson();
 
+  public static final long DEFAULT_POLL_TIMEOUT_MS = 1000;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  public static final int DEFAULT_MAX_APPEND_SIZE = 64 * 1024;
+
+  private volatile long pollTimeoutMs = DEFAULT_POLL_TIMEOUT_MS;
+  private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private volatile int maxAppendSize = DEFAULT_MAX_APPEND_SIZE;
+
   /**
    * Run paragraph
    * @param runner
@@ -123,15 +138,17 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
     // request
     sendEvent(new RemoteInterpreterEvent(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, null));
 
+    boolean interrupted = false;
     synchronized (getAllResourceResponse) {
       while (getAllResourceResponse.isEmpty()) {
         try {
           getAllResourceResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
       ResourceSet resourceSet = getAllResourceResponse.remove(0);
+      restoreInterrupt(interrupted);
       return resourceSet;
     }
   }
@@ -139,13 +156,14 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   @Override
   public Object readResource(ResourceId resourceId) {
     logger.debug("Request Read Resource {} from ZeppelinServer", resourceId.getName());
+    boolean interrupted = false;
     synchronized (getResourceResponse) {
       // wait for previous response consumed
       while (getResourceResponse.containsKey(resourceId)) {
         try {
           getResourceResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
 
@@ -159,11 +177,12 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         try {
           getResourceResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
       Object o = getResourceResponse.remove(resourceId);
       getResourceResponse.notifyAll();
+      restoreInterrupt(interrupted);
       return o;
     }
   }
@@ -191,13 +210,14 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         params,
         null);
 
+    boolean interrupted = false;
     synchronized (getInvokeResponse) {
       // wait for previous response consumed
       while (getInvokeResponse.containsKey(invokeMethod)) {
         try {
           getInvokeResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
       // send request
@@ -209,11 +229,12 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         try {
           getInvokeResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
       Object o = getInvokeResponse.remove(invokeMethod);
       getInvokeResponse.notifyAll();
+      restoreInterrupt(interrupted);
       return o;
     }
   }
@@ -243,13 +264,14 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         params,
         returnResourceName);
 
+    boolean interrupted = false;
     synchronized (getInvokeResponse) {
       // wait for previous response consumed
       while (getInvokeResponse.containsKey(invokeMethod)) {
         try {
           getInvokeResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
       // send request
@@ -261,15 +283,26 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         try {
           getInvokeResponse.wait();
         } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
+          interrupted = true;
         }
       }
       Resource o = (Resource) getInvokeResponse.remove(invokeMethod);
       getInvokeResponse.notifyAll();
+      restoreInterrupt(interrupted);
       return o;
     }
   }
 
+  /**
+   * Resource calls keep waiting for the response when interrupted, so the request and
+   * its response stay paired. The interrupt is restored once the response arrived.
+   */
+  private static void restoreInterrupt(boolean interrupted) {
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   /**
    * Supposed to call from RemoteInterpreterEventPoller
    */
@@ -351,40 +384,61 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   }
 
   /**
-   * Supposed to call from RemoteInterpreterEventPoller
+   * Supposed to call from RemoteInterpreterEventPoller.
+   * Waits up to pollTimeoutMs when there is no pending event. When several events are pending
+   * they are shipped together as a single EVENT_BATCH event.
    * @return next available event
    */
   public RemoteInterpreterEvent pollEvent() {
     synchronized (eventQueue) {
-      if (eventQueue.isEmpty()) {
+      long deadline = System.currentTimeMillis() + pollTimeoutMs;
+      long remaining = pollTimeoutMs;
+      while (eventQueue.isEmpty() && remaining > 0) {
         try {
-          eventQueue.wait(1000);
+          eventQueue.wait(remaining);
         } catch (InterruptedException e) {
-          // ignore exception
+          Thread.currentThread().interrupt();
+          break;
         }
+        remaining = deadline - System.currentTimeMillis();
       }
 
       if (eventQueue.isEmpty()) {
         return new RemoteInterpreterEvent(RemoteInterpreterEventType.NO_OP, "");
-      } else {
-        RemoteInterpreterEvent event = eventQueue.remove(0);
+      } else if (eventQueue.size() == 1 || maxBatchSize <= 1) {
+        RemoteInterpreterEvent event = takeEvent();
         logger.debug("Send event {}", event.getType());
         return event;
+      } else {
+        List<RemoteInterpreterEvent> batch = new ArrayList<>();
+        while (!eventQueue.isEmpty() && batch.size() < maxBatchSize) {
+          batch.add(takeEvent());
+        }
+        logger.debug("Send batch of {} events", batch.size());
+        return new RemoteInterpreterEvent(
+            RemoteInterpreterEventType.EVENT_BATCH, gson.toJson(batch));
       }
     }
   }
 
+  public void setPollTimeoutMs(long pollTimeoutMs) {
+    this.pollTimeoutMs = pollTimeoutMs;
+  }
+
+  public void setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * @param maxAppendSize characters of output an OUTPUT_APPEND event grows to by coalescing
+   */
+  public void setMaxAppendSize(int maxAppendSize) {
+    this.maxAppendSize = maxAppendSize;
+  }
+
   public void onInterpreterOutputAppend(
       String noteId, String paragraphId, int outputIndex, String output) {
-    Map<String, String> appendOutput = new HashMap<>();
-    appendOutput.put("noteId", noteId);
-    appendOutput.put("paragraphId", paragraphId);
-    appendOutput.put("index", Integer.toString(outputIndex));
-    appendOutput.put("data", output);
-
-    sendEvent(new RemoteInterpreterEvent(
-        RemoteInterpreterEventType.OUTPUT_APPEND,
-        gson.toJson(appendOutput)));
+    appendOutput(noteId, paragraphId, outputIndex, null, output);
   }
 
   public void onInterpreterOutputUpdate(
@@ -417,23 +471,85 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   private void sendEvent(RemoteInterpreterEvent event) {
     logger.debug("Send Event: " + event);
     synchronized (eventQueue) {
+      // later appends must not be merged across this event, to keep ordering
+      openAppends.clear();
       eventQueue.add(event);
       eventQueue.notifyAll();
     }
   }
 
-  public void onAppOutputAppend(
+  /**
+   * Appends are coalesced per (note, paragraph, index, app) while they are waiting in the
+   * queue, so a burst of small appends is serialized and sent as a single OUTPUT_APPEND event.
+   * Events carry up to maxAppendSize characters, a longer output is split over several events.
+   */
+  private void appendOutput(
       String noteId, String paragraphId, int index, String appId, String output) {
-    Map<String, Object> appendOutput = new HashMap<>();
-    appendOutput.put("noteId", noteId);
-    appendOutput.put("paragraphId", paragraphId);
-    appendOutput.put("index", Integer.toString(index));
-    appendOutput.put("appId", appId);
-    appendOutput.put("data", output);
+    if (output.isEmpty()) {
+      return;
+    }
+    String key = noteId + ":" + paragraphId + ":" + index + ":" + appId;
+    synchronized (eventQueue) {
+      int start = 0;
+      RemoteInterpreterEvent event = openAppends.get(key);
+      if (event != null) {
+        StringBuilder data = pendingAppends.get(event).data;
+        start = chunkEnd(output, 0, maxAppendSize - data.length());
+        data.append(output, 0, start);
+        if (start == output.length()) {
+          return;
+        }
+        // this chunk is full, the rest goes to new ones
+        openAppends.remove(key);
+      }
 
-    sendEvent(new RemoteInterpreterEvent(
-        RemoteInterpreterEventType.OUTPUT_APPEND,
-        gson.toJson(appendOutput)));
+      while (start < output.length()) {
+        int end = chunkEnd(output, start, maxAppendSize);
+        if (end == start) {
+          // maxAppendSize is smaller than a surrogate pair
+          end = Math.min(output.length(), start + 2);
+        }
+        event = new RemoteInterpreterEvent(RemoteInterpreterEventType.OUTPUT_APPEND, null);
+        pendingAppends.put(event, new PendingOutputAppend(key, noteId, paragraphId, index, appId,
+            output.substring(start, end)));
+        eventQueue.add(event);
+        start = end;
+      }
+      openAppends.put(key, event);
+      eventQueue.notifyAll();
+    }
+  }
+
+  /**
+   * End of the chunk of output starting at start, without splitting a surrogate pair.
+   */
+  private static int chunkEnd(String output, int start, int maxLength) {
+    int end = start + Math.min(output.length() - start, Math.max(maxLength, 0));
+    if (end > start && end < output.length()
+        && Character.isHighSurrogate(output.charAt(end - 1))) {
+      end--;
+    }
+    return end;
+  }
+
+  /**
+   * Remove head of the eventQueue. Caller should hold the eventQueue lock.
+   */
+  private RemoteInterpreterEvent takeEvent() {
+    RemoteInterpreterEvent event = eventQueue.remove(0);
+    PendingOutputAppend append = pendingAppends.remove(event);
+    if (append != null) {
+      if (openAppends.get(append.key) == event) {
+        openAppends.remove(append.key);
+      }
+      event.setData(gson.toJson(append.toMap()));
+    }
+    return event;
+  }
+
+  public void onAppOutputAppend(
+      String noteId, String paragraphId, int index, String appId, String output) {
+    appendOutput(noteId, paragraphId, index, appId, output);
   }
 
 
@@ -474,6 +590,19 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
     sendEvent(new RemoteInterpreterEvent(RemoteInterpreterEventType.PARA_INFOS,
         gson.toJson(infos)));
   }
+
+  /**
+   * Tells the server that a job submitted by submit() terminated. Sent after the output events
+   * of the job, so the server fetches the result once the output is delivered.
+   */
+  public void onJobFinished(String sessionKey, String jobId) {
+    Map<String, String> jobFinished = new HashMap<>();
+    jobFinished.put("sessionKey", sessionKey);
+    jobFinished.put("jobId", jobId);
+    sendEvent(new RemoteInterpreterEvent(RemoteInterpreterEventType.JOB_FINISHED,
+        gson.toJson(jobFinished)));
+  }
+
   /**
    * Wait for eventQueue becomes empty
    */
@@ -484,11 +613,46 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
         try {
           eventQueue.wait(100);
         } catch (InterruptedException e) {
-          // ignore exception
+          Thread.currentThread().interrupt();
+          break;
         }
       }
-      if (!eventQueue.isEmpty())
+      if (!eventQueue.isEmpty()) {
         eventQueue.clear();
+        pendingAppends.clear();
+        openAppends.clear();
+      }
+    }
+  }
+
+  private static class PendingOutputAppend {
+    private final String key;
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+    private final String appId;
+    private final StringBuilder data;
+
+    PendingOutputAppend(String key,
+        String noteId, String paragraphId, int index, String appId, String data) {
+      this.key = key;
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+      this.appId = appId;
+      this.data = new StringBuilder(data);
+    }
+
+    Map<String, String> toMap() {
+      Map<String, String> appendOutput = new HashMap<>();
+      appendOutput.put("noteId", noteId);
+      appendOutput.put("paragraphId", paragraphId);
+      appendOutput.put("index", Integer.toString(index));
+      if (appId != null) {
+        appendOutput.put("appId", appId);
+      }
+      appendOutput.put("data", data.toString());
+      return appendOutput;
     }
   }
 }
@@ -130,6 +130,14 @@ public class RemoteInterpreterServer extends Thread
   // Hold information for manual progress update
   private ConcurrentMap<String, Integer> progressMap = new ConcurrentHashMap<>();
 
+  // results of the submitted jobs which finished, until they are fetched by getJobResult.
+  // A caller which stopped waiting never fetches its result, so results older than
+  // jobResultExpireMs are dropped whenever a job finishes or a result is fetched
+  static final long DEFAULT_JOB_RESULT_EXPIRE_MS = 10 * 60 * 1000;
+  private final ConcurrentMap<String, FinishedJobResult> jobResults =
+      new ConcurrentHashMap<>();
+  private long jobResultExpireMs = DEFAULT_JOB_RESULT_EXPIRE_MS;
+
   private boolean isTest;
 
   public RemoteInterpreterServer(String callbackHost, int callbackPort, String portRange)
@@ -422,6 +430,81 @@ public class RemoteInterpreterServer extends Thread
   public RemoteInterpreterResult interpret(String sessionId, String className, String st,
                                            RemoteInterpreterContext interpreterContext)
       throws TException {
+    InterpretJobListener jobListener = new InterpretJobListener();
+    InterpretJob job = submitInterpretJob(sessionId, className, st, interpreterContext,
+        jobListener);
+
+    while (!job.isTerminated()) {
+      synchronized (jobListener) {
+        try {
+          jobListener.wait(1000);
+        } catch (InterruptedException e) {
+          logger.info("Exception in RemoteInterpreterServer while interpret, jobListener.wait", e);
+        }
+      }
+    }
+    return getInterpretResult(job);
+  }
+
+  /**
+   * Schedules the paragraph and returns without waiting for it, so neither the thrift worker
+   * thread nor the connection of the caller is held while the job runs. A JOB_FINISHED event
+   * is sent when the job terminates, and its result is kept until {@link #getJobResult}, or
+   * dropped when nobody fetched it for a while.
+   */
+  @Override
+  public void submit(final String sessionId, String className, String st,
+                     RemoteInterpreterContext interpreterContext) throws TException {
+    submitInterpretJob(sessionId, className, st, interpreterContext, new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+      }
+
+      @Override
+      public void onStatusChange(Job job, Status before, Status after) {
+        if (after.isCompleted()) {
+          expireJobResults();
+          jobResults.put(getJobKey(sessionId, job.getId()),
+              new FinishedJobResult(getInterpretResult((InterpretJob) job)));
+          eventClient.onJobFinished(sessionId, job.getId());
+        }
+      }
+    });
+  }
+
+  @Override
+  public RemoteInterpreterResult getJobResult(String sessionId, String jobId)
+      throws TException {
+    FinishedJobResult finished = jobResults.remove(getJobKey(sessionId, jobId));
+    expireJobResults();
+    if (finished == null) {
+      throw new TException("No result of job " + jobId + " in session " + sessionId);
+    }
+    return finished.result;
+  }
+
+  private void expireJobResults() {
+    long now = System.currentTimeMillis();
+    Iterator<Map.Entry<String, FinishedJobResult>> it = jobResults.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, FinishedJobResult> entry = it.next();
+      if (now - entry.getValue().finishedAt >= jobResultExpireMs) {
+        logger.warn("Drop result of job {}, it was not fetched", entry.getKey());
+        it.remove();
+      }
+    }
+  }
+
+  void setJobResultExpireMs(long jobResultExpireMs) {
+    this.jobResultExpireMs = jobResultExpireMs;
+  }
+
+  private static String getJobKey(String sessionId, String jobId) {
+    return sessionId + "/" + jobId;
+  }
+
+  private InterpretJob submitInterpretJob(String sessionId, String className, String st,
+      RemoteInterpreterContext interpreterContext, JobListener jobListener) throws TException {
     if (logger.isDebugEnabled()) {
       logger.debug("st:\n{}", st);
     }
@@ -430,7 +513,6 @@ public class RemoteInterpreterServer extends Thread
     context.setInterpreterClassName(intp.getClassName());
 
     Scheduler scheduler = intp.getScheduler();
-    InterpretJobListener jobListener = new InterpretJobListener();
     InterpretJob job = new InterpretJob(
         interpreterContext.getParagraphId(),
         "RemoteInterpretJob_" + System.currentTimeMillis(),
@@ -439,19 +521,14 @@ public class RemoteInterpreterServer extends Thread
         intp,
         st,
         context);
+    // a result of an earlier run which was not fetched is dropped
+    jobResults.remove(getJobKey(sessionId, job.getId()));
     scheduler.submit(job);
+    return job;
+  }
 
-    while (!job.isTerminated()) {
-      synchronized (jobListener) {
-        try {
-          jobListener.wait(1000);
-        } catch (InterruptedException e) {
-          logger.info("Exception in RemoteInterpreterServer while interpret, jobListener.wait", e);
-        }
-      }
-    }
-
-    progressMap.remove(interpreterContext.getParagraphId());
+  private RemoteInterpreterResult getInterpretResult(InterpretJob job) {
+    progressMap.remove(job.getId());
 
     InterpreterResult result;
     if (job.getStatus() == Status.ERROR) {
@@ -464,6 +541,7 @@ public class RemoteInterpreterServer extends Thread
         result = new InterpreterResult(Code.KEEP_PREVIOUS_RESULT);
       }
     }
+    InterpreterContext context = job.context;
     return convert(result,
         context.getConfig(),
         context.getGui(),
@@ -1146,7 +1224,7 @@ public class RemoteInterpreterServer extends Thread
         Method method = o.getClass().getMethod(
             message.methodName,
             message.getParamTypes());
-        Object ret = method.invoke(o, message.params);
+        Object ret = method.invoke(o, message.getParams());
         if (message.shouldPutResultIntoResourcePool()) {
           // if return resource name is specified,
           // then put result into resource pool
@@ -1336,6 +1414,15 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  private static class FinishedJobResult {
+    final RemoteInterpreterResult result;
+    final long finishedAt = System.currentTimeMillis();
+
+    FinishedJobResult(RemoteInterpreterResult result) {
+      this.result = result;
+    }
+  }
+
   private static class RunningApplication {
     public final Application app;
     public final HeliumPackage pkg;
@@ -44,7 +44,9 @@ public enum RemoteInterpreterEventType implements org.apache.thrift.TEnum {
   META_INFOS(13),
   REMOTE_ZEPPELIN_SERVER_RESOURCE(14),
   RESOURCE_INVOKE_METHOD(15),
-  PARA_INFOS(16);
+  PARA_INFOS(16),
+  EVENT_BATCH(17),
+  JOB_FINISHED(18);
 
   private final int value;
 
@@ -97,6 +99,10 @@ public enum RemoteInterpreterEventType implements org.apache.thrift.TEnum {
         return RESOURCE_INVOKE_METHOD;
       case 16:
         return PARA_INFOS;
+      case 17:
+        return EVENT_BATCH;
+      case 18:
+        return JOB_FINISHED;
       default:
         return null;
     }
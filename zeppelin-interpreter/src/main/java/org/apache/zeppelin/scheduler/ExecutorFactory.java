@@ -16,18 +16,39 @@
  */
 package org.apache.zeppelin.scheduler;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  *
  */
 public class ExecutorFactory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorFactory.class);
   private static ExecutorFactory _executor;
   private static Long _executorLock = new Long(0);
 
+  // virtual threads are used from java 24, where blocking in synchronized doesn't pin them
+  private static final int VIRTUAL_THREAD_MIN_JAVA_VERSION = 24;
+  private static final long IDLE_THREAD_KEEP_ALIVE_SEC = 60;
+
   Map<String, ExecutorService> executor = new HashMap<>();
 
   public ExecutorFactory() {
@@ -62,6 +83,110 @@ public class ExecutorFactory {
     }
   }
 
+  /**
+   * Executors of createOrGet are scheduled thread pools, this returns one as such.
+   *
+   * @throws IllegalStateException when an executor of another kind has the name already
+   */
+  public ScheduledExecutorService createOrGetScheduled(String name, int numThread) {
+    ExecutorService executorService = createOrGet(name, numThread);
+    if (!(executorService instanceof ScheduledExecutorService)) {
+      throw new IllegalStateException("Executor " + name + " is a "
+          + executorService.getClass().getName() + ", not a scheduled executor, it was created"
+          + " by createOrGetBlocking with the same name");
+    }
+    return (ScheduledExecutorService) executorService;
+  }
+
+  /**
+   * Executor for tasks which block, like jobs. Runs each task on its own virtual thread when the
+   * JVM supports them, otherwise on a pool of at most numThread threads which exit when idle.
+   */
+  public ExecutorService createOrGetBlocking(String name, int numThread) {
+    synchronized (executor) {
+      if (!executor.containsKey(name)) {
+        ExecutorService virtualThreadExecutor = createVirtualThreadExecutor(name);
+        if (virtualThreadExecutor != null) {
+          executor.put(name, new CountingExecutorService(virtualThreadExecutor));
+        } else {
+          ThreadPoolExecutor pool = new ThreadPoolExecutor(numThread, numThread,
+              IDLE_THREAD_KEEP_ALIVE_SEC, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+              new NamedThreadFactory(name));
+          pool.allowCoreThreadTimeOut(true);
+          executor.put(name, pool);
+        }
+      }
+      return executor.get(name);
+    }
+  }
+
+  /**
+   * Creates a thread per task executor of virtual threads through reflection, so this builds
+   * and runs on JVMs without them.
+   *
+   * @return the executor, or null when the JVM has no virtual threads
+   */
+  private static ExecutorService createVirtualThreadExecutor(String name) {
+    try {
+      Object version = Runtime.class.getMethod("version").invoke(null);
+      int feature = (Integer) version.getClass().getMethod("feature").invoke(version);
+      if (feature < VIRTUAL_THREAD_MIN_JAVA_VERSION) {
+        return null;
+      }
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class)
+          .invoke(builder, name + "-", 0L);
+      ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory")
+          .invoke(builder);
+      Method newThreadPerTaskExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      LOGGER.info("Run tasks of executor " + name + " on virtual threads");
+      return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.debug("No virtual threads for executor " + name, e);
+      return null;
+    }
+  }
+
+  /**
+   * Usage of the executors by name: poolSize (threads), maxPoolSize (-1 when unbounded),
+   * activeCount (busy threads), queueSize (tasks waiting for a thread) and completedTaskCount.
+   * A queue growing while all the threads are busy means the pool is saturated.
+   */
+  public Map<String, Map<String, Long>> getExecutorStats() {
+    Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+    synchronized (executor) {
+      for (Map.Entry<String, ExecutorService> entry : executor.entrySet()) {
+        stats.put(entry.getKey(), getStats(entry.getValue()));
+      }
+    }
+    return stats;
+  }
+
+  private static Map<String, Long> getStats(ExecutorService executorService) {
+    Map<String, Long> stats = new LinkedHashMap<>();
+    if (executorService instanceof ThreadPoolExecutor) {
+      ThreadPoolExecutor pool = (ThreadPoolExecutor) executorService;
+      // a scheduled pool never grows over its core size
+      long maxPoolSize = (pool instanceof ScheduledThreadPoolExecutor) ?
+          pool.getCorePoolSize() : pool.getMaximumPoolSize();
+      stats.put("poolSize", (long) pool.getPoolSize());
+      stats.put("maxPoolSize", maxPoolSize);
+      stats.put("activeCount", (long) pool.getActiveCount());
+      stats.put("queueSize", (long) pool.getQueue().size());
+      stats.put("completedTaskCount", pool.getCompletedTaskCount());
+    } else if (executorService instanceof CountingExecutorService) {
+      CountingExecutorService counting = (CountingExecutorService) executorService;
+      stats.put("poolSize", counting.active.get());
+      stats.put("maxPoolSize", -1L);
+      stats.put("activeCount", counting.active.get());
+      stats.put("queueSize", 0L);
+      stats.put("completedTaskCount", counting.completed.get());
+    }
+    return stats;
+  }
+
   public void shutdown(String name) {
     synchronized (executor) {
       if (executor.containsKey(name)) {
@@ -75,9 +200,81 @@ public class ExecutorFactory {
 
   public void shutdownAll() {
     synchronized (executor) {
-      for (String name : executor.keySet()){
+      for (String name : new ArrayList<>(executor.keySet())) {
         shutdown(name);
       }
     }
   }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+    private final ThreadFactory threadFactory = Executors.defaultThreadFactory();
+    private final AtomicInteger threadNumber = new AtomicInteger(0);
+    private final String name;
+
+    NamedThreadFactory(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = threadFactory.newThread(r);
+      thread.setName(name + "-" + threadNumber.getAndIncrement());
+      return thread;
+    }
+  }
+
+  /**
+   * Counts the running and completed tasks of an executor without a pool to ask, like a thread
+   * per task executor.
+   */
+  private static class CountingExecutorService extends AbstractExecutorService {
+    private final ExecutorService executorService;
+    final AtomicLong active = new AtomicLong(0);
+    final AtomicLong completed = new AtomicLong(0);
+
+    CountingExecutorService(ExecutorService executorService) {
+      this.executorService = executorService;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+      executorService.execute(new Runnable() {
+        @Override
+        public void run() {
+          active.incrementAndGet();
+          try {
+            command.run();
+          } finally {
+            active.decrementAndGet();
+            completed.incrementAndGet();
+          }
+        }
+      });
+    }
+
+    @Override
+    public void shutdown() {
+      executorService.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return executorService.awaitTermination(timeout, unit);
+    }
+  }
 }
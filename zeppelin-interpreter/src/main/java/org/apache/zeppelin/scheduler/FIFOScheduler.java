@@ -34,8 +34,8 @@ public class FIFOScheduler implements Scheduler {
   List<Job> queue = new LinkedList<>();
   private ExecutorService executor;
   private SchedulerListener listener;
-  boolean terminate = false;
-  Job runningJob = null;
+  volatile boolean terminate = false;
+  volatile Job runningJob = null;
   private String name;
 
   static Logger LOGGER = LoggerFactory.getLogger(FIFOScheduler.class);
@@ -81,7 +81,7 @@ public class FIFOScheduler implements Scheduler {
     job.setStatus(Status.PENDING);
     synchronized (queue) {
       queue.add(job);
-      queue.notify();
+      dispatch();
     }
   }
 
@@ -101,62 +101,69 @@ public class FIFOScheduler implements Scheduler {
     return null;
   }
 
+  /**
+   * Jobs are started by {@link #submit(Job)} and by the end of the previous job, no thread waits
+   * for them.
+   */
   @Override
   public void run() {
+  }
 
-    synchronized (queue) {
-      while (terminate == false) {
-        synchronized (queue) {
-          if (runningJob != null || queue.isEmpty() == true) {
-            try {
-              queue.wait(500);
-            } catch (InterruptedException e) {
-              LOGGER.error("Exception in FIFOScheduler while run queue.wait", e);
-            }
-            continue;
-          }
-
-          runningJob = queue.remove(0);
+  /**
+   * Starts the next job when none is running. Called holding the queue lock.
+   */
+  private void dispatch() {
+    if (terminate || runningJob != null || queue.isEmpty()) {
+      return;
+    }
+    runningJob = queue.remove(0);
+    executor.execute(new JobRunner(this, runningJob));
+  }
+
+  private class JobRunner implements Runnable {
+    private Scheduler scheduler;
+    private Job job;
+
+    JobRunner(Scheduler scheduler, Job job) {
+      this.scheduler = scheduler;
+      this.job = job;
+    }
+
+    @Override
+    public void run() {
+      if (job.isAborted()) {
+        job.setStatus(Status.ABORT);
+        job.aborted = false;
+        finished();
+        return;
+      }
+
+      job.setStatus(Status.RUNNING);
+      if (listener != null) {
+        listener.jobStarted(scheduler, job);
+      }
+      job.run();
+      if (job.isAborted()) {
+        job.setStatus(Status.ABORT);
+      } else {
+        if (job.getException() != null) {
+          job.setStatus(Status.ERROR);
+        } else {
+          job.setStatus(Status.FINISHED);
         }
+      }
+      if (listener != null) {
+        listener.jobFinished(scheduler, job);
+      }
+      // reset aborted flag to allow retry
+      job.aborted = false;
+      finished();
+    }
 
-        final Scheduler scheduler = this;
-        this.executor.execute(new Runnable() {
-          @Override
-          public void run() {
-            if (runningJob.isAborted()) {
-              runningJob.setStatus(Status.ABORT);
-              runningJob.aborted = false;
-              synchronized (queue) {
-                queue.notify();
-              }
-              return;
-            }
-
-            runningJob.setStatus(Status.RUNNING);
-            if (listener != null) {
-              listener.jobStarted(scheduler, runningJob);
-            }
-            runningJob.run();
-            if (runningJob.isAborted()) {
-              runningJob.setStatus(Status.ABORT);
-            } else {
-              if (runningJob.getException() != null) {
-                runningJob.setStatus(Status.ERROR);
-              } else {
-                runningJob.setStatus(Status.FINISHED);
-              }
-            }
-            if (listener != null) {
-              listener.jobFinished(scheduler, runningJob);
-            }
-            // reset aborted flag to allow retry
-            runningJob.aborted = false;
-            runningJob = null;
-            synchronized (queue) {
-              queue.notify();
-            }
-          }
-        });
+    private void finished() {
+      synchronized (queue) {
+        runningJob = null;
+        dispatch();
       }
     }
   }
@@ -164,9 +171,6 @@ public class FIFOScheduler implements Scheduler {
   @Override
   public void stop() {
     terminate = true;
-    synchronized (queue) {
-      queue.notify();
-    }
   }
 
 }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue of waiting jobs which shares a scheduler between the tenants of the jobs, like the
+ * users of a shared interpreter.
+ *
+ * Tenants take turns in proportion to their weight (stride scheduling), so a tenant who
+ * submits many jobs at once does not make the other tenants wait for all of them. Interactive
+ * jobs are run before batch jobs, jobs of the same tenant run in submission order. The number
+ * of running jobs of a tenant can be limited.
+ *
+ * Not thread safe, schedulers use it under their own lock.
+ */
+public class FairJobQueue {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FairJobQueue.class);
+  public static final String DEFAULT_TENANT = "";
+
+  private static class Tenant {
+    final LinkedList<Job> interactive = new LinkedList<>();
+    final LinkedList<Job> batch = new LinkedList<>();
+    int running = 0;
+    // virtual time of the next turn of the tenant
+    double pass = 0;
+
+    boolean isIdle() {
+      return interactive.isEmpty() && batch.isEmpty() && running == 0;
+    }
+  }
+
+  private final Map<String, Tenant> tenants = new LinkedHashMap<>();
+  private final Map<String, Double> weights = new HashMap<>();
+  private final Map<Job, Long> enqueueTimes = new IdentityHashMap<>();
+  private final Map<Job, String> runningTenants = new IdentityHashMap<>();
+  private int maxConcurrencyPerTenant = 0;
+  // pass of the last turn, tenants becoming active start from here
+  private double virtualTime = 0;
+
+  private long dispatchCount = 0;
+  private long totalWaitTime = 0;
+  private long maxWaitTime = 0;
+
+  /**
+   * @param maxConcurrencyPerTenant maximum running jobs per tenant, 0 for no limit
+   */
+  public void setMaxConcurrencyPerTenant(int maxConcurrencyPerTenant) {
+    this.maxConcurrencyPerTenant = maxConcurrencyPerTenant;
+  }
+
+  public void setWeight(String tenant, double weight) {
+    if (weight <= 0) {
+      throw new IllegalArgumentException("weight of " + tenant + " can't be " + weight);
+    }
+    weights.put(tenant, weight);
+  }
+
+  /**
+   * Sets the weights from a comma separated list of tenant:weight, tenants not in the list
+   * have weight 1.
+   */
+  public void setWeights(String weightList) {
+    weights.clear();
+    for (String entry : StringUtils.split(StringUtils.defaultString(weightList), ',')) {
+      String[] tenantWeight = StringUtils.split(entry.trim(), ':');
+      if (tenantWeight.length != 2) {
+        LOGGER.warn("Ignore invalid tenant weight " + entry);
+        continue;
+      }
+      try {
+        setWeight(tenantWeight[0].trim(), Double.parseDouble(tenantWeight[1].trim()));
+      } catch (IllegalArgumentException e) {
+        LOGGER.warn("Ignore invalid tenant weight " + entry, e);
+      }
+    }
+  }
+
+  public void add(Job job) {
+    String name = tenantOf(job);
+    Tenant tenant = tenants.get(name);
+    if (tenant == null) {
+      tenant = new Tenant();
+      tenant.pass = virtualTime;
+      tenants.put(name, tenant);
+    } else if (tenant.isIdle()) {
+      tenant.pass = Math.max(tenant.pass, virtualTime);
+    }
+    if (job.isBatch()) {
+      tenant.batch.add(job);
+    } else {
+      tenant.interactive.add(job);
+    }
+    enqueueTimes.put(job, System.currentTimeMillis());
+  }
+
+  /**
+   * Takes the next job to run and counts it as running until {@link #finished(Job)}.
+   *
+   * @return the job, or null when no tenant with waiting jobs is below its concurrency limit
+   */
+  public Job poll() {
+    String name = select(false);
+    boolean batch = false;
+    if (name == null) {
+      name = select(true);
+      batch = true;
+    }
+    if (name == null) {
+      return null;
+    }
+    Tenant tenant = tenants.get(name);
+    Job job = batch ? tenant.batch.removeFirst() : tenant.interactive.removeFirst();
+    virtualTime = tenant.pass;
+    tenant.pass += 1 / weightOf(name);
+    tenant.running++;
+    runningTenants.put(job, name);
+
+    Long enqueueTime = enqueueTimes.remove(job);
+    if (enqueueTime != null) {
+      long waitTime = System.currentTimeMillis() - enqueueTime;
+      dispatchCount++;
+      totalWaitTime += waitTime;
+      maxWaitTime = Math.max(maxWaitTime, waitTime);
+    }
+    return job;
+  }
+
+  private String select(boolean batch) {
+    String selected = null;
+    Tenant selectedTenant = null;
+    for (Map.Entry<String, Tenant> entry : tenants.entrySet()) {
+      Tenant tenant = entry.getValue();
+      LinkedList<Job> jobs = batch ? tenant.batch : tenant.interactive;
+      if (jobs.isEmpty()
+          || (maxConcurrencyPerTenant > 0 && tenant.running >= maxConcurrencyPerTenant)) {
+        continue;
+      }
+      if (selectedTenant == null || tenant.pass < selectedTenant.pass) {
+        selected = entry.getKey();
+        selectedTenant = tenant;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Called when a job taken by {@link #poll()} is not running anymore.
+   */
+  public void finished(Job job) {
+    String name = runningTenants.remove(job);
+    if (name == null) {
+      return;
+    }
+    Tenant tenant = tenants.get(name);
+    if (tenant != null) {
+      tenant.running--;
+      removeIfIdle(name, tenant);
+    }
+  }
+
+  public Job remove(String jobId) {
+    Iterator<Map.Entry<String, Tenant>> it = tenants.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Tenant> entry = it.next();
+      Tenant tenant = entry.getValue();
+      Job job = remove(tenant.interactive, jobId);
+      if (job == null) {
+        job = remove(tenant.batch, jobId);
+      }
+      if (job != null) {
+        enqueueTimes.remove(job);
+        if (tenant.isIdle()) {
+          it.remove();
+        }
+        return job;
+      }
+    }
+    return null;
+  }
+
+  private Job remove(List<Job> jobs, String jobId) {
+    Iterator<Job> it = jobs.iterator();
+    while (it.hasNext()) {
+      Job job = it.next();
+      if (job.getId().equals(jobId)) {
+        it.remove();
+        return job;
+      }
+    }
+    return null;
+  }
+
+  private void removeIfIdle(String name, Tenant tenant) {
+    if (tenant.isIdle()) {
+      tenants.remove(name);
+    }
+  }
+
+  private String tenantOf(Job job) {
+    String tenant = job.getTenant();
+    return tenant == null ? DEFAULT_TENANT : tenant;
+  }
+
+  private double weightOf(String tenant) {
+    Double weight = weights.get(tenant);
+    return weight == null ? 1 : weight;
+  }
+
+  public boolean isEmpty() {
+    return enqueueTimes.isEmpty();
+  }
+
+  public int size() {
+    return enqueueTimes.size();
+  }
+
+  /**
+   * Waiting jobs, grouped by tenant.
+   */
+  public List<Job> getJobs() {
+    List<Job> jobs = new LinkedList<>();
+    for (Tenant tenant : tenants.values()) {
+      jobs.addAll(tenant.interactive);
+      jobs.addAll(tenant.batch);
+    }
+    return jobs;
+  }
+
+  /**
+   * Number of waiting jobs per tenant.
+   */
+  public Map<String, Integer> getWaitingJobsPerTenant() {
+    Map<String, Integer> waiting = new LinkedHashMap<>();
+    for (Map.Entry<String, Tenant> entry : tenants.entrySet()) {
+      int count = entry.getValue().interactive.size() + entry.getValue().batch.size();
+      if (count > 0) {
+        waiting.put(entry.getKey(), count);
+      }
+    }
+    return waiting;
+  }
+
+  /**
+   * Average time the started jobs waited in the queue.
+   */
+  public long getAverageWaitMs() {
+    return dispatchCount == 0 ? 0 : totalWaitTime / dispatchCount;
+  }
+
+  public long getMaxWaitMs() {
+    return maxWaitTime;
+  }
+}
@@ -85,6 +85,8 @@ public abstract class Job {
   private transient volatile Throwable exception;
   private transient JobListener listener;
   private long progressUpdateIntervalMs;
+  // run by "run all" or cron, FairJobQueue runs interactive jobs first
+  private transient volatile boolean batch = false;
 
   public Job(String jobName, JobListener listener, long progressUpdateIntervalMs) {
     this.jobName = jobName;
@@ -174,6 +176,16 @@ public abstract class Job {
     return this.status.isRunning();
   }
 
+  /**
+   * Progress polls of the jobs with the same key run one at a time, jobs reading their progress
+   * from the same remote process share a key so a slow process only delays its own jobs.
+   *
+   * @return this job by default
+   */
+  public Object getPollKey() {
+    return this;
+  }
+
   public void run() {
     JobProgressPoller progressUpdator = null;
     dateStarted = new Date();
@@ -186,7 +198,7 @@ public abstract class Job {
       completeWithError(e);
     } finally {
       if (progressUpdator != null) {
-        progressUpdator.interrupt();
+        progressUpdator.stop();
       }
       //aborted = false;
     }
@@ -253,6 +265,22 @@ public abstract class Job {
     return aborted;
   }
 
+  /**
+   * Tenant this job runs for, like the user who runs it. FairJobQueue shares the scheduler
+   * between tenants, jobs without tenant share the default one.
+   */
+  public String getTenant() {
+    return null;
+  }
+
+  public boolean isBatch() {
+    return batch;
+  }
+
+  public void setBatch(boolean batch) {
+    this.batch = batch;
+  }
+
   public Date getDateCreated() {
     return dateCreated;
   }
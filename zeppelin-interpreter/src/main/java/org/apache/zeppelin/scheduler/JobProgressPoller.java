@@ -20,23 +20,38 @@ package org.apache.zeppelin.scheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
- * Polls job progress with given interval
+ * Polls job progress with given interval. The pollers of all the jobs share the threads of
+ * one scheduled executor, which only starts the polls. The polls may block, e.g. on a remote
+ * interpreter process, so they run on the {@link #getPollExecutor() poll executor}, one at a
+ * time per {@link Job#getPollKey() poll key}, and a job is not polled again before its last
+ * poll returned.
  *
  * @see Job#progress()
  * @see JobListener#onProgressUpdate(org.apache.zeppelin.scheduler.Job, int)
- *
- * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller implements Runnable {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
+  public static final String EXECUTOR_NAME = "JobPoller";
+  public static final String POLL_EXECUTOR_NAME = "JobPollerIO";
+  private static final int EXECUTOR_THREADS = 4;
+  // upper bound of the keys polled at the same time
+  private static final int POLL_EXECUTOR_THREADS = 100;
+  private static final KeyedSerialExecutor POLL_EXECUTOR =
+      new KeyedSerialExecutor(POLL_EXECUTOR_NAME, POLL_EXECUTOR_THREADS);
   private static final Logger logger = LoggerFactory.getLogger(JobProgressPoller.class);
 
   private Job job;
   private long intervalMs;
+  private ScheduledFuture<?> pollFuture;
+  private final AtomicBoolean polling = new AtomicBoolean(false);
 
   public JobProgressPoller(Job job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
     this.job = job;
     if (intervalMs < 0) {
       throw new IllegalArgumentException("polling interval can't be " + intervalMs);
@@ -44,24 +59,66 @@ public class JobProgressPoller extends Thread {
     this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
   }
 
+  /**
+   * Executor shared by the progress and status pollers of jobs to start their polls.
+   * It must not run blocking calls, they go to {@link #getPollExecutor()}.
+   */
+  public static ScheduledExecutorService getExecutor() {
+    return ExecutorFactory.singleton().createOrGetScheduled(EXECUTOR_NAME, EXECUTOR_THREADS);
+  }
+
+  /**
+   * Executor of the blocking polls, polls of the same key run one at a time.
+   */
+  public static KeyedSerialExecutor getPollExecutor() {
+    return POLL_EXECUTOR;
+  }
+
+  public synchronized void start() {
+    if (pollFuture == null) {
+      pollFuture = getExecutor().scheduleWithFixedDelay(this, 0, intervalMs,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public synchronized void stop() {
+    if (pollFuture != null) {
+      pollFuture.cancel(false);
+    }
+  }
+
   @Override
   public void run() {
+    if (job.getListener() == null || !polling.compareAndSet(false, true)) {
+      return;
+    }
     try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
+      getPollExecutor().execute(job.getPollKey(), new Runnable() {
+        @Override
+        public void run() {
           try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            logger.error("Can not get or update progress", e);
+            poll();
+          } finally {
+            polling.set(false);
           }
         }
-        Thread.sleep(intervalMs);
+      });
+    } catch (RuntimeException e) {
+      polling.set(false);
+      logger.error("Can not start progress poll", e);
+    }
+  }
+
+  private void poll() {
+    JobListener listener = job.getListener();
+    if (listener != null) {
+      try {
+        if (job.isRunning()) {
+          listener.onProgressUpdate(job, job.progress());
+        }
+      } catch (Exception e) {
+        logger.error("Can not get or update progress", e);
       }
-    } catch (InterruptedException ignored) {
-      // just ignore this exception
     }
   }
 }
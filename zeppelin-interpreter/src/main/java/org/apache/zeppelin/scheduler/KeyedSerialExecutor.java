@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the tasks of a key one at a time, in the order they are submitted, on a blocking
+ * executor of {@link ExecutorFactory}. Tasks of different keys run in parallel, so a task
+ * blocked on one key, e.g. a call to a slow interpreter process, only delays the tasks of
+ * that key. At most one thread is used per key.
+ */
+public class KeyedSerialExecutor {
+  private static final Logger LOGGER = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+
+  private final String name;
+  private final int numThread;
+  // tasks by key, the head of a queue is the task running
+  private final Map<Object, Queue<Runnable>> tasks = new HashMap<>();
+
+  public KeyedSerialExecutor(String name, int numThread) {
+    this.name = name;
+    this.numThread = numThread;
+  }
+
+  public void execute(final Object key, Runnable task) {
+    synchronized (tasks) {
+      Queue<Runnable> keyTasks = tasks.get(key);
+      if (keyTasks != null) {
+        // run by the thread draining the key
+        keyTasks.add(task);
+        return;
+      }
+      keyTasks = new LinkedList<>();
+      keyTasks.add(task);
+      tasks.put(key, keyTasks);
+    }
+    try {
+      ExecutorFactory.singleton().createOrGetBlocking(name, numThread).execute(new Runnable() {
+        @Override
+        public void run() {
+          drain(key);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      synchronized (tasks) {
+        tasks.remove(key);
+      }
+      throw e;
+    }
+  }
+
+  private void drain(Object key) {
+    while (true) {
+      Runnable task;
+      synchronized (tasks) {
+        Queue<Runnable> keyTasks = tasks.get(key);
+        task = keyTasks.peek();
+        if (task == null) {
+          tasks.remove(key);
+          return;
+        }
+      }
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        LOGGER.error("Task of " + key + " failed", e);
+      }
+      synchronized (tasks) {
+        tasks.get(key).poll();
+      }
+    }
+  }
+}
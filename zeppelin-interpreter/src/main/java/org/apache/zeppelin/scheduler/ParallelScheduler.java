@@ -35,9 +35,9 @@ public class ParallelScheduler implements Scheduler {
   List<Job> running = new LinkedList<>();
   private ExecutorService executor;
   private SchedulerListener listener;
-  boolean terminate = false;
+  volatile boolean terminate = false;
   private String name;
-  private int maxConcurrency;
+  private volatile int maxConcurrency;
 
   static Logger LOGGER = LoggerFactory.getLogger(ParallelScheduler.class);
 
@@ -98,37 +98,33 @@ public class ParallelScheduler implements Scheduler {
     job.setStatus(Status.PENDING);
     synchronized (queue) {
       queue.add(job);
-      queue.notify();
+      dispatch();
     }
   }
 
+  /**
+   * Jobs are started by {@link #submit(Job)} and by the end of running jobs, no thread waits
+   * for them.
+   */
   @Override
   public void run() {
-    while (terminate == false) {
-      Job job = null;
-      synchronized (queue) {
-        if (running.size() >= maxConcurrency || queue.isEmpty() == true) {
-          try {
-            queue.wait(500);
-          } catch (InterruptedException e) {
-            LOGGER.error("Exception in MockInterpreterAngular while interpret queue.wait", e);
-          }
-          continue;
-        }
-
-        job = queue.remove(0);
-        running.add(job);
-      }
-      Scheduler scheduler = this;
+  }
 
-      executor.execute(new JobRunner(scheduler, job));
+  /**
+   * Starts waiting jobs up to maxConcurrency. Called holding the queue lock.
+   */
+  private void dispatch() {
+    while (!terminate && running.size() < maxConcurrency && !queue.isEmpty()) {
+      Job job = queue.remove(0);
+      running.add(job);
+      executor.execute(new JobRunner(this, job));
     }
   }
 
   public void setMaxConcurrency(int maxConcurrency) {
     this.maxConcurrency = maxConcurrency;
     synchronized (queue) {
-      queue.notify();
+      dispatch();
     }
   }
 
@@ -149,7 +145,7 @@ public class ParallelScheduler implements Scheduler {
 
         synchronized (queue) {
           running.remove(job);
-          queue.notify();
+          dispatch();
         }
 
         return;
@@ -178,7 +174,7 @@ public class ParallelScheduler implements Scheduler {
       job.aborted = false;
       synchronized (queue) {
         running.remove(job);
-        queue.notify();
+        dispatch();
       }
     }
   }
@@ -187,9 +183,6 @@ public class ParallelScheduler implements Scheduler {
   @Override
   public void stop() {
     terminate = true;
-    synchronized (queue) {
-      queue.notify();
-    }
   }
 
 }
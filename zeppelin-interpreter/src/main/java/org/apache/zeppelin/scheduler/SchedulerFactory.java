@@ -17,7 +17,9 @@
 
 package org.apache.zeppelin.scheduler;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
@@ -52,7 +54,7 @@ public class SchedulerFactory implements SchedulerListener {
   }
 
   SchedulerFactory() throws Exception {
-    executor = ExecutorFactory.singleton().createOrGet("SchedulerFactory", 100);
+    executor = ExecutorFactory.singleton().createOrGetBlocking("SchedulerFactory", 100);
   }
 
   public void destroy() {
@@ -64,7 +66,6 @@ public class SchedulerFactory implements SchedulerListener {
       if (!schedulers.containsKey(name)) {
         Scheduler s = new FIFOScheduler(name, executor, this);
         schedulers.put(name, s);
-        executor.execute(s);
       }
       return schedulers.get(name);
     }
@@ -75,7 +76,6 @@ public class SchedulerFactory implements SchedulerListener {
       if (!schedulers.containsKey(name)) {
         Scheduler s = new ParallelScheduler(name, executor, this, maxConcurrency);
         schedulers.put(name, s);
-        executor.execute(s);
       }
       return schedulers.get(name);
     }
@@ -85,6 +85,7 @@ public class SchedulerFactory implements SchedulerListener {
     synchronized (schedulers) {
       if (!schedulers.containsKey(scheduler.getName())) {
         schedulers.put(scheduler.getName(), scheduler);
+        // schedulers with a dispatch loop run it on the executor
         executor.execute(scheduler);
       }
       return schedulers.get(scheduler.getName());
@@ -104,6 +105,12 @@ public class SchedulerFactory implements SchedulerListener {
     return executor;
   }
 
+  public List<Scheduler> getSchedulers() {
+    synchronized (schedulers) {
+      return new ArrayList<>(schedulers.values());
+    }
+  }
+
   @Override
   public void jobStarted(Scheduler scheduler, Job job) {
     logger.info("Job " + job.getId() + " started by scheduler " + scheduler.getName());
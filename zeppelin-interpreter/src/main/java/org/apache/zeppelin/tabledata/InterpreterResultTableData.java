@@ -19,38 +19,154 @@ package org.apache.zeppelin.tabledata;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Table data with interpreter result type 'TABLE'
+ *
+ * Data is stored column by column. Column types are inferred from the values,
+ * numeric columns are kept in primitive arrays and string columns are dictionary encoded.
+ * A column is typed LONG or DOUBLE only when every value converts back to the same text,
+ * so rows() returns exactly the cells of the original message.
  */
-public class InterpreterResultTableData implements TableData, Serializable {
-  private final InterpreterResultMessage msg;
+public class InterpreterResultTableData implements PagedTableData, Serializable {
   ColumnDef [] columnDef;
-  List<Row> rows = new LinkedList<>();
+  private Column [] columns;
+  private int rowCount;
 
   public InterpreterResultTableData(InterpreterResultMessage msg) {
-    this.msg = msg;
+    String data = msg.getData();
+    if (data == null || data.isEmpty()) {
+      columnDef = new ColumnDef[0];
+      columns = new Column[0];
+      return;
+    }
 
-    String[] lines = msg.getData().split("\n");
-    if (lines == null || lines.length == 0) {
-      columnDef = null;
-    } else {
-      String[] headerRow = lines[0].split("\t");
-      columnDef = new ColumnDef[headerRow.length];
-      for (int i = 0; i < headerRow.length; i++) {
-        columnDef[i] = new ColumnDef(headerRow[i], ColumnDef.TYPE.STRING);
+    int headerEnd = lineEnd(data, 0);
+    List<String> header = new ArrayList<>();
+    for (int s = 0; s <= headerEnd; ) {
+      int e = cellEnd(data, s, headerEnd);
+      header.add(data.substring(s, e));
+      s = e + 1;
+    }
+    // same as String.split(), trailing empty column names are ignored
+    while (!header.isEmpty() && header.get(header.size() - 1).isEmpty()) {
+      header.remove(header.size() - 1);
+    }
+    int numColumns = header.size();
+
+    // first pass. count rows and infer column types
+    boolean [] isLong = new boolean[numColumns];
+    boolean [] isDouble = new boolean[numColumns];
+    boolean [] hasValue = new boolean[numColumns];
+    for (int c = 0; c < numColumns; c++) {
+      isLong[c] = true;
+      isDouble[c] = true;
+    }
+    for (int ls = headerEnd + 1; ls < data.length(); ) {
+      int le = lineEnd(data, ls);
+      if (le > ls) {
+        int c = 0;
+        for (int s = ls; s <= le && c < numColumns; c++) {
+          int e = cellEnd(data, s, le);
+          if (e > s) {
+            hasValue[c] = true;
+          }
+          if (e > s && (isLong[c] || isDouble[c])) {
+            String cell = data.substring(s, e);
+            isLong[c] = isLong[c] && parseLong(cell) != null;
+            isDouble[c] = isDouble[c] && parseDouble(cell) != null;
+          }
+          s = e + 1;
+        }
+        rowCount++;
       }
+      ls = le + 1;
+    }
+
+    columnDef = new ColumnDef[numColumns];
+    columns = new Column[numColumns];
+    for (int c = 0; c < numColumns; c++) {
+      if (hasValue[c] && isLong[c]) {
+        columnDef[c] = new ColumnDef(header.get(c), ColumnDef.TYPE.LONG);
+        columns[c] = new LongColumn(rowCount);
+      } else if (hasValue[c] && isDouble[c]) {
+        columnDef[c] = new ColumnDef(header.get(c), ColumnDef.TYPE.DOUBLE);
+        columns[c] = new DoubleColumn(rowCount);
+      } else {
+        columnDef[c] = new ColumnDef(header.get(c), ColumnDef.TYPE.STRING);
+        columns[c] = new StringColumn(rowCount);
+      }
+    }
 
-      for (int r = 1; r < lines.length; r++) {
-        Object [] row = lines[r].split("\t");
-        rows.add(new Row(row));
+    // second pass. fill columns
+    int r = 0;
+    for (int ls = headerEnd + 1; ls < data.length(); ) {
+      int le = lineEnd(data, ls);
+      if (le > ls) {
+        int c = 0;
+        for (int s = ls; s <= le && c < numColumns; c++) {
+          int e = cellEnd(data, s, le);
+          if (e > s) {
+            columns[c].set(r, data.substring(s, e));
+          }
+          s = e + 1;
+        }
+        r++;
       }
+      ls = le + 1;
+    }
+
+    for (Column column : columns) {
+      column.seal();
     }
   }
 
+  private static int lineEnd(String data, int start) {
+    int end = data.indexOf('\n', start);
+    return (end < 0) ? data.length() : end;
+  }
+
+  private static int cellEnd(String data, int start, int lineEnd) {
+    for (int i = start; i < lineEnd; i++) {
+      if (data.charAt(i) == '\t') {
+        return i;
+      }
+    }
+    return lineEnd;
+  }
+
+  private static Long parseLong(String cell) {
+    char first = cell.charAt(0);
+    if (first != '-' && (first < '0' || first > '9')) {
+      return null;
+    }
+    try {
+      long v = Long.parseLong(cell);
+      return Long.toString(v).equals(cell) ? v : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Double parseDouble(String cell) {
+    char first = cell.charAt(0);
+    if (first != '-' && first != '.' && (first < '0' || first > '9')) {
+      return null;
+    }
+    try {
+      double v = Double.parseDouble(cell);
+      return Double.toString(v).equals(cell) ? v : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
 
   @Override
   public ColumnDef[] columns() {
@@ -59,6 +175,241 @@ public class InterpreterResultTableData implements TableData, Serializable {
 
   @Override
   public Iterator<Row> rows() {
-    return rows.iterator();
+    return new Iterator<Row>() {
+      int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < rowCount;
+      }
+
+      @Override
+      public Row next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return row(next++);
+      }
+
+      @Override
+      public void remove() {
+        // operation not supported
+      }
+    };
+  }
+
+  @Override
+  public Row[] rows(int offset, int limit) {
+    if (offset >= rowCount || limit <= 0) {
+      return new Row[0];
+    }
+    int end = (int) Math.min((long) offset + limit, rowCount);
+    Row [] block = new Row[end - offset];
+    for (int r = offset; r < end; r++) {
+      block[r - offset] = row(r);
+    }
+    return block;
+  }
+
+  private Row row(int r) {
+    Object [] cells = new Object[columns.length];
+    for (int c = 0; c < columns.length; c++) {
+      cells[c] = columns[c].isNull(r) ? "" : columns[c].text(r);
+    }
+    return new Row(cells);
+  }
+
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Get typed value of a cell
+   * @return Long, Double or String depending on the column type. null for empty cell
+   */
+  public Object get(int row, int column) {
+    return columns[column].isNull(row) ? null : columns[column].get(row);
+  }
+
+  public boolean isNull(int row, int column) {
+    return columns[column].isNull(row);
+  }
+
+  /**
+   * Get value of a LONG column without boxing
+   * @throws IllegalArgumentException if the column is not LONG
+   * @throws IllegalStateException if the cell is empty, see {@link #isNull(int, int)}
+   */
+  public long getLong(int row, int column) {
+    Column col = columns[column];
+    if (!(col instanceof LongColumn)) {
+      throw new IllegalArgumentException("Column " + columnDef[column].name() + " is "
+          + columnDef[column].type() + ", not LONG");
+    }
+    checkNotNull(row, column);
+    return ((LongColumn) col).values[row];
+  }
+
+  /**
+   * Get numeric value of a cell. Values of a STRING column are parsed
+   * @throws NumberFormatException if the value of a STRING column is not a number
+   * @throws IllegalStateException if the cell is empty, see {@link #isNull(int, int)}
+   */
+  public double getDouble(int row, int column) {
+    Column col = columns[column];
+    checkNotNull(row, column);
+    if (col instanceof LongColumn) {
+      return ((LongColumn) col).values[row];
+    } else if (col instanceof DoubleColumn) {
+      return ((DoubleColumn) col).values[row];
+    } else {
+      String value = col.text(row);
+      try {
+        return Double.parseDouble(value.trim());
+      } catch (NumberFormatException e) {
+        throw new NumberFormatException("Column " + columnDef[column].name()
+            + " has non numeric value '" + value + "' at row " + row);
+      }
+    }
+  }
+
+  private void checkNotNull(int row, int column) {
+    if (columns[column].isNull(row)) {
+      throw new IllegalStateException("Column " + columnDef[column].name()
+          + " has no value at row " + row);
+    }
+  }
+
+  /**
+   * Sum of non empty values of a column
+   * @throws NumberFormatException if a value of a STRING column is not a number
+   */
+  public double sum(int column) {
+    Column col = columns[column];
+    double sum = 0;
+    for (int r = 0; r < rowCount; r++) {
+      if (!col.isNull(r)) {
+        sum += getDouble(r, column);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Storage of single column
+   */
+  private abstract static class Column implements Serializable {
+    private final BitSet nulls = new BitSet();
+
+    Column(int size) {
+      nulls.set(0, size);
+    }
+
+    void set(int row, String cell) {
+      nulls.clear(row);
+      setValue(row, cell);
+    }
+
+    boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    void seal() {
+    }
+
+    abstract void setValue(int row, String cell);
+
+    abstract Object get(int row);
+
+    abstract String text(int row);
+  }
+
+  private static class LongColumn extends Column {
+    private final long [] values;
+
+    LongColumn(int size) {
+      super(size);
+      values = new long[size];
+    }
+
+    @Override
+    void setValue(int row, String cell) {
+      values[row] = Long.parseLong(cell);
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    String text(int row) {
+      return Long.toString(values[row]);
+    }
+  }
+
+  private static class DoubleColumn extends Column {
+    private final double [] values;
+
+    DoubleColumn(int size) {
+      super(size);
+      values = new double[size];
+    }
+
+    @Override
+    void setValue(int row, String cell) {
+      values[row] = Double.parseDouble(cell);
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    String text(int row) {
+      return Double.toString(values[row]);
+    }
+  }
+
+  /**
+   * Dictionary encoded string column
+   */
+  private static class StringColumn extends Column {
+    private final int [] codes;
+    private final List<String> dictionary = new ArrayList<>();
+    private transient Map<String, Integer> dictionaryIndex = new HashMap<>();
+
+    StringColumn(int size) {
+      super(size);
+      codes = new int[size];
+    }
+
+    @Override
+    void setValue(int row, String cell) {
+      Integer code = dictionaryIndex.get(cell);
+      if (code == null) {
+        code = dictionary.size();
+        dictionary.add(cell);
+        dictionaryIndex.put(cell, code);
+      }
+      codes[row] = code;
+    }
+
+    @Override
+    void seal() {
+      // index is only needed while building the column
+      dictionaryIndex = null;
+    }
+
+    @Override
+    Object get(int row) {
+      return dictionary.get(codes[row]);
+    }
+
+    @Override
+    String text(int row) {
+      return dictionary.get(codes[row]);
+    }
   }
 }
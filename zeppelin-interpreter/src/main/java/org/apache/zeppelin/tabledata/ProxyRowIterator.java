@@ -19,31 +19,74 @@ package org.apache.zeppelin.tabledata;
 import org.apache.zeppelin.resource.Resource;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
- * Proxy row iterator
+ * Proxy row iterator.
+ * Fetches rows from the PagedTableData resource in blocks of batchSize rows,
+ * so iterating a remote table costs one round-trip per block instead of per row.
  */
 public class ProxyRowIterator implements Iterator<Row> {
+  public static final int DEFAULT_BATCH_SIZE = 1000;
 
-  private final Resource rows;
+  private final Resource tableData;
+  private final int batchSize;
 
-  public ProxyRowIterator(Resource rows) {
-    this.rows = rows;
+  private Row[] block = new Row[0];
+  private int blockIndex = 0;
+  private int offset = 0;
+  private boolean eof = false;
+
+  public ProxyRowIterator(Resource tableData) {
+    this(tableData, DEFAULT_BATCH_SIZE);
+  }
+
+  public ProxyRowIterator(Resource tableData, int batchSize) {
+    this.tableData = tableData;
+    this.batchSize = batchSize;
   }
 
   @Override
   public boolean hasNext() {
-    rows.invokeMethod("hasNext", null, null);
-    return false;
+    if (blockIndex < block.length) {
+      return true;
+    }
+    fetchNextBlock();
+    return blockIndex < block.length;
   }
 
   @Override
   public Row next() {
-    return (Row) rows.invokeMethod("next", null, null);
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return block[blockIndex++];
   }
 
   @Override
   public void remove() {
     // operation not supported
   }
+
+  private void fetchNextBlock() {
+    if (eof) {
+      return;
+    }
+
+    Row[] rows = (Row[]) tableData.invokeMethod(
+        "rows",
+        new Class[]{int.class, int.class},
+        new Object[]{offset, batchSize});
+
+    if (rows == null) {
+      rows = new Row[0];
+    }
+    if (rows.length < batchSize) {
+      eof = true;
+    }
+
+    block = rows;
+    blockIndex = 0;
+    offset += rows.length;
+  }
 }
@@ -23,7 +23,7 @@ import java.util.Iterator;
 /**
  * Proxy TableData for ResourcePool
  */
-public class TableDataProxy implements TableData {
+public class TableDataProxy implements PagedTableData {
   private final Resource resource;
 
   public TableDataProxy(Resource tableDataRemoteResource) {
@@ -38,10 +38,12 @@ public class TableDataProxy implements TableData {
 
   @Override
   public Iterator<Row> rows() {
-    String resourceName = resource.getResourceId().getName() + ".rows";
-    Resource rows = resource.invokeMethod("rows", null, null, resourceName);
+    return new ProxyRowIterator(resource);
+  }
 
-    ProxyRowIterator it = new ProxyRowIterator(rows);
-    return it;
+  @Override
+  public Row[] rows(int offset, int limit) {
+    return (Row[]) resource.invokeMethod(
+        "rows", new Class[]{int.class, int.class}, new Object[]{offset, limit});
   }
 }
@@ -59,7 +59,9 @@ enum RemoteInterpreterEventType {
   META_INFOS = 13,
   REMOTE_ZEPPELIN_SERVER_RESOURCE = 14,
   RESOURCE_INVOKE_METHOD = 15,
-  PARA_INFOS = 16
+  PARA_INFOS = 16,
+  EVENT_BATCH = 17,   // data is json serialized list of RemoteInterpreterEvent
+  JOB_FINISHED = 18   // data is json serialized map of sessionKey and jobId
 }
 
 
@@ -137,6 +139,12 @@ service RemoteInterpreterService {
   RemoteApplicationResult runApplication(1: string applicationInstanceId);
 
   void onReceivedZeppelinResource(1: string object);
+
+  // runs the paragraph like interpret, but returns once the job is scheduled. The job id is the
+  // paragraph id. JOB_FINISHED is sent when the job terminates, then getJobResult returns its
+  // result once
+  void submit(1: string sessionKey, 2: string className, 3: string st, 4: RemoteInterpreterContext interpreterContext);
+  RemoteInterpreterResult getJobResult(1: string sessionKey, 2: string jobId);
 }
 
 service RemoteInterpreterCallbackService {
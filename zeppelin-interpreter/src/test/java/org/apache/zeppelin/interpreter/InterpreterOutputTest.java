@@ -192,6 +192,12 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
     InterpreterOutput.limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
   }
 
+  @Test
+  public void testWriteOffset() throws IOException {
+    out.write("xxhello\nxx".getBytes(), 2, 6);
+    assertEquals("hello\n", new String(out.getOutputAt(0).toByteArray()));
+  }
+
 
   @Override
   public void onUpdateAll(InterpreterOutput out) {
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType;
+import org.apache.zeppelin.resource.ResourceSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class RemoteInterpreterEventClientTest {
+
+  private Gson gson = new Gson();
+  private RemoteInterpreterEventClient eventClient;
+
+  @Before
+  public void setUp() {
+    eventClient = new RemoteInterpreterEventClient();
+    eventClient.setPollTimeoutMs(10);
+  }
+
+  @Test
+  public void testNoOpWhenIdle() {
+    assertEquals(RemoteInterpreterEventType.NO_OP, eventClient.pollEvent().getType());
+  }
+
+  @Test
+  public void testCoalesceOutputAppend() {
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "line1\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "line2\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "line3\n");
+
+    RemoteInterpreterEvent event = eventClient.pollEvent();
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, event.getType());
+    Map<String, String> append = gson.fromJson(event.getData(),
+        new TypeToken<Map<String, String>>() {}.getType());
+    assertEquals("line1\nline2\nline3\n", append.get("data"));
+    assertEquals("0", append.get("index"));
+    assertEquals(RemoteInterpreterEventType.NO_OP, eventClient.pollEvent().getType());
+  }
+
+  @Test
+  public void testAppendIsNotMergedAcrossOtherEvents() {
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "a");
+    eventClient.onInterpreterOutputUpdate("note", "p1", 0, InterpreterResult.Type.TEXT, "b");
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "c");
+    eventClient.onInterpreterOutputAppend("note", "p2", 0, "d");
+
+    RemoteInterpreterEvent event = eventClient.pollEvent();
+    assertEquals(RemoteInterpreterEventType.EVENT_BATCH, event.getType());
+    List<RemoteInterpreterEvent> events = gson.fromJson(event.getData(),
+        new TypeToken<List<RemoteInterpreterEvent>>() {}.getType());
+    assertEquals(4, events.size());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(0).getType());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_UPDATE, events.get(1).getType());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(2).getType());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(3).getType());
+  }
+
+  @Test
+  public void testAppendSizeLimit() {
+    eventClient.setMaxAppendSize(12);
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "line1\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "line2\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "line3\n");
+
+    RemoteInterpreterEvent event = eventClient.pollEvent();
+    assertEquals(RemoteInterpreterEventType.EVENT_BATCH, event.getType());
+    List<RemoteInterpreterEvent> events = gson.fromJson(event.getData(),
+        new TypeToken<List<RemoteInterpreterEvent>>() {}.getType());
+    assertEquals(2, events.size());
+    Map<String, String> append = gson.fromJson(events.get(0).getData(),
+        new TypeToken<Map<String, String>>() {}.getType());
+    assertEquals("line1\nline2\n", append.get("data"));
+    append = gson.fromJson(events.get(1).getData(),
+        new TypeToken<Map<String, String>>() {}.getType());
+    assertEquals("line3\n", append.get("data"));
+  }
+
+  @Test
+  public void testLargeAppendIsSplit() {
+    eventClient.setMaxAppendSize(4);
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "ab");
+    eventClient.onInterpreterOutputAppend("note", "p1", 0, "cdefghij");
+
+    RemoteInterpreterEvent event = eventClient.pollEvent();
+    List<RemoteInterpreterEvent> events = gson.fromJson(event.getData(),
+        new TypeToken<List<RemoteInterpreterEvent>>() {}.getType());
+    assertEquals(3, events.size());
+    String[] chunks = {"abcd", "efgh", "ij"};
+    for (int i = 0; i < chunks.length; i++) {
+      Map<String, String> append = gson.fromJson(events.get(i).getData(),
+          new TypeToken<Map<String, String>>() {}.getType());
+      assertEquals(chunks[i], append.get("data"));
+    }
+  }
+
+  @Test
+  public void testBatchSizeLimit() {
+    eventClient.setMaxBatchSize(2);
+    eventClient.onAppStatusUpdate("note", "p1", "app", "LOADING");
+    eventClient.onAppStatusUpdate("note", "p1", "app", "LOADED");
+    eventClient.onAppStatusUpdate("note", "p1", "app", "UNLOADED");
+
+    assertEquals(RemoteInterpreterEventType.EVENT_BATCH, eventClient.pollEvent().getType());
+    assertEquals(RemoteInterpreterEventType.APP_STATUS_UPDATE,
+        eventClient.pollEvent().getType());
+    assertEquals(RemoteInterpreterEventType.NO_OP, eventClient.pollEvent().getType());
+  }
+
+  @Test
+  public void testPollEventKeepsInterrupt() {
+    eventClient.setPollTimeoutMs(10000);
+    Thread.currentThread().interrupt();
+    assertEquals(RemoteInterpreterEventType.NO_OP, eventClient.pollEvent().getType());
+    assertTrue(Thread.interrupted());
+  }
+
+  @Test
+  public void testResourceRequestRestoresInterrupt() throws InterruptedException {
+    final AtomicReference<ResourceSet> result = new AtomicReference<>();
+    final AtomicBoolean interrupted = new AtomicBoolean();
+    Thread requester = new Thread() {
+      @Override
+      public void run() {
+        result.set(eventClient.getAllResources());
+        interrupted.set(Thread.currentThread().isInterrupted());
+      }
+    };
+    requester.start();
+    assertEquals(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL,
+        eventClient.pollEvent().getType());
+
+    requester.interrupt();
+    eventClient.putResponseGetAllResources(new LinkedList<String>());
+    requester.join(10000);
+
+    assertFalse(requester.isAlive());
+    assertNotNull(result.get());
+    assertTrue(interrupted.get());
+  }
+}
@@ -36,6 +36,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class RemoteInterpreterServerTest {
 
@@ -182,6 +183,69 @@ public class RemoteInterpreterServerTest {
     assertTrue(interpreter1.closed.get());
   }
 
+  @Test
+  public void testSubmittedJobResults() throws IOException, TException, InterruptedException {
+    RemoteInterpreterServer server = new RemoteInterpreterServer("localhost",
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), ":", true);
+    Map<String, String> intpProperties = new HashMap<>();
+    intpProperties.put("zeppelin.interpreter.localRepo", "/tmp");
+    server.createInterpreter("group_1", "session_1", Test1Interpreter.class.getName(),
+        intpProperties, "user_1");
+
+    // the result is fetched once
+    server.submit("session_1", Test1Interpreter.class.getName(), "SINGLE_OUTPUT_SUCCESS",
+        createContext("paragraph_1"));
+    RemoteInterpreterResult result = waitForJobResult(server, "paragraph_1");
+    assertEquals("SUCCESS", result.code);
+    assertEquals("SINGLE_OUTPUT_SUCCESS", result.getMsg().get(0).getData());
+    try {
+      server.getJobResult("session_1", "paragraph_1");
+      fail("result of paragraph_1 is already fetched");
+    } catch (TException e) {
+      // expected
+    }
+
+    // a result nobody fetched is dropped once it expired
+    server.setJobResultExpireMs(0);
+    server.submit("session_1", Test1Interpreter.class.getName(), "SINGLE_OUTPUT_SUCCESS",
+        createContext("paragraph_1"));
+    server.submit("session_1", Test1Interpreter.class.getName(), "SINGLE_OUTPUT_ERROR",
+        createContext("paragraph_2"));
+    // jobs run one by one, so paragraph_1 finished before paragraph_2
+    assertEquals("ERROR", waitForJobResult(server, "paragraph_2").code);
+    try {
+      server.getJobResult("session_1", "paragraph_1");
+      fail("result of paragraph_1 should be expired");
+    } catch (TException e) {
+      // expected
+    }
+    server.close("session_1", Test1Interpreter.class.getName());
+  }
+
+  private RemoteInterpreterContext createContext(String paragraphId) {
+    RemoteInterpreterContext intpContext = new RemoteInterpreterContext();
+    intpContext.setNoteId("note_1");
+    intpContext.setParagraphId(paragraphId);
+    intpContext.setGui("{}");
+    intpContext.setNoteGui("{}");
+    return intpContext;
+  }
+
+  private RemoteInterpreterResult waitForJobResult(RemoteInterpreterServer server, String jobId)
+      throws TException, InterruptedException {
+    long start = System.currentTimeMillis();
+    while (true) {
+      try {
+        return server.getJobResult("session_1", jobId);
+      } catch (TException e) {
+        if (System.currentTimeMillis() - start > 10 * 1000) {
+          throw e;
+        }
+        Thread.sleep(10);
+      }
+    }
+  }
+
   public static class Test1Interpreter extends Interpreter {
 
     AtomicBoolean cancelled = new AtomicBoolean();
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class ExecutorFactoryTest extends TestCase {
+
+  private ExecutorFactory executorFactory;
+
+  @Override
+  public void setUp() throws Exception {
+    executorFactory = new ExecutorFactory();
+  }
+
+  @Override
+  public void tearDown() {
+    executorFactory.shutdownAll();
+  }
+
+  public void testBlockingExecutorStats() throws InterruptedException {
+    ExecutorService executor = executorFactory.createOrGetBlocking("test", 2);
+    assertSame(executor, executorFactory.createOrGetBlocking("test", 2));
+
+    final CountDownLatch started = new CountDownLatch(2);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(3);
+    for (int i = 0; i < 3; i++) {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          done.countDown();
+        }
+      });
+    }
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    Map<String, Long> stats = executorFactory.getExecutorStats().get("test");
+    // a pool of 2 threads queues the third task, virtual threads run all of them
+    assertTrue(stats.get("activeCount") >= 2);
+    assertTrue(stats.get("activeCount") + stats.get("queueSize") <= 3);
+
+    release.countDown();
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+  }
+
+  public void testScheduledExecutorNameClash() {
+    executorFactory.createOrGetBlocking("test", 2);
+    try {
+      executorFactory.createOrGetScheduled("test", 2);
+      fail("test is not a scheduled executor");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("test"));
+    }
+    assertNotNull(executorFactory.createOrGetScheduled("scheduled", 2));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import junit.framework.TestCase;
+
+public class FairJobQueueTest extends TestCase {
+
+  private FairJobQueue queue;
+
+  @Override
+  public void setUp() throws Exception {
+    queue = new FairJobQueue();
+  }
+
+  private Job job(String name, final String tenant, boolean batch) {
+    Job job = new SleepingJob(name, null, 0) {
+      @Override
+      public String getTenant() {
+        return tenant;
+      }
+    };
+    job.setBatch(batch);
+    return job;
+  }
+
+  public void testTenantsTakeTurns() {
+    Job a1 = job("a1", "a", false);
+    Job a2 = job("a2", "a", false);
+    Job a3 = job("a3", "a", false);
+    Job b1 = job("b1", "b", false);
+    queue.add(a1);
+    queue.add(a2);
+    queue.add(a3);
+    queue.add(b1);
+    assertEquals(4, queue.size());
+
+    assertSame(a1, queue.poll());
+    assertSame(b1, queue.poll());
+    assertSame(a2, queue.poll());
+    assertSame(a3, queue.poll());
+    assertNull(queue.poll());
+    assertTrue(queue.isEmpty());
+  }
+
+  public void testInteractiveJobsBeforeBatchJobs() {
+    Job a1 = job("a1", "a", true);
+    Job a2 = job("a2", "a", true);
+    Job b1 = job("b1", "b", false);
+    Job c1 = job("c1", null, false);
+    queue.add(a1);
+    queue.add(a2);
+    queue.add(b1);
+    queue.add(c1);
+
+    assertSame(b1, queue.poll());
+    assertSame(c1, queue.poll());
+    assertSame(a1, queue.poll());
+    assertSame(a2, queue.poll());
+  }
+
+  public void testMaxConcurrencyPerTenant() {
+    queue.setMaxConcurrencyPerTenant(1);
+    Job a1 = job("a1", "a", false);
+    Job a2 = job("a2", "a", false);
+    queue.add(a1);
+    queue.add(a2);
+
+    assertSame(a1, queue.poll());
+    assertNull(queue.poll());
+    assertEquals(1, queue.getWaitingJobsPerTenant().get("a").intValue());
+
+    queue.finished(a1);
+    assertSame(a2, queue.poll());
+  }
+
+  public void testWeights() {
+    queue.setWeights("a:2, b:1, invalid");
+    for (int i = 0; i < 4; i++) {
+      queue.add(job("a" + i, "a", false));
+      queue.add(job("b" + i, "b", false));
+    }
+
+    int a = 0;
+    for (int i = 0; i < 6; i++) {
+      if ("a".equals(queue.poll().getTenant())) {
+        a++;
+      }
+    }
+    assertEquals(4, a);
+  }
+
+  public void testRemove() {
+    Job a1 = job("a1", "a", false);
+    Job a2 = job("a2", "a", true);
+    queue.add(a1);
+    queue.add(a2);
+
+    assertSame(a2, queue.remove(a2.getId()));
+    assertNull(queue.remove(a2.getId()));
+    assertEquals(1, queue.getJobs().size());
+    assertSame(a1, queue.poll());
+    assertTrue(queue.isEmpty());
+  }
+}
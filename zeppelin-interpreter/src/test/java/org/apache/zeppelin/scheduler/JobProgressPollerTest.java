@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import junit.framework.TestCase;
+import org.apache.zeppelin.scheduler.Job.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JobProgressPollerTest extends TestCase {
+
+  public void testPollWhileRunning() throws InterruptedException {
+    final AtomicInteger updates = new AtomicInteger();
+    JobListener listener = new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+        updates.incrementAndGet();
+      }
+
+      @Override
+      public void onStatusChange(Job job, Status before, Status after) {
+      }
+    };
+
+    Job job = new SleepingJob("job1", listener, 1200);
+    job.setStatus(Status.RUNNING);
+    job.run();
+    job.setStatus(Status.FINISHED);
+
+    int count = updates.get();
+    assertTrue(count >= 2);
+    // polling stops with the job
+    Thread.sleep(2 * JobProgressPoller.DEFAULT_INTERVAL_MSEC);
+    assertEquals(count, updates.get());
+  }
+
+  public void testSlowPollOnlyDelaysItsKey() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    JobListener listener = new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+      }
+
+      @Override
+      public void onStatusChange(Job job, Status before, Status after) {
+      }
+    };
+    // more jobs blocked in their progress poll than threads starting the polls
+    List<Thread> slowJobs = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      final Job job = new SleepingJob("slow" + i, listener, 1500) {
+        @Override
+        public int progress() {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return 0;
+        }
+      };
+      job.setStatus(Status.RUNNING);
+      Thread thread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          job.run();
+        }
+      });
+      thread.start();
+      slowJobs.add(thread);
+    }
+    Thread.sleep(100);
+
+    final AtomicInteger updates = new AtomicInteger();
+    Job job = new SleepingJob("fast", new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+        updates.incrementAndGet();
+      }
+
+      @Override
+      public void onStatusChange(Job job, Status before, Status after) {
+      }
+    }, 1200);
+    job.setStatus(Status.RUNNING);
+    job.run();
+    assertTrue(updates.get() >= 2);
+
+    release.countDown();
+    for (Thread thread : slowJobs) {
+      thread.join();
+    }
+  }
+}
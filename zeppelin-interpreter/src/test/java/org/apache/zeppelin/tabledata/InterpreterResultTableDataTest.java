@@ -24,6 +24,8 @@ import java.util.Iterator;
 
 import static junit.framework.TestCase.assertFalse;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class InterpreterResultTableDataTest {
   @Test
@@ -51,4 +53,96 @@ public class InterpreterResultTableDataTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testColumnTypes() {
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "name\tcount\tratio\tcode\nsun\t100\t0.5\t007\nmoon\t\t1.25\t8\nsun\t-3\t2.0\t9\n");
+    InterpreterResultTableData table = new InterpreterResultTableData(msg);
+
+    ColumnDef[] cols = table.columns();
+    assertEquals(ColumnDef.TYPE.STRING, cols[0].type());
+    assertEquals(ColumnDef.TYPE.LONG, cols[1].type());
+    assertEquals(ColumnDef.TYPE.DOUBLE, cols[2].type());
+    // leading zero can't be kept in a numeric column
+    assertEquals(ColumnDef.TYPE.STRING, cols[3].type());
+
+    assertEquals(3, table.rowCount());
+    assertEquals(100L, table.get(0, 1));
+    assertEquals(null, table.get(1, 1));
+    assertEquals(97.0, table.sum(1), 0);
+    assertEquals(3.75, table.sum(2), 0);
+
+    Row row = table.rows(1, 1)[0];
+    assertEquals("moon", row.get()[0]);
+    assertEquals("", row.get()[1]);
+    assertEquals("1.25", row.get()[2]);
+    assertEquals("8", row.get()[3]);
+  }
+
+  @Test
+  public void testStringColumnAsNumber() {
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "name\tcode\nsun\t007\nmoon\t8\n");
+    InterpreterResultTableData table = new InterpreterResultTableData(msg);
+
+    // numeric values kept in a STRING column are parsed
+    assertEquals(ColumnDef.TYPE.STRING, table.columns()[1].type());
+    assertEquals(7.0, table.getDouble(0, 1), 0);
+    assertEquals(15.0, table.sum(1), 0);
+
+    try {
+      table.sum(0);
+      fail("sum of non numeric column should fail");
+    } catch (NumberFormatException e) {
+      assertTrue(e.getMessage().contains("name"));
+    }
+
+    try {
+      table.getLong(0, 1);
+      fail("getLong of STRING column should fail");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("code"));
+    }
+  }
+
+  @Test
+  public void testNullCells() {
+    // first row has all cells empty, the second has values for LONG, DOUBLE and STRING columns
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "count\tratio\tname\n\t\t\n5\t0.5\tsun\n");
+    InterpreterResultTableData table = new InterpreterResultTableData(msg);
+
+    ColumnDef[] cols = table.columns();
+    assertEquals(ColumnDef.TYPE.LONG, cols[0].type());
+    assertEquals(ColumnDef.TYPE.DOUBLE, cols[1].type());
+    assertEquals(ColumnDef.TYPE.STRING, cols[2].type());
+    assertEquals(2, table.rowCount());
+
+    for (int c = 0; c < cols.length; c++) {
+      assertTrue(table.isNull(0, c));
+      assertEquals(null, table.get(0, c));
+      assertEquals("", table.rows(0, 1)[0].get()[c]);
+      try {
+        table.getDouble(0, c);
+        fail("getDouble of empty " + cols[c].type() + " cell should fail");
+      } catch (IllegalStateException e) {
+        assertTrue(e.getMessage().contains(cols[c].name()));
+      }
+    }
+    try {
+      table.getLong(0, 0);
+      fail("getLong of empty cell should fail");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("count"));
+    }
+
+    assertEquals(5L, table.getLong(1, 0));
+    assertEquals(0.5, table.getDouble(1, 1), 0);
+    assertEquals(5.0, table.sum(0), 0);
+    assertEquals(0.5, table.sum(1), 0);
+  }
 }
@@ -16,14 +16,19 @@
  */
 package org.apache.zeppelin.tabledata;
 
+import com.google.gson.Gson;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.remote.InvokeResourceMethodEventMessage;
 import org.apache.zeppelin.resource.LocalResourcePool;
+import org.apache.zeppelin.resource.Resource;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
 import java.util.Iterator;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
@@ -63,4 +68,64 @@ public class TableDataProxyTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testProxyTableInBlocks() {
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "key\tvalue\nsun\t100\nmoon\t200\nstar\t300\n");
+    InterpreterResultTableData table = new InterpreterResultTableData(msg);
+
+    pool.put("table", table);
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"));
+
+    Row[] block = proxy.rows(1, 5);
+    assertEquals(2, block.length);
+    assertEquals("moon", block[0].get()[0]);
+    assertEquals("star", block[1].get()[0]);
+    assertEquals(0, proxy.rows(3, 5).length);
+
+    Iterator<Row> it = new ProxyRowIterator(pool.get("table"), 2);
+    int count = 0;
+    while (it.hasNext()) {
+      it.next();
+      count++;
+    }
+    assertEquals(3, count);
+  }
+
+  @Test
+  public void testRowsInvokeMessageRoundTrip() throws Exception {
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "key\tvalue\nsun\t100\nmoon\t200\nstar\t300\n");
+    InterpreterResultTableData table = new InterpreterResultTableData(msg);
+    pool.put("table", table);
+
+    // message as ProxyRowIterator sends it to the process holding the table
+    InvokeResourceMethodEventMessage message = InvokeResourceMethodEventMessage.fromJson(
+        new InvokeResourceMethodEventMessage(
+            pool.get("table").getResourceId(),
+            "rows",
+            new Class[]{int.class, int.class},
+            new Object[]{1, 2},
+            null).toJson());
+    assertArrayEquals(new Class[]{int.class, int.class}, message.getParamTypes());
+    assertArrayEquals(new Object[]{1, 2}, message.getParams());
+
+    Method method = table.getClass().getMethod(message.methodName, message.getParamTypes());
+    Row[] block = (Row[]) method.invoke(table, message.getParams());
+
+    // the block is returned java serialized
+    Row[] received = (Row[]) Resource.deserializeObject(Resource.serializeObject(block));
+    assertEquals(2, received.length);
+    assertArrayEquals(new Object[]{"moon", "200"}, received[0].get());
+    assertArrayEquals(new Object[]{"star", "300"}, received[1].get());
+
+    Gson gson = new Gson();
+    received = gson.fromJson(gson.toJson(block), Row[].class);
+    assertEquals(2, received.length);
+    assertArrayEquals(new Object[]{"moon", "200"}, received[0].get());
+    assertArrayEquals(new Object[]{"star", "300"}, received[1].get());
+  }
 }
@@ -1,5 +1,10 @@
 package org.apache.zeppelin.notebook.repo;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -19,12 +24,18 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * NotebookRepos for hdfs.
@@ -34,12 +45,16 @@ import java.util.Map;
  *              - noteId/note.json
  *              - noteId/note.json
  *              - noteId/note.json
+ *              - noteId/results/blobId.json (large paragraph results, if enabled)
  */
 public class FileSystemNotebookRepo implements NotebookRepo {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemNotebookRepo.class);
+  private static final Gson GSON = new Gson();
+  private static final Type CONFIG_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
 
   private FileSystemStorage fs;
   private Path notebookDir;
+  private ParagraphResultStore resultStore;
 
   public FileSystemNotebookRepo() {
 
@@ -52,31 +67,115 @@ public class FileSystemNotebookRepo implements NotebookRepo {
     this.notebookDir = this.fs.makeQualified(new Path(zConf.getNotebookDir()));
     LOGGER.info("Using folder {} to store notebook", notebookDir);
     this.fs.tryMkDir(notebookDir);
+    this.resultStore = new FileSystemResultStore(zConf);
   }
 
   @Override
   public List<NoteInfo> list(AuthenticationInfo subject) throws IOException {
     List<Path> notePaths = fs.list(new Path(notebookDir, "*/note.json"));
     List<NoteInfo> noteInfos = new ArrayList<>();
-    for (Path path : notePaths) {
-      NoteInfo noteInfo = new NoteInfo(path.getParent().getName(), "", null);
-      noteInfos.add(noteInfo);
+    // only id, name, config and the fingerprint are read from each note.json
+    Map<Path, NoteInfo> listed = fs.readFiles(notePaths,
+        new FileSystemStorage.ContentReader<NoteInfo>() {
+          @Override
+          public NoteInfo read(Reader reader) throws IOException {
+            return readNoteInfo(reader);
+          }
+        });
+    for (Map.Entry<Path, NoteInfo> noteInfo : listed.entrySet()) {
+      noteInfo.getValue().setId(noteInfo.getKey().getParent().getName());
+      noteInfos.add(noteInfo.getValue());
     }
     return noteInfos;
   }
 
+  /**
+   * Streams the top level fields of a note.json, without building the note. Of the paragraphs
+   * only the fields of the note fingerprint are read.
+   */
+  static NoteInfo readNoteInfo(Reader reader) throws IOException {
+    JsonReader jsonReader = new JsonReader(reader);
+    String id = null;
+    String name = null;
+    Map<String, Object> config = new HashMap<>();
+    NoteInfo.FingerprintBuilder fingerprint = new NoteInfo.FingerprintBuilder();
+    try {
+      jsonReader.beginObject();
+      while (jsonReader.hasNext()) {
+        String field = jsonReader.nextName();
+        if (jsonReader.peek() == JsonToken.NULL) {
+          jsonReader.skipValue();
+        } else if ("id".equals(field)) {
+          id = jsonReader.nextString();
+        } else if ("name".equals(field)) {
+          name = jsonReader.nextString();
+        } else if ("config".equals(field)) {
+          config = GSON.fromJson(jsonReader, CONFIG_TYPE);
+        } else if ("paragraphs".equals(field)) {
+          jsonReader.beginArray();
+          while (jsonReader.hasNext()) {
+            readParagraphFingerprint(jsonReader, fingerprint);
+          }
+          jsonReader.endArray();
+        } else {
+          jsonReader.skipValue();
+        }
+      }
+      jsonReader.endObject();
+    } catch (IllegalStateException | JsonParseException e) {
+      throw new IOException("Invalid note json", e);
+    }
+    NoteInfo noteInfo = new NoteInfo(id, name, config);
+    noteInfo.setFingerprint(fingerprint.build(name));
+    return noteInfo;
+  }
+
+  private static void readParagraphFingerprint(JsonReader jsonReader,
+      NoteInfo.FingerprintBuilder fingerprint) throws IOException {
+    String id = null;
+    String title = null;
+    String text = null;
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      String field = jsonReader.nextName();
+      if (jsonReader.peek() == JsonToken.NULL) {
+        jsonReader.skipValue();
+      } else if ("id".equals(field)) {
+        id = jsonReader.nextString();
+      } else if ("title".equals(field)) {
+        title = jsonReader.nextString();
+      } else if ("text".equals(field)) {
+        text = jsonReader.nextString();
+      } else {
+        jsonReader.skipValue();
+      }
+    }
+    jsonReader.endObject();
+    fingerprint.addParagraph(id, title, text);
+  }
+
   @Override
   public Note get(final String noteId, AuthenticationInfo subject) throws IOException {
-    String content = this.fs.readFile(
-        new Path(notebookDir.toString() + "/" + noteId + "/note.json"));
-    return Note.fromJson(content);
+    return this.fs.readFile(new Path(notebookDir.toString() + "/" + noteId + "/note.json"),
+        new FileSystemStorage.ContentReader<Note>() {
+          @Override
+          public Note read(Reader reader) throws IOException {
+            return resultStore.readJson(noteId, reader);
+          }
+        });
   }
 
   @Override
   public void save(final Note note, AuthenticationInfo subject) throws IOException {
-    this.fs.writeFile(note.toJson(),
-        new Path(notebookDir.toString() + "/" + note.getId() + "/note.json"),
-        true);
+    final Set<String> blobIds = new HashSet<>();
+    this.fs.writeFile(new Path(notebookDir.toString() + "/" + note.getId() + "/note.json"),
+        new FileSystemStorage.ContentWriter() {
+          @Override
+          public void write(Writer writer) throws IOException {
+            resultStore.writeJson(note, blobIds, writer);
+          }
+        });
+    resultStore.removeUnreferencedBlobs(note.getId(), blobIds);
   }
 
   @Override
@@ -100,4 +199,51 @@ public class FileSystemNotebookRepo implements NotebookRepo {
     LOGGER.warn("updateSettings is not implemented for HdfsNotebookRepo");
   }
 
+  /**
+   * Stores large paragraph results in noteId/results/blobId.json
+   */
+  private class FileSystemResultStore extends ParagraphResultStore {
+
+    FileSystemResultStore(ZeppelinConfiguration zConf) {
+      super(zConf);
+    }
+
+    private Path getBlobPath(String noteId, String blobId) {
+      return new Path(notebookDir.toString() + "/" + noteId + "/results/" + blobId + ".json");
+    }
+
+    @Override
+    protected boolean blobExists(String noteId, String blobId) throws IOException {
+      return fs.exists(getBlobPath(noteId, blobId));
+    }
+
+    @Override
+    protected void writeBlob(String noteId, String blobId, String content) throws IOException {
+      fs.writeFile(content, getBlobPath(noteId, blobId), true);
+    }
+
+    @Override
+    protected String readBlob(String noteId, String blobId) throws IOException {
+      return fs.readFile(getBlobPath(noteId, blobId));
+    }
+
+    @Override
+    protected List<String> listBlobs(String noteId) throws IOException {
+      List<String> blobIds = new ArrayList<>();
+      if (!fs.exists(getBlobPath(noteId, "*").getParent())) {
+        return blobIds;
+      }
+      for (Path path : fs.list(getBlobPath(noteId, "*"))) {
+        String name = path.getName();
+        blobIds.add(name.substring(0, name.length() - ".json".length()));
+      }
+      return blobIds;
+    }
+
+    @Override
+    protected void removeBlob(String noteId, String blobId) throws IOException {
+      fs.delete(getBlobPath(noteId, blobId));
+    }
+  }
+
 }
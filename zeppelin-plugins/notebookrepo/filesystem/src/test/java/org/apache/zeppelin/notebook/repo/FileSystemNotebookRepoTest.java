@@ -7,6 +7,8 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.After;
 import org.junit.Before;
@@ -17,6 +19,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -57,8 +60,17 @@ public class FileSystemNotebookRepoTest {
     Map<String, Object> config = new HashMap<>();
     config.put("config_1", "value_1");
     note.setConfig(config);
+    Paragraph p = new Paragraph(note, null, null);
+    p.setText("%md {\"name\": \"in paragraph\"}");
+    note.addParagraph(p);
     hdfsNotebookRepo.save(note, authInfo);
-    assertEquals(1, hdfsNotebookRepo.list(authInfo).size());
+    List<NoteInfo> noteInfos = hdfsNotebookRepo.list(authInfo);
+    assertEquals(1, noteInfos.size());
+    assertEquals(note.getId(), noteInfos.get(0).getId());
+    assertEquals("title_1", noteInfos.get(0).getName());
+    assertEquals(config, noteInfos.get(0).getConfig());
+    // the listed fingerprint matches the one of the full note
+    assertEquals(NoteInfo.fingerprint(note), noteInfos.get(0).getFingerprint());
 
     // read this note from hdfs
     Note note_copy = hdfsNotebookRepo.get(note.getId(), authInfo);
@@ -99,4 +111,25 @@ public class FileSystemNotebookRepoTest {
     hdfsNotebookRepo.save(note, authInfo);
     assertEquals(1, hdfsNotebookRepo.list(authInfo).size());
   }
+
+  @Test
+  public void testListReadsNotesInParallel() throws IOException {
+    Map<String, String> names = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      Note note = new Note();
+      note.setName("note_" + i);
+      hdfsNotebookRepo.save(note, authInfo);
+      names.put(note.getId(), note.getName());
+    }
+    // invalid note is skipped
+    OutputStream out = fs.create(new Path(notebookDir, "invalid/note.json"));
+    out.write("invalid_content".getBytes());
+    out.close();
+
+    List<NoteInfo> noteInfos = hdfsNotebookRepo.list(authInfo);
+    assertEquals(20, noteInfos.size());
+    for (NoteInfo noteInfo : noteInfos) {
+      assertEquals(names.get(noteInfo.getId()), noteInfo.getName());
+    }
+  }
 }
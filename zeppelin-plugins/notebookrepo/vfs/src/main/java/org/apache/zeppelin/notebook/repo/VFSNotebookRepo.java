@@ -18,17 +18,25 @@
 package org.apache.zeppelin.notebook.repo;
 
 import com.google.common.collect.Lists;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.vfs2.FileContent;
@@ -55,6 +63,7 @@ public class VFSNotebookRepo implements NotebookRepo {
   private FileSystemManager fsManager;
   private URI filesystemRoot;
   protected ZeppelinConfiguration conf;
+  private ParagraphResultStore resultStore;
 
   public VFSNotebookRepo() {
 
@@ -84,6 +93,7 @@ public class VFSNotebookRepo implements NotebookRepo {
     }
 
     fsManager = VFS.getManager();
+    resultStore = new VFSResultStore(conf);
     FileObject file = fsManager.resolveFile(filesystemRoot.getPath());
     if (!file.exists()) {
       LOG.info("Notebook dir doesn't exist, create on is {}.", file.getName());
@@ -154,6 +164,21 @@ public class VFSNotebookRepo implements NotebookRepo {
   }
 
   private Note getNote(FileObject noteDir) throws IOException {
+    Reader reader = openNoteJson(noteDir);
+    try {
+      return resultStore.readJson(noteDir.getName().getBaseName(), reader);
+    } finally {
+      reader.close();
+    }
+  }
+
+  private Reader openNoteJson(FileObject noteDir) throws IOException {
+    return new BufferedReader(new InputStreamReader(
+        getNoteJson(noteDir).getContent().getInputStream(),
+        conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+  }
+
+  private FileObject getNoteJson(FileObject noteDir) throws IOException {
     if (!isDirectory(noteDir)) {
       throw new IOException(noteDir.getName().toString() + " is not a directory");
     }
@@ -162,18 +187,52 @@ public class VFSNotebookRepo implements NotebookRepo {
     if (!noteJson.exists()) {
       throw new IOException(noteJson.getName().toString() + " not found");
     }
-    
-    FileContent content = noteJson.getContent();
+    return noteJson;
+  }
+
+  private String readFile(FileObject file) throws IOException {
+    FileContent content = file.getContent();
     InputStream ins = content.getInputStream();
-    String json = IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
-    ins.close();
+    try {
+      return IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
+    } finally {
+      ins.close();
+    }
+  }
 
-    return Note.fromJson(json);
+  /**
+   * Writes the file through a temporary file, so readers never see a partially written file.
+   */
+  private void writeFile(FileObject dir, String name, String content) throws IOException {
+    Writer writer = openTmpFile(dir, name);
+    try {
+      writer.write(content);
+    } finally {
+      writer.close();
+    }
+    moveTmpFile(dir, name);
+  }
+
+  private Writer openTmpFile(FileObject dir, String name) throws IOException {
+    FileObject tmpFile = dir.resolveFile("." + name, NameScope.CHILD);
+    // false means not appending. creates file if not exists
+    OutputStream out = tmpFile.getContent().getOutputStream(false);
+    return new BufferedWriter(
+        new OutputStreamWriter(out, conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+  }
+
+  private void moveTmpFile(FileObject dir, String name) throws IOException {
+    dir.resolveFile("." + name, NameScope.CHILD).moveTo(dir.resolveFile(name, NameScope.CHILD));
   }
 
   private NoteInfo getNoteInfo(FileObject noteDir) throws IOException {
-    Note note = getNote(noteDir);
-    return new NoteInfo(note);
+    // results stored out of note.json are not needed to list the note
+    Reader reader = openNoteJson(noteDir);
+    try {
+      return new NoteInfo(Note.fromJson(reader));
+    } finally {
+      reader.close();
+    }
   }
 
   @Override
@@ -201,7 +260,7 @@ public class VFSNotebookRepo implements NotebookRepo {
   @Override
   public synchronized void save(Note note, AuthenticationInfo subject) throws IOException {
     LOG.info("Saving note:" + note.getId());
-    String json = note.toJson();
+    Set<String> blobIds = new HashSet<>();
 
     FileObject rootDir = getRootDir();
 
@@ -214,12 +273,15 @@ public class VFSNotebookRepo implements NotebookRepo {
       throw new IOException(noteDir.getName().toString() + " is not a directory");
     }
 
-    FileObject noteJson = noteDir.resolveFile(".note.json", NameScope.CHILD);
-    // false means not appending. creates file if not exists
-    OutputStream out = noteJson.getContent().getOutputStream(false);
-    out.write(json.getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)));
-    out.close();
-    noteJson.moveTo(noteDir.resolveFile("note.json", NameScope.CHILD));
+    // the note is written to the file as it is serialized
+    Writer writer = openTmpFile(noteDir, "note.json");
+    try {
+      resultStore.writeJson(note, blobIds, writer);
+    } finally {
+      writer.close();
+    }
+    moveTmpFile(noteDir, "note.json");
+    resultStore.removeUnreferencedBlobs(note.getId(), blobIds);
   }
 
   @Override
@@ -245,6 +307,69 @@ public class VFSNotebookRepo implements NotebookRepo {
     //no-op    
   }
 
+  /**
+   * Stores large paragraph results in [NOTE_ID]/results/[BLOB_ID].json
+   */
+  private class VFSResultStore extends ParagraphResultStore {
+    private static final String RESULTS_DIR = "results";
+    private static final String BLOB_EXTENSION = ".json";
+
+    VFSResultStore(ZeppelinConfiguration conf) {
+      super(conf);
+    }
+
+    private FileObject getResultsDir(String noteId) throws IOException {
+      return getRootDir().resolveFile(noteId, NameScope.CHILD)
+          .resolveFile(RESULTS_DIR, NameScope.CHILD);
+    }
+
+    @Override
+    protected boolean blobExists(String noteId, String blobId) throws IOException {
+      return getResultsDir(noteId).resolveFile(blobId + BLOB_EXTENSION, NameScope.CHILD)
+          .exists();
+    }
+
+    @Override
+    protected void writeBlob(String noteId, String blobId, String content) throws IOException {
+      FileObject resultsDir = getResultsDir(noteId);
+      if (!resultsDir.exists()) {
+        resultsDir.createFolder();
+      }
+      writeFile(resultsDir, blobId + BLOB_EXTENSION, content);
+    }
+
+    @Override
+    protected String readBlob(String noteId, String blobId) throws IOException {
+      FileObject blob = getResultsDir(noteId).resolveFile(blobId + BLOB_EXTENSION,
+          NameScope.CHILD);
+      if (!blob.exists()) {
+        throw new IOException(blob.getName().toString() + " not found");
+      }
+      return readFile(blob);
+    }
+
+    @Override
+    protected List<String> listBlobs(String noteId) throws IOException {
+      List<String> blobIds = new LinkedList<>();
+      FileObject resultsDir = getResultsDir(noteId);
+      if (!isDirectory(resultsDir)) {
+        return blobIds;
+      }
+      for (FileObject blob : resultsDir.getChildren()) {
+        String name = blob.getName().getBaseName();
+        if (name.endsWith(BLOB_EXTENSION) && !name.startsWith(".")) {
+          blobIds.add(name.substring(0, name.length() - BLOB_EXTENSION.length()));
+        }
+      }
+      return blobIds;
+    }
+
+    @Override
+    protected void removeBlob(String noteId, String blobId) throws IOException {
+      getResultsDir(noteId).resolveFile(blobId + BLOB_EXTENSION, NameScope.CHILD).delete();
+    }
+  }
+
   @Override
   public List<NotebookRepoSettingsInfo> getSettings(AuthenticationInfo subject) {
     NotebookRepoSettingsInfo repoSetting = NotebookRepoSettingsInfo.newInstance();
@@ -19,7 +19,9 @@ package org.apache.zeppelin.notebook.repo;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -33,6 +35,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TestVFSNotebookRepo {
 
@@ -51,6 +55,8 @@ public class TestVFSNotebookRepo {
 
   @After
   public void tearDown() throws IOException {
+    System.clearProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD.getVarName());
     FileUtils.deleteDirectory(new File(notebookDir));
   }
 
@@ -76,6 +82,41 @@ public class TestVFSNotebookRepo {
     assertEquals(0, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
   }
 
+  @Test
+  public void testResultsStoredOutOfNoteJson() throws IOException {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD.getVarName(), "100");
+    notebookRepo.init(new ZeppelinConfiguration());
+
+    Note note1 = new Note();
+    Paragraph p1 = note1.insertNewParagraph(0, AuthenticationInfo.ANONYMOUS);
+    p1.setText("%md large output");
+    String output = StringUtils.repeat("large output ", 100);
+    p1.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, output));
+    Paragraph p2 = note1.insertNewParagraph(1, AuthenticationInfo.ANONYMOUS);
+    p2.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "small output"));
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+
+    File noteJson = new File(notebookDir + "/" + note1.getId(), "note.json");
+    File resultsDir = new File(notebookDir + "/" + note1.getId(), "results");
+    assertFalse(FileUtils.readFileToString(noteJson).contains(output));
+    assertTrue(FileUtils.readFileToString(noteJson).contains("small output"));
+    assertEquals(1, resultsDir.list().length);
+
+    Note note2 = notebookRepo.get(note1.getId(), AuthenticationInfo.ANONYMOUS);
+    assertTrue(note2.toJson().contains(output));
+
+    // unchanged results are not written again, replaced results are removed
+    notebookRepo.save(note2, AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, resultsDir.list().length);
+    note2.getParagraph(p1.getId()).setResult(
+        new InterpreterResult(InterpreterResult.Code.SUCCESS, output + "updated"));
+    notebookRepo.save(note2, AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, resultsDir.list().length);
+    assertTrue(notebookRepo.get(note1.getId(), AuthenticationInfo.ANONYMOUS).toJson()
+        .contains(output + "updated"));
+  }
+
   @Test
   public void testInvalidJson() throws IOException {
     assertEquals(0, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.rest;
+
+import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.notebook.NotePersistQueue;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.RemoteScheduler;
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.server.JsonResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+/**
+ * Metrics Rest API Endpoint
+ */
+@Path("/metrics")
+@Produces("application/json")
+public class MetricsRestApi {
+
+  private Notebook notebook;
+  private InterpreterSettingManager interpreterSettingManager;
+
+  public MetricsRestApi() {}
+
+  public MetricsRestApi(Notebook notebook, InterpreterSettingManager interpreterSettingManager) {
+    this.notebook = notebook;
+    this.interpreterSettingManager = interpreterSettingManager;
+  }
+
+  /**
+   * Counters of the server, by component.
+   */
+  @GET
+  @ZeppelinApi
+  public Response getAll() {
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    NotePersistQueue persistQueue = notebook.getPersistQueue();
+    if (persistQueue != null) {
+      metrics.put("notePersistQueue", getPersistQueueMetrics(persistQueue));
+    }
+    metrics.put("interpreterProcesses", getInterpreterProcessMetrics());
+    metrics.put("schedulers", getSchedulerMetrics());
+    metrics.put("executors", ExecutorFactory.singleton().getExecutorStats());
+    return new JsonResponse<>(Status.OK, "", metrics).build();
+  }
+
+  private Map<String, Long> getPersistQueueMetrics(NotePersistQueue persistQueue) {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("queueDepth", (long) persistQueue.getQueueDepth());
+    metrics.put("writeCount", persistQueue.getWriteCount());
+    metrics.put("failureCount", persistQueue.getFailureCount());
+    metrics.put("retryCount", persistQueue.getRetryCount());
+    metrics.put("coalescedCount", persistQueue.getCoalescedCount());
+    metrics.put("averageLatencyMs", persistQueue.getAverageLatencyMs());
+    metrics.put("maxLatencyMs", persistQueue.getMaxLatencyMs());
+    return metrics;
+  }
+
+  /**
+   * Calls to the running interpreter processes, by interpreter setting and interpreter group.
+   */
+  private Map<String, Map<String, Map<String, Long>>> getInterpreterProcessMetrics() {
+    Map<String, Map<String, Map<String, Long>>> settings = new LinkedHashMap<>();
+    for (InterpreterSetting setting : interpreterSettingManager.get()) {
+      Map<String, Map<String, Long>> groups = new LinkedHashMap<>();
+      for (ManagedInterpreterGroup group : setting.getAllInterpreterGroups()) {
+        RemoteInterpreterProcess process = group.getRemoteInterpreterProcess();
+        if (process != null) {
+          groups.put(group.getId(), getInterpreterProcessMetrics(process));
+        }
+      }
+      if (!groups.isEmpty()) {
+        settings.put(setting.getName(), groups);
+      }
+    }
+    return settings;
+  }
+
+  private Map<String, Long> getInterpreterProcessMetrics(RemoteInterpreterProcess process) {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("inFlightCalls", (long) process.getInFlightCalls());
+    metrics.put("maxInFlightCalls", (long) process.getMaxInFlightCalls());
+    metrics.put("callCount", process.getCallCount());
+    metrics.put("timeoutCount", process.getTimeoutCount());
+    metrics.put("averageBorrowMs", process.getAverageBorrowMs());
+    metrics.put("openConnections", (long) process.getOpenConnections());
+    metrics.put("submittedJobs", (long) process.getSubmittedJobs());
+    return metrics;
+  }
+
+  /**
+   * Jobs waiting in the schedulers of the interpreter sessions, by scheduler name.
+   */
+  private Map<String, Map<String, Object>> getSchedulerMetrics() {
+    Map<String, Map<String, Object>> schedulers = new LinkedHashMap<>();
+    for (Scheduler scheduler : SchedulerFactory.singleton().getSchedulers()) {
+      if (!(scheduler instanceof RemoteScheduler)) {
+        continue;
+      }
+      RemoteScheduler remoteScheduler = (RemoteScheduler) scheduler;
+      Map<String, Object> metrics = new LinkedHashMap<>();
+      metrics.put("runningJobs", remoteScheduler.getJobsRunning().size());
+      metrics.put("waitingJobs", remoteScheduler.getJobsWaiting().size());
+      metrics.put("averageWaitMs", remoteScheduler.getAverageWaitMs());
+      metrics.put("maxWaitMs", remoteScheduler.getMaxWaitMs());
+      metrics.put("waitingJobsPerUser", remoteScheduler.getWaitingJobsPerTenant());
+      schedulers.put(scheduler.getName(), metrics);
+    }
+    return schedulers;
+  }
+}
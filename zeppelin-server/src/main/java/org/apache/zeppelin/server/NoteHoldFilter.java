@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.server;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Keeps the notes named in the path of a rest api request, e.g.
+ * /api/notebook/{noteId}/paragraph/{paragraphId}, loaded until the request is handled.
+ */
+public class NoteHoldFilter implements Filter {
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
+      throws IOException, ServletException {
+    Notebook notebook = ZeppelinServer.notebook;
+    if (notebook == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    List<Note> acquired = new LinkedList<>();
+    try {
+      if (request instanceof HttpServletRequest) {
+        for (String segment : StringUtils.split(
+            StringUtils.defaultString(((HttpServletRequest) request).getRequestURI()), '/')) {
+          Note note = notebook.acquireNote(segment);
+          if (note != null) {
+            acquired.add(note);
+          }
+        }
+      }
+      filterChain.doFilter(request, response);
+    } finally {
+      for (Note note : acquired) {
+        notebook.releaseNote(note);
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {}
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {}
+}
@@ -120,6 +120,7 @@ public class NotebookServer extends WebSocketServlet
    * is going on.
    */
   final Queue<NotebookSocket> watcherSockets = Queues.newConcurrentLinkedQueue();
+  final ParagraphDeltaTracker paragraphDeltas = new ParagraphDeltaTracker();
 
   private Notebook notebook() {
     return ZeppelinServer.notebook;
@@ -142,7 +143,11 @@ public class NotebookServer extends WebSocketServlet
   }
 
   public NotebookSocket doWebSocketConnect(HttpServletRequest req, String protocol) {
-    return new NotebookSocket(req, protocol, this);
+    return new NotebookSocket(req, protocol, this, getSendQueueSize());
+  }
+
+  int getSendQueueSize() {
+    return ZeppelinConfiguration.create().getInt(ConfVars.ZEPPELIN_WEBSOCKET_SEND_QUEUE_SIZE);
   }
 
   @Override
@@ -155,6 +160,7 @@ public class NotebookServer extends WebSocketServlet
   @Override
   public void onMessage(NotebookSocket conn, String msg) {
     Notebook notebook = notebook();
+    List<Note> acquired = new LinkedList<>();
     try {
       Message messagereceived = deserializeMessage(msg);
       LOG.debug("RECEIVE << " + messagereceived.op +
@@ -207,6 +213,9 @@ public class NotebookServer extends WebSocketServlet
           new AuthenticationInfo(messagereceived.principal, messagereceived.roles,
               messagereceived.ticket);
 
+      // notes used by the message stay loaded until it is handled
+      acquireNotes(conn, notebook, messagereceived, acquired);
+
       /** Lets be elegant here */
       switch (messagereceived.op) {
         case LIST_NOTES:
@@ -363,6 +372,37 @@ public class NotebookServer extends WebSocketServlet
       }
     } catch (Exception e) {
       LOG.error("Can't handle message: " + msg, e);
+    } finally {
+      for (Note note : acquired) {
+        notebook.releaseNote(note);
+      }
+    }
+  }
+
+  /**
+   * Acquires the notes a message may use: the note named by its noteId or id, paragraph
+   * messages carry the paragraph id there, and the note open in the connection.
+   */
+  private void acquireNotes(NotebookSocket conn, Notebook notebook, Message message,
+      List<Note> acquired) {
+    Set<String> noteIds = new HashSet<>();
+    if (message.data != null) {
+      for (String key : new String[]{"noteId", "id"}) {
+        Object id = message.get(key);
+        if (id instanceof String) {
+          noteIds.add((String) id);
+        }
+      }
+    }
+    String openNoteId = getOpenNoteId(conn);
+    if (openNoteId != null) {
+      noteIds.add(openNoteId);
+    }
+    for (String noteId : noteIds) {
+      Note note = notebook.acquireNote(noteId);
+      if (note != null) {
+        acquired.add(note);
+      }
     }
   }
 
@@ -430,6 +470,7 @@ public class NotebookServer extends WebSocketServlet
     synchronized (noteSocketMap) {
       List<NotebookSocket> socketList = noteSocketMap.remove(noteId);
     }
+    paragraphDeltas.removeNote(noteId);
   }
 
   private void removeConnectionFromAllNote(NotebookSocket socket) {
@@ -471,43 +512,31 @@ public class NotebookServer extends WebSocketServlet
   }
 
   private void broadcast(String noteId, Message m) {
-    List<NotebookSocket> socketsToBroadcast = Collections.emptyList();
-    synchronized (noteSocketMap) {
-      broadcastToWatchers(noteId, StringUtils.EMPTY, m);
-      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
-      if (socketLists == null || socketLists.size() == 0) {
-        return;
-      }
-      socketsToBroadcast = new ArrayList<>(socketLists);
-    }
-    LOG.debug("SEND >> " + m);
-    for (NotebookSocket conn : socketsToBroadcast) {
-      try {
-        conn.send(serializeMessage(m));
-      } catch (IOException e) {
-        LOG.error("socket error", e);
-      }
-    }
+    broadcastExcept(noteId, m, null);
   }
 
   private void broadcastExcept(String noteId, Message m, NotebookSocket exclude) {
     List<NotebookSocket> socketsToBroadcast = Collections.emptyList();
     synchronized (noteSocketMap) {
-      broadcastToWatchers(noteId, StringUtils.EMPTY, m);
       List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
-      if (socketLists == null || socketLists.size() == 0) {
-        return;
+      if (socketLists != null) {
+        socketsToBroadcast = new ArrayList<>(socketLists);
       }
-      socketsToBroadcast = new ArrayList<>(socketLists);
+    }
+    if (socketsToBroadcast.isEmpty() && watcherSockets.isEmpty()) {
+      return;
     }
 
-    LOG.debug("SEND >> " + m);
+    // serialize once for all receivers
+    String serialized = serializeMessage(m);
+    broadcastToWatchers(noteId, StringUtils.EMPTY, serialized);
+    LOG.debug("SEND >> {}", m);
     for (NotebookSocket conn : socketsToBroadcast) {
-      if (exclude.equals(conn)) {
+      if (exclude != null && exclude.equals(conn)) {
         continue;
       }
       try {
-        conn.send(serializeMessage(m));
+        conn.send(serialized);
       } catch (IOException e) {
         LOG.error("socket error", e);
       }
@@ -520,18 +549,23 @@ public class NotebookServer extends WebSocketServlet
       return;
     }
 
-    for (NotebookSocket conn : userConnectedSockets.get(user)) {
-      unicast(m, conn);
+    multicast(userConnectedSockets.get(user), m);
+  }
+
+  private void multicast(Collection<NotebookSocket> sockets, Message m) {
+    String serialized = serializeMessage(m);
+    for (NotebookSocket conn : sockets) {
+      try {
+        conn.send(serialized);
+      } catch (IOException e) {
+        LOG.error("socket error", e);
+      }
     }
+    broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, serialized);
   }
 
   private void unicast(Message m, NotebookSocket conn) {
-    try {
-      conn.send(serializeMessage(m));
-    } catch (IOException e) {
-      LOG.error("socket error", e);
-    }
-    broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, m);
+    multicast(Collections.singletonList(conn), m);
   }
 
   public void unicastNoteJobInfo(NotebookSocket conn, Message fromMessage) throws IOException {
@@ -627,7 +661,19 @@ public class NotebookServer extends WebSocketServlet
   }
 
   public void broadcastNote(Note note) {
-    broadcast(note.getId(), new Message(OP.NOTE).put("note", note));
+    broadcast(note.getId(), noteMessage(note));
+  }
+
+  /**
+   * NOTE message carrying the broadcast revision of every paragraph,
+   * which PARAGRAPH_PATCH messages are applied on.
+   */
+  private Message noteMessage(Note note) {
+    Map<String, Long> revisions = new HashMap<>();
+    for (Paragraph p : note.getParagraphs()) {
+      revisions.put(p.getId(), paragraphDeltas.getRevision(p.getId()));
+    }
+    return new Message(OP.NOTE).put("note", note).put("paragraphRevisions", revisions);
   }
 
   public void broadcastInterpreterBindings(String noteId, List settingList) {
@@ -644,10 +690,7 @@ public class NotebookServer extends WebSocketServlet
       return;
     }
 
-    for (NotebookSocket conn : userConnectedSockets.get(user)) {
-      Message m = new Message(OP.PARAGRAPH).put("paragraph", p);
-      unicast(m, conn);
-    }
+    multicast(userConnectedSockets.get(user), new Message(OP.PARAGRAPH).put("paragraph", p));
   }
 
   public void broadcastParagraph(Note note, Paragraph p) {
@@ -656,7 +699,26 @@ public class NotebookServer extends WebSocketServlet
     if (note.isPersonalizedMode()) {
       broadcastParagraphs(p.getUserParagraphMap(), p);
     } else {
-      broadcast(note.getId(), new Message(OP.PARAGRAPH).put("paragraph", p));
+      broadcastParagraphPatch(note.getId(), p);
+    }
+  }
+
+  /**
+   * Sends only the fields of the paragraph which changed since it was last broadcast.
+   */
+  private void broadcastParagraphPatch(String noteId, Paragraph p) {
+    synchronized (paragraphDeltas.getLock(noteId, p.getId())) {
+      ParagraphDeltaTracker.Patch patch =
+          paragraphDeltas.diff(noteId, p.getId(), gson.toJsonTree(p).getAsJsonObject());
+      if (patch == null) {
+        return;
+      }
+      broadcast(noteId, new Message(OP.PARAGRAPH_PATCH)
+          .put("noteId", noteId)
+          .put("paragraphId", p.getId())
+          .put("revision", patch.revision)
+          .put("fields", patch.fields)
+          .put("removed", patch.removed));
     }
   }
 
@@ -674,7 +736,8 @@ public class NotebookServer extends WebSocketServlet
     LOG.info("Broadcasting paragraph on run call instead of note.");
     int paraIndex = note.getParagraphs().indexOf(para);
     broadcast(note.getId(),
-        new Message(OP.PARAGRAPH_ADDED).put("paragraph", para).put("index", paraIndex));
+        new Message(OP.PARAGRAPH_ADDED).put("paragraph", para).put("index", paraIndex)
+            .put("revision", paragraphDeltas.getRevision(para.getId())));
   }
 
   public void broadcastNoteList(AuthenticationInfo subject, HashSet userAndRoles) {
@@ -835,7 +898,7 @@ public class NotebookServer extends WebSocketServlet
       if (note.isPersonalizedMode()) {
         note = note.getUserNote(user);
       }
-      conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
+      conn.send(serializeMessage(noteMessage(note)));
       sendAllAngularObjects(note, user, conn);
     } else {
       conn.send(serializeMessage(new Message(OP.NOTE).put("note", null)));
@@ -859,7 +922,7 @@ public class NotebookServer extends WebSocketServlet
       }
 
       addConnectionToNote(note.getId(), conn);
-      conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
+      conn.send(serializeMessage(noteMessage(note)));
       sendAllAngularObjects(note, user, conn);
     } else {
       removeConnectionFromAllNote(conn);
@@ -993,7 +1056,12 @@ public class NotebookServer extends WebSocketServlet
       AuthenticationInfo subject = new AuthenticationInfo(fromMessage.principal);
 
       List<Note> renamedNotes = oldFolder.getNotesRecursively();
-      for (Note note : renamedNotes) {
+      for (Note renamedNote : renamedNotes) {
+        // loads the paragraphs of notes which are only listed
+        Note note = notebook.getNote(renamedNote.getId());
+        if (note == null) {
+          continue;
+        }
         note.persist(subject);
         broadcastNote(note);
       }
@@ -1114,6 +1182,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
 
     // drop cron
     Map<String, Object> config = note.getConfig();
@@ -1168,6 +1240,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
 
     //restore cron
     Map<String, Object> config = note.getConfig();
@@ -1253,6 +1329,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     Paragraph p = note.getParagraph(paragraphId);
 
     p.settings.setParams(params);
@@ -1304,6 +1384,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     note.clearAllParagraphOutput();
     broadcastNote(note);
   }
@@ -1342,6 +1426,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
 
     /** Don't allow removing paragraph when there is only one paragraph in the Notebook */
     if (note.getParagraphCount() > 1) {
@@ -1349,6 +1437,7 @@ public class NotebookServer extends WebSocketServlet
       Paragraph para = note.removeParagraph(subject.getUser(), paragraphId);
       note.persist(subject);
       if (para != null) {
+        paragraphDeltas.removeParagraph(para.getId());
         broadcast(note.getId(), new Message(OP.PARAGRAPH_REMOVED).
             put("id", para.getId()));
       }
@@ -1369,6 +1458,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     if (note.isPersonalizedMode()) {
       String user = fromMessage.principal;
       Paragraph p = note.clearPersonalizedParagraphOutput(paragraphId, user);
@@ -1392,6 +1485,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     final Note note = notebook.getNote(getOpenNoteId(conn));
+    if (note == null) {
+      LOG.warn("Note {} not found", getOpenNoteId(conn));
+      return;
+    }
     List<InterpreterCompletion> candidates = note.completion(paragraphId, buffer, cursor);
     resp.put("completions", candidates);
     conn.send(serializeMessage(resp));
@@ -1497,6 +1594,10 @@ public class NotebookServer extends WebSocketServlet
     Object varValue = fromMessage.get("value");
     String paragraphId = fromMessage.getType("paragraphId");
     Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
 
     if (paragraphId == null) {
       throw new IllegalArgumentException(
@@ -1531,6 +1632,10 @@ public class NotebookServer extends WebSocketServlet
     String varName = fromMessage.getType("name");
     String paragraphId = fromMessage.getType("paragraphId");
     Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
 
     if (paragraphId == null) {
       throw new IllegalArgumentException(
@@ -1620,6 +1725,10 @@ public class NotebookServer extends WebSocketServlet
     final int newIndex = (int) Double.parseDouble(fromMessage.get("index").toString());
     String noteId = getOpenNoteId(conn);
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
 
     if (!hasParagraphWriterPermission(conn, notebook, noteId,
         userAndRoles, fromMessage.principal, "write")) {
@@ -1638,6 +1747,10 @@ public class NotebookServer extends WebSocketServlet
     final int index = (int) Double.parseDouble(fromMessage.get("index").toString());
     String noteId = getOpenNoteId(conn);
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return null;
+    }
     AuthenticationInfo subject = new AuthenticationInfo(fromMessage.principal);
 
     if (!hasParagraphWriterPermission(conn, notebook, noteId,
@@ -1686,6 +1799,10 @@ public class NotebookServer extends WebSocketServlet
     }
 
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     Paragraph p = note.getParagraph(paragraphId);
     p.abort();
   }
@@ -1719,10 +1836,17 @@ public class NotebookServer extends WebSocketServlet
       Map<String, Object> config = (Map<String, Object>) raw.get("config");
 
       Note note = notebook.getNote(noteId);
+      if (note == null) {
+        LOG.warn("Note {} not found", noteId);
+        return;
+      }
       Paragraph p = setParagraphUsingMessage(note, fromMessage,
           paragraphId, text, title, params, config);
 
-      if (p.isEnabled() && !persistAndExecuteSingleParagraph(conn, note, p, true)) {
+      if (!p.isEnabled()) {
+        continue;
+      }
+      if (!persistAndExecuteSingleParagraph(conn, note, p, true, true)) {
         // stop execution when one paragraph fails.
         break;
       }
@@ -1752,6 +1876,10 @@ public class NotebookServer extends WebSocketServlet
     Map<String, Object> config = (Map<String, Object>) fromMessage.get("config");
 
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     Paragraph p = setParagraphUsingMessage(note, fromMessage, paragraphId,
         text, title, params, config);
     p.setResult(fromMessage.get("results"));
@@ -1802,6 +1930,10 @@ public class NotebookServer extends WebSocketServlet
     // 1. clear paragraph only if personalized,
     // otherwise this will be handed in `onOutputClear`
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     if (note.isPersonalizedMode()) {
       String user = fromMessage.principal;
       Paragraph p = note.clearPersonalizedParagraphOutput(paragraphId, user);
@@ -1817,7 +1949,7 @@ public class NotebookServer extends WebSocketServlet
     Paragraph p = setParagraphUsingMessage(note, fromMessage, paragraphId,
         text, title, params, config);
 
-    persistAndExecuteSingleParagraph(conn, note, p, false);
+    persistAndExecuteSingleParagraph(conn, note, p, false, false);
   }
 
   private void addNewParagraphIfLastParagraphIsExecuted(Note note, Paragraph p) {
@@ -1851,20 +1983,21 @@ public class NotebookServer extends WebSocketServlet
 
   private boolean persistAndExecuteSingleParagraph(NotebookSocket conn,
                                                 Note note, Paragraph p,
-                                                boolean blocking) throws IOException {
+                                                boolean blocking, boolean batch)
+      throws IOException {
     addNewParagraphIfLastParagraphIsExecuted(note, p);
     if (!persistNoteWithAuthInfo(conn, note, p)) {
       return false;
     }
 
     try {
-      return note.run(p.getId(), blocking);
+      return note.run(p.getId(), blocking, batch);
     } catch (Exception ex) {
       LOG.error("Exception from run", ex);
       if (p != null) {
         p.setReturn(new InterpreterResult(InterpreterResult.Code.ERROR, ex.getMessage()), ex);
         p.setStatus(Status.ERROR);
-        broadcast(note.getId(), new Message(OP.PARAGRAPH).put("paragraph", p));
+        broadcastParagraphPatch(note.getId(), p);
       }
       return false;
     }
@@ -1968,6 +2101,10 @@ public class NotebookServer extends WebSocketServlet
 
     if (setRevisionStatus) {
       Note reloadedNote = notebook.getNote(headNote.getId());
+      if (reloadedNote == null) {
+        LOG.warn("Note {} not found", headNote.getId());
+        return;
+      }
       broadcastNote(reloadedNote);
     } else {
       conn.send(serializeMessage(new Message(OP.ERROR_INFO).put("info",
@@ -2029,6 +2166,10 @@ public class NotebookServer extends WebSocketServlet
     Message msg = new Message(OP.PARAGRAPH_UPDATE_OUTPUT).put("noteId", noteId)
         .put("paragraphId", paragraphId).put("index", index).put("type", type).put("data", output);
     Note note = notebook().getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     if (note.isPersonalizedMode()) {
       String user = note.getParagraph(paragraphId).getUser();
       if (null != user) {
@@ -2047,6 +2188,10 @@ public class NotebookServer extends WebSocketServlet
   public void onOutputClear(String noteId, String paragraphId) {
     Notebook notebook = notebook();
     final Note note = notebook.getNote(noteId);
+    if (note == null) {
+      LOG.warn("Note {} not found", noteId);
+      return;
+    }
     note.clearParagraphOutput(paragraphId);
     Paragraph paragraph = note.getParagraph(paragraphId);
     broadcastParagraph(note, paragraph);
@@ -2511,13 +2656,16 @@ public class NotebookServer extends WebSocketServlet
     }
   }
 
-  private void broadcastToWatchers(String noteId, String subject, Message message) {
+  private void broadcastToWatchers(String noteId, String subject, String serializedMessage) {
+    if (watcherSockets.isEmpty()) {
+      return;
+    }
     synchronized (watcherSockets) {
+      String watcherMessage = WatcherMessage.builder(noteId).subject(subject)
+          .message(serializedMessage).build().toJson();
       for (NotebookSocket watcher : watcherSockets) {
         try {
-          watcher.send(
-              WatcherMessage.builder(noteId).subject(subject).message(serializeMessage(message))
-                  .build().toJson());
+          watcher.send(watcherMessage);
         } catch (IOException e) {
           LOG.error("Cannot broadcast message to watcher", e);
         }
@@ -2563,7 +2711,7 @@ public class NotebookServer extends WebSocketServlet
               Paragraph paragraph = note.getParagraph(paraId);
               if (paragraph != null) {
                 paragraph.clearRuntimeInfo(setting.getId());
-                broadcast(noteId, new Message(OP.PARAGRAPH).put("paragraph", paragraph));
+                broadcastParagraphPatch(noteId, paragraph);
               }
             }
           }
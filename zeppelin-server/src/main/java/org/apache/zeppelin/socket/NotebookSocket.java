@@ -17,17 +17,43 @@
 package org.apache.zeppelin.socket;
 
 import java.io.IOException;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Notebook websocket
+ *
+ * When created with a positive sendQueueSize, messages are queued and written by a shared
+ * sender pool, so a slow client does not block the thread broadcasting to every client.
+ * A client which falls sendQueueSize messages behind is disconnected.
  */
 public class NotebookSocket extends WebSocketAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(NotebookSocket.class);
+
+  private static final ExecutorService SENDER = Executors.newCachedThreadPool(
+      new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "NotebookSocketSender-" + count.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        }
+      });
 
   private Session connection;
   private NotebookSocketListener listener;
@@ -35,12 +61,22 @@ public class NotebookSocket extends WebSocketAdapter {
   private String protocol;
   private String user;
 
+  private final int sendQueueSize;
+  private final Queue<String> sendQueue = new LinkedList<>();
+  private boolean sending = false;
+
   public NotebookSocket(HttpServletRequest req, String protocol,
       NotebookSocketListener listener) {
+    this(req, protocol, listener, 0);
+  }
+
+  public NotebookSocket(HttpServletRequest req, String protocol,
+      NotebookSocketListener listener, int sendQueueSize) {
     this.listener = listener;
     this.request = req;
     this.protocol = protocol;
     this.user = StringUtils.EMPTY;
+    this.sendQueueSize = sendQueueSize;
   }
 
   @Override
@@ -68,7 +104,53 @@ public class NotebookSocket extends WebSocketAdapter {
     return protocol;
   }
 
-  public synchronized void send(String serializeMessage) throws IOException {
+  public void send(String serializeMessage) throws IOException {
+    if (sendQueueSize <= 0) {
+      sendNow(serializeMessage);
+      return;
+    }
+
+    synchronized (sendQueue) {
+      if (sendQueue.size() >= sendQueueSize) {
+        sendQueue.clear();
+        LOG.warn("Closing connection from {}, {} messages are waiting to be sent",
+            request.getRemoteAddr(), sendQueueSize);
+        connection.close(StatusCode.POLICY_VIOLATION, "Too many pending messages");
+        throw new IOException("Send queue of the connection is full");
+      }
+      sendQueue.add(serializeMessage);
+      if (sending) {
+        return;
+      }
+      sending = true;
+    }
+    SENDER.execute(new Runnable() {
+      @Override
+      public void run() {
+        drainSendQueue();
+      }
+    });
+  }
+
+  private void drainSendQueue() {
+    while (true) {
+      String message;
+      synchronized (sendQueue) {
+        message = sendQueue.poll();
+        if (message == null) {
+          sending = false;
+          return;
+        }
+      }
+      try {
+        sendNow(message);
+      } catch (IOException | RuntimeException e) {
+        LOG.error("socket error", e);
+      }
+    }
+  }
+
+  private synchronized void sendNow(String serializeMessage) throws IOException {
     connection.getRemote().sendString(serializeMessage);
   }
 
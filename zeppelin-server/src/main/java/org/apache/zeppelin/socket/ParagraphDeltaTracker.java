@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Keeps the revision and a fingerprint of every top level field of the paragraphs last
+ * broadcast, so following broadcasts only carry the fields which changed.
+ *
+ * Revision 0 means the paragraph was never broadcast. A client applies a patch only when
+ * it is at revision - 1 and reloads the note otherwise.
+ */
+class ParagraphDeltaTracker {
+
+  /**
+   * Fields of a paragraph that changed since the previous revision.
+   */
+  static class Patch {
+    final long revision;
+    final JsonObject fields;
+    final List<String> removed;
+
+    Patch(long revision, JsonObject fields, List<String> removed) {
+      this.revision = revision;
+      this.fields = fields;
+      this.removed = removed;
+    }
+  }
+
+  private static class Snapshot {
+    final String noteId;
+    long revision = 0;
+    Map<String, HashCode> fields = new HashMap<>();
+
+    Snapshot(String noteId) {
+      this.noteId = noteId;
+    }
+  }
+
+  private final Map<String, Snapshot> snapshots = new HashMap<>();
+
+  /**
+   * Returns the object to hold while computing and sending the patch of a paragraph,
+   * so patches of the same paragraph are sent in revision order.
+   */
+  synchronized Object getLock(String noteId, String paragraphId) {
+    return getSnapshot(noteId, paragraphId);
+  }
+
+  /**
+   * Computes the patch from the last broadcast state to the given paragraph and makes
+   * it the new broadcast state.
+   *
+   * @return the patch, or null when nothing changed
+   */
+  synchronized Patch diff(String noteId, String paragraphId, JsonObject paragraph) {
+    Snapshot snapshot = getSnapshot(noteId, paragraphId);
+    Map<String, HashCode> fields = new HashMap<>();
+    JsonObject changed = new JsonObject();
+    for (Map.Entry<String, JsonElement> field : paragraph.entrySet()) {
+      HashCode hash = Hashing.murmur3_128()
+          .hashString(field.getValue().toString(), StandardCharsets.UTF_8);
+      fields.put(field.getKey(), hash);
+      if (!hash.equals(snapshot.fields.get(field.getKey()))) {
+        changed.add(field.getKey(), field.getValue());
+      }
+    }
+    List<String> removed = new LinkedList<>();
+    for (String name : snapshot.fields.keySet()) {
+      if (!fields.containsKey(name)) {
+        removed.add(name);
+      }
+    }
+    if (changed.entrySet().isEmpty() && removed.isEmpty()) {
+      return null;
+    }
+    snapshot.fields = fields;
+    snapshot.revision++;
+    return new Patch(snapshot.revision, changed, removed);
+  }
+
+  synchronized long getRevision(String paragraphId) {
+    Snapshot snapshot = snapshots.get(paragraphId);
+    return snapshot == null ? 0 : snapshot.revision;
+  }
+
+  synchronized void removeParagraph(String paragraphId) {
+    snapshots.remove(paragraphId);
+  }
+
+  synchronized void removeNote(String noteId) {
+    Iterator<Snapshot> it = snapshots.values().iterator();
+    while (it.hasNext()) {
+      if (noteId.equals(it.next().noteId)) {
+        it.remove();
+      }
+    }
+  }
+
+  private Snapshot getSnapshot(String noteId, String paragraphId) {
+    Snapshot snapshot = snapshots.get(paragraphId);
+    if (snapshot == null) {
+      snapshot = new Snapshot(noteId);
+      snapshots.put(paragraphId, snapshot);
+    }
+    return snapshot;
+  }
+}
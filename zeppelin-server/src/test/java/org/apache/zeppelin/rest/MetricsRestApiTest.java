@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.rest;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.commons.httpclient.methods.GetMethod;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRestApiTest extends AbstractTestRestApi {
+  Gson gson = new Gson();
+
+  @BeforeClass
+  public static void init() throws Exception {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_QUEUE_SIZE.getVarName(), "10");
+    AbstractTestRestApi.startUp(MetricsRestApi.class.getSimpleName());
+  }
+
+  @AfterClass
+  public static void destroy() throws Exception {
+    AbstractTestRestApi.shutDown();
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_QUEUE_SIZE.getVarName());
+  }
+
+  @Test
+  public void testGetAll() throws IOException {
+    GetMethod get = httpGet("/metrics");
+    assertEquals(200, get.getStatusCode());
+    Map<String, Object> resp = gson.fromJson(get.getResponseBodyAsString(),
+        new TypeToken<Map<String, Object>>(){}.getType());
+    Map<String, Object> body = (Map<String, Object>) resp.get("body");
+    Map<String, Object> persistQueue = (Map<String, Object>) body.get("notePersistQueue");
+    assertTrue(persistQueue.containsKey("writeCount"));
+    assertTrue(persistQueue.containsKey("retryCount"));
+    assertTrue(body.containsKey("interpreterProcesses"));
+    assertTrue(body.containsKey("schedulers"));
+    Map<String, Object> executors = (Map<String, Object>) body.get("executors");
+    assertTrue(executors.containsKey("SchedulerFactory"));
+    get.releaseConnection();
+  }
+}
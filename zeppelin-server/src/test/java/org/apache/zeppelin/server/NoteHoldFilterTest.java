@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.server;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.interpreter.InterpreterFactory;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.notebook.JobListenerFactory;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.NotebookAuthorization;
+import org.apache.zeppelin.notebook.repo.NotebookRepo;
+import org.apache.zeppelin.notebook.socket.Message;
+import org.apache.zeppelin.notebook.socket.Message.OP;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.search.SearchService;
+import org.apache.zeppelin.socket.NotebookServer;
+import org.apache.zeppelin.socket.NotebookSocket;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.apache.zeppelin.user.Credentials;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anySetOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Notes used by a rest api request or a websocket message are not unloaded while it is
+ * handled, when zeppelin.notebook.cache.size is set.
+ */
+public class NoteHoldFilterTest {
+  private AuthenticationInfo anonymous = AuthenticationInfo.ANONYMOUS;
+  private Map<String, String> savedNotes = new ConcurrentHashMap<>();
+  private Notebook serverNotebook;
+  private Notebook notebook;
+
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName(), "1");
+    ZeppelinConfiguration conf = new ZeppelinConfiguration();
+
+    NotebookRepo repo = mock(NotebookRepo.class);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        Note note = (Note) invocation.getArguments()[0];
+        savedNotes.put(note.getId(), note.toJson());
+        return null;
+      }
+    }).when(repo).save(any(Note.class), any(AuthenticationInfo.class));
+    when(repo.get(anyString(), any(AuthenticationInfo.class))).thenAnswer(new Answer<Note>() {
+      @Override
+      public Note answer(InvocationOnMock invocation) {
+        String json = savedNotes.get((String) invocation.getArguments()[0]);
+        return json == null ? null : Note.fromJson(json);
+      }
+    });
+    NotebookAuthorization authorization = mock(NotebookAuthorization.class);
+    when(authorization.isReader(anyString(), anySetOf(String.class))).thenReturn(true);
+
+    notebook = new Notebook(conf, repo, SchedulerFactory.singleton(),
+        mock(InterpreterFactory.class), mock(InterpreterSettingManager.class),
+        mock(JobListenerFactory.class), mock(SearchService.class), authorization,
+        new Credentials(false, null, null));
+    serverNotebook = ZeppelinServer.notebook;
+    ZeppelinServer.notebook = notebook;
+  }
+
+  @After
+  public void tearDown() {
+    ZeppelinServer.notebook = serverNotebook;
+    notebook.close();
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName());
+  }
+
+  private Note createNote(String text) throws IOException {
+    Note note = notebook.createNote(anonymous);
+    note.addNewParagraph(anonymous).setText(text);
+    note.persist(anonymous);
+    return note;
+  }
+
+  @Test
+  public void testNoteOfRestRequestIsNotUnloaded() throws Exception {
+    final Note note1 = createNote("text1");
+    createNote("text2");
+    assertEquals(0, note1.getParagraphs().size());
+
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getRequestURI()).thenReturn("/api/notebook/" + note1.getId() + "/paragraph");
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    FilterChain filterChain = mock(FilterChain.class);
+    final AtomicInteger paragraphsInUse = new AtomicInteger(-1);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws IOException {
+        // other notes used meanwhile must not unload the note of the request
+        createNote("text3");
+        paragraphsInUse.set(note1.getParagraphs().size());
+        return null;
+      }
+    }).when(filterChain).doFilter(request, response);
+
+    new NoteHoldFilter().doFilter(request, response, filterChain);
+    verify(filterChain).doFilter(request, response);
+    assertEquals(1, paragraphsInUse.get());
+
+    // released once the request is handled
+    createNote("text4");
+    assertEquals(0, note1.getParagraphs().size());
+  }
+
+  @Test
+  public void testNoteOfWebsocketMessageIsNotUnloaded() throws Exception {
+    final Note note1 = createNote("text1");
+    createNote("text2");
+    assertEquals(0, note1.getParagraphs().size());
+
+    NotebookSocket conn = mock(NotebookSocket.class);
+    when(conn.getRequest()).thenReturn(mock(HttpServletRequest.class));
+    final AtomicInteger paragraphsInUse = new AtomicInteger(-1);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws IOException {
+        // sent while the message is handled, other notes used meanwhile must not unload it
+        if (paragraphsInUse.get() < 0) {
+          createNote("text3");
+          paragraphsInUse.set(note1.getParagraphs().size());
+        }
+        return null;
+      }
+    }).when(conn).send(anyString());
+
+    new NotebookServer().onMessage(conn,
+        new Message(OP.GET_NOTE).put("id", note1.getId()).toJson());
+    assertEquals(1, paragraphsInUse.get());
+
+    // released once the message is handled
+    createNote("text4");
+    assertEquals(0, note1.getParagraphs().size());
+  }
+}
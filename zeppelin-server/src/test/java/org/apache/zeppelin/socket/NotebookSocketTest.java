@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class NotebookSocketTest {
+
+  private Session session;
+  private RemoteEndpoint remote;
+
+  @Before
+  public void setUp() {
+    session = mock(Session.class);
+    remote = mock(RemoteEndpoint.class);
+    when(session.getRemote()).thenReturn(remote);
+  }
+
+  @Test
+  public void testSendQueued() throws IOException {
+    NotebookSocket socket = newSocket(10);
+    socket.send("msg1");
+    socket.send("msg2");
+
+    verify(remote, timeout(1000)).sendString("msg1");
+    verify(remote, timeout(1000)).sendString("msg2");
+  }
+
+  @Test
+  public void testSlowClientIsDisconnected() throws IOException, InterruptedException {
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        blocked.countDown();
+        release.await();
+        return null;
+      }
+    }).when(remote).sendString("blocking");
+
+    NotebookSocket socket = newSocket(1);
+    socket.send("blocking");
+    blocked.await();
+    socket.send("msg1");
+    try {
+      socket.send("msg2");
+      fail("send queue should be full");
+    } catch (IOException e) {
+      verify(session).close(eq(StatusCode.POLICY_VIOLATION), anyString());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private NotebookSocket newSocket(int sendQueueSize) {
+    NotebookSocket socket = new NotebookSocket(mock(HttpServletRequest.class), "",
+        mock(NotebookSocketListener.class), sendQueueSize);
+    socket.onWebSocketConnect(session);
+    return socket;
+  }
+}
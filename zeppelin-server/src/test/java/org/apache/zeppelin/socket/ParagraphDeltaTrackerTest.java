@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+public class ParagraphDeltaTrackerTest {
+
+  private ParagraphDeltaTracker tracker = new ParagraphDeltaTracker();
+
+  @Test
+  public void testDiff() {
+    assertEquals(0, tracker.getRevision("p1"));
+
+    // first broadcast carries every field
+    ParagraphDeltaTracker.Patch patch = tracker.diff("note", "p1",
+        json("{\"id\":\"p1\",\"status\":\"READY\",\"results\":{\"msg\":[\"big\"]}}"));
+    assertEquals(1, patch.revision);
+    assertEquals(3, patch.fields.entrySet().size());
+
+    // only the status changed
+    patch = tracker.diff("note", "p1",
+        json("{\"id\":\"p1\",\"status\":\"RUNNING\",\"results\":{\"msg\":[\"big\"]}}"));
+    assertEquals(2, patch.revision);
+    assertEquals(1, patch.fields.entrySet().size());
+    assertEquals("RUNNING", patch.fields.get("status").getAsString());
+    assertTrue(patch.removed.isEmpty());
+
+    // nothing changed
+    assertNull(tracker.diff("note", "p1",
+        json("{\"id\":\"p1\",\"status\":\"RUNNING\",\"results\":{\"msg\":[\"big\"]}}")));
+    assertEquals(2, tracker.getRevision("p1"));
+
+    // results removed
+    patch = tracker.diff("note", "p1", json("{\"id\":\"p1\",\"status\":\"RUNNING\"}"));
+    assertEquals(3, patch.revision);
+    assertTrue(patch.fields.entrySet().isEmpty());
+    assertEquals("results", patch.removed.get(0));
+  }
+
+  @Test
+  public void testRemoveNote() {
+    tracker.diff("note1", "p1", json("{\"id\":\"p1\"}"));
+    tracker.diff("note2", "p2", json("{\"id\":\"p2\"}"));
+
+    tracker.removeNote("note1");
+    assertEquals(0, tracker.getRevision("p1"));
+    assertEquals(1, tracker.getRevision("p2"));
+  }
+
+  private JsonObject json(String json) {
+    return new JsonParser().parse(json).getAsJsonObject();
+  }
+}
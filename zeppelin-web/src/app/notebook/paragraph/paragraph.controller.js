@@ -1386,6 +1386,9 @@ function ParagraphCtrl($scope, $rootScope, $route, $window, $routeParams, $locat
     }
     $scope.paragraph.settings = newPara.settings;
     $scope.paragraph.runtimeInfos = newPara.runtimeInfos;
+    if (newPara.revision !== undefined) {
+      $scope.paragraph.revision = newPara.revision;
+    }
     if ($scope.editor) {
       $scope.editor.setReadOnly($scope.isRunning(newPara));
     }
@@ -1453,8 +1456,30 @@ function ParagraphCtrl($scope, $rootScope, $route, $window, $routeParams, $locat
   });
 
   $scope.$on('updateParagraph', function(event, data) {
+    updateParagraphWith(data.paragraph);
+  });
+
+  $scope.$on('patchParagraph', function(event, data) {
+    if (data.paragraphId !== $scope.paragraph.id || $scope.revisionView === true) {
+      return;
+    }
+
+    if ($scope.paragraph.revision !== data.revision - 1) {
+      // missed an update, reload the note to get in sync again
+      websocketMsgSrv.getNote(data.noteId);
+      return;
+    }
+
+    const newPara = angular.extend({}, $scope.paragraph, data.fields);
+    for (let i = 0; i < data.removed.length; i++) {
+      delete newPara[data.removed[i]];
+    }
+    $scope.paragraph.revision = data.revision;
+    updateParagraphWith(newPara);
+  });
+
+  const updateParagraphWith = function(newPara) {
     const oldPara = $scope.paragraph;
-    const newPara = data.paragraph;
 
     if (!isUpdateRequired(oldPara, newPara)) {
       return;
@@ -1480,7 +1505,7 @@ function ParagraphCtrl($scope, $rootScope, $route, $window, $routeParams, $locat
     };
 
     $scope.updateParagraph(oldPara, newPara, updateCallback);
-  });
+  };
 
   $scope.$on('updateProgress', function(event, data) {
     if (data.id === $scope.paragraph.id) {
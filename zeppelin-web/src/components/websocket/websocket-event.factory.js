@@ -60,6 +60,12 @@ function WebsocketEventFactory($rootScope, $websocket, $location, baseUrlSrv) {
     let op = payload.op;
     let data = payload.data;
     if (op === 'NOTE') {
+      if (data.note && data.paragraphRevisions) {
+        for (let i = 0; i < data.note.paragraphs.length; i++) {
+          const paragraph = data.note.paragraphs[i];
+          paragraph.revision = data.paragraphRevisions[paragraph.id] || 0;
+        }
+      }
       $rootScope.$broadcast('setNoteContent', data.note);
     } else if (op === 'NEW_NOTE') {
       $location.path('/notebook/' + data.note.id);
@@ -110,6 +116,8 @@ function WebsocketEventFactory($rootScope, $websocket, $location, baseUrlSrv) {
       });
     } else if (op === 'PARAGRAPH') {
       $rootScope.$broadcast('updateParagraph', data);
+    } else if (op === 'PARAGRAPH_PATCH') {
+      $rootScope.$broadcast('patchParagraph', data);
     } else if (op === 'RUN_PARAGRAPH_USING_SPELL') {
       $rootScope.$broadcast('runParagraphUsingSpell', data);
     } else if (op === 'PARAGRAPH_APPEND_OUTPUT') {
@@ -166,6 +174,7 @@ function WebsocketEventFactory($rootScope, $websocket, $location, baseUrlSrv) {
     } else if (op === 'INTERPRETER_SETTINGS') {
       $rootScope.$broadcast('interpreterSettings', data);
     } else if (op === 'PARAGRAPH_ADDED') {
+      data.paragraph.revision = data.revision || 0;
       $rootScope.$broadcast('addParagraph', data.paragraph, data.index);
     } else if (op === 'PARAGRAPH_REMOVED') {
       $rootScope.$broadcast('removeParagraph', data.id);
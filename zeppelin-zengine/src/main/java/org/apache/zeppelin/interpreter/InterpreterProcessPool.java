@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interpreter processes of an interpreter setting which are started before an interpreter
+ * group needs one, so a new isolated interpreter group does not wait for its process to start.
+ *
+ * A process is started again in the background whenever one is claimed. Processes which are
+ * not claimed within the timeout of the lifecycle manager are stopped, the pool is filled
+ * again on the next claim.
+ */
+public class InterpreterProcessPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterProcessPool.class);
+
+  private static final ExecutorService launchExecutor = Executors.newCachedThreadPool(
+      new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "InterpreterProcessPool-" + threadCount.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        }
+      });
+
+  /**
+   * Starts a process which is not bound to any interpreter group yet.
+   */
+  interface ProcessLauncher {
+    RemoteInterpreterProcess launch() throws Exception;
+  }
+
+  private static class IdleProcess {
+    final RemoteInterpreterProcess process;
+    final long readyTime;
+
+    IdleProcess(RemoteInterpreterProcess process, long readyTime) {
+      this.process = process;
+      this.readyTime = readyTime;
+    }
+  }
+
+  private final String name;
+  private final int size;
+  private final ProcessLauncher launcher;
+  private final LinkedList<IdleProcess> idleProcesses = new LinkedList<>();
+  private int launching = 0;
+  // processes started before the last close are stopped instead of being pooled
+  private int generation = 0;
+
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long launchCount = 0;
+  private long failureCount = 0;
+  private long totalWarmupTime = 0;
+
+  InterpreterProcessPool(String name, int size, ProcessLauncher launcher) {
+    this.name = name;
+    this.size = size;
+    this.launcher = launcher;
+  }
+
+  /**
+   * Takes a started process out of the pool and starts another one in the background.
+   *
+   * @return the process, or null when no started process is available
+   */
+  public RemoteInterpreterProcess claim() {
+    RemoteInterpreterProcess process = null;
+    List<RemoteInterpreterProcess> exited = new LinkedList<>();
+    synchronized (this) {
+      while (process == null && !idleProcesses.isEmpty()) {
+        RemoteInterpreterProcess candidate = idleProcesses.removeFirst().process;
+        if (candidate.isRunning()) {
+          process = candidate;
+        } else {
+          exited.add(candidate);
+        }
+      }
+      if (process != null) {
+        hitCount++;
+      } else {
+        missCount++;
+      }
+      fill();
+    }
+    stop(exited);
+    LOGGER.info("{} interpreter process pool {}, hit rate {}", process != null ? "Hit" : "Miss",
+        name, getHitRate());
+    return process;
+  }
+
+  /**
+   * Starts processes in the background until the pool has size processes.
+   */
+  public synchronized void fill() {
+    final int launchGeneration = generation;
+    for (int i = idleProcesses.size() + launching; i < size; i++) {
+      launching++;
+      launchExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          launch(launchGeneration);
+        }
+      });
+    }
+  }
+
+  private void launch(int launchGeneration) {
+    long start = System.currentTimeMillis();
+    RemoteInterpreterProcess process = null;
+    try {
+      process = launcher.launch();
+    } catch (Exception e) {
+      LOGGER.error("Fail to start interpreter process for pool " + name, e);
+    }
+    long now = System.currentTimeMillis();
+    synchronized (this) {
+      launching--;
+      if (process == null || !process.isRunning()) {
+        failureCount++;
+      } else {
+        launchCount++;
+        totalWarmupTime += now - start;
+        if (launchGeneration == generation) {
+          idleProcesses.add(new IdleProcess(process, now));
+          LOGGER.info("Interpreter process for pool {} is started in {} ms", name, now - start);
+          return;
+        }
+      }
+    }
+    if (process != null) {
+      stop(Collections.singletonList(process));
+    }
+  }
+
+  /**
+   * Stops the processes which were not claimed for longer than the given time.
+   *
+   * @return number of stopped processes
+   */
+  public int recycleIdle(long idleTimeout) {
+    List<RemoteInterpreterProcess> recycled = new LinkedList<>();
+    long now = System.currentTimeMillis();
+    synchronized (this) {
+      Iterator<IdleProcess> it = idleProcesses.iterator();
+      while (it.hasNext()) {
+        IdleProcess idle = it.next();
+        if (now - idle.readyTime > idleTimeout) {
+          it.remove();
+          recycled.add(idle.process);
+        }
+      }
+    }
+    if (!recycled.isEmpty()) {
+      LOGGER.info("Stop {} idle interpreter processes of pool {}", recycled.size(), name);
+    }
+    stop(recycled);
+    return recycled.size();
+  }
+
+  /**
+   * Stops the pooled processes. Processes being started are stopped once they are started.
+   */
+  public void close() {
+    List<RemoteInterpreterProcess> processes = new LinkedList<>();
+    synchronized (this) {
+      generation++;
+      for (IdleProcess idle : idleProcesses) {
+        processes.add(idle.process);
+      }
+      idleProcesses.clear();
+    }
+    stop(processes);
+    LOGGER.info("Interpreter process pool {} closed, hit rate {}, average warm-up {} ms",
+        name, getHitRate(), getAverageWarmupMs());
+  }
+
+  private void stop(List<RemoteInterpreterProcess> processes) {
+    for (RemoteInterpreterProcess process : processes) {
+      try {
+        process.stop();
+      } catch (Exception e) {
+        LOGGER.warn("Fail to stop pooled interpreter process of " + name, e);
+      }
+    }
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public synchronized int getIdleCount() {
+    return idleProcesses.size();
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Ratio of the claims which got a started process.
+   */
+  public synchronized double getHitRate() {
+    long claims = hitCount + missCount;
+    return claims == 0 ? 0 : (double) hitCount / claims;
+  }
+
+  public synchronized long getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * Average time to start a pooled process.
+   */
+  public synchronized long getAverageWarmupMs() {
+    return launchCount == 0 ? 0 : totalWarmupTime / launchCount;
+  }
+}
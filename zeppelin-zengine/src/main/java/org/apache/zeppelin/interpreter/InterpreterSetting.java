@@ -26,6 +26,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.internal.StringMap;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.dep.Dependency;
 import org.apache.zeppelin.dep.DependencyResolver;
@@ -63,6 +64,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE;
 import static org.apache.zeppelin.util.IdHashes.generateId;
 
 /**
@@ -135,6 +137,9 @@ public class InterpreterSetting {
   private transient InterpreterLauncher launcher;
 
   private transient LifecycleManager lifecycleManager;
+
+  // null until the first process is claimed, or when processes are not pooled
+  private transient InterpreterProcessPool processPool;
   ///////////////////////////////////////////////////////////////////////////////////////////
 
 
@@ -481,6 +486,14 @@ public class InterpreterSetting {
 
   public void close() {
     LOGGER.info("Close InterpreterSetting: " + name);
+    synchronized (this) {
+      // the pooled processes were started with the current properties
+      if (processPool != null) {
+        processPool.close();
+        lifecycleManager.onInterpreterProcessPoolClosed(processPool);
+        processPool = null;
+      }
+    }
     for (ManagedInterpreterGroup intpGroup : interpreterGroups.values()) {
       intpGroup.close();
     }
@@ -719,6 +732,59 @@ public class InterpreterSetting {
     return process;
   }
 
+  /**
+   * Takes a started interpreter process of the pool of this setting.
+   *
+   * @return the process, or null when processes of this setting are not pooled or none is
+   * started yet
+   */
+  RemoteInterpreterProcess claimPooledProcess() {
+    InterpreterProcessPool pool;
+    synchronized (this) {
+      if (processPool == null) {
+        int poolSize = getProcessPoolSize();
+        if (poolSize <= 0) {
+          return null;
+        }
+        processPool = new InterpreterProcessPool(name, poolSize,
+            new InterpreterProcessPool.ProcessLauncher() {
+              @Override
+              public RemoteInterpreterProcess launch() throws Exception {
+                RemoteInterpreterProcess process =
+                    createInterpreterProcess(id + ":pool", "anonymous", getJavaProperties());
+                process.start("anonymous");
+                return process;
+              }
+            });
+        lifecycleManager.onInterpreterProcessPoolCreated(processPool);
+      }
+      pool = processPool;
+    }
+    return pool.claim();
+  }
+
+  /**
+   * Processes are only pooled when they do not depend on the user or the interpreter group
+   * they are started for.
+   */
+  private int getProcessPoolSize() {
+    if (!option.isProcess() || option.isExistingProcess() || option.isUserImpersonate()
+        || conf.isRecoveryEnabled()) {
+      return 0;
+    }
+    String size = getJavaProperties().getProperty(
+        ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE.getVarName());
+    if (!StringUtils.isBlank(size)) {
+      return Integer.parseInt(size.trim());
+    }
+    return conf.getInt(ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE);
+  }
+
+  @VisibleForTesting
+  public synchronized InterpreterProcessPool getProcessPool() {
+    return processPool;
+  }
+
   List<Interpreter> getOrCreateSession(String user, String noteId) {
     ManagedInterpreterGroup interpreterGroup = getOrCreateInterpreterGroup(user, noteId);
     Preconditions.checkNotNull(interpreterGroup, "No InterpreterGroup existed for user {}, " +
@@ -32,4 +32,8 @@ public interface LifecycleManager {
   void onInterpreterUse(ManagedInterpreterGroup interpreterGroup,
                         String sessionId);
 
+  void onInterpreterProcessPoolCreated(InterpreterProcessPool processPool);
+
+  void onInterpreterProcessPoolClosed(InterpreterProcessPool processPool);
+
 }
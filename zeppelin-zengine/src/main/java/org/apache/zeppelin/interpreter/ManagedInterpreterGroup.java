@@ -18,6 +18,11 @@
 
 package org.apache.zeppelin.interpreter;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Scheduler;
@@ -29,6 +34,8 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * ManagedInterpreterGroup runs under zeppelin server
@@ -39,6 +46,8 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
 
   private InterpreterSetting interpreterSetting;
   private RemoteInterpreterProcess remoteInterpreterProcess; // attached remote interpreter process
+  // remote interpreter process which is being started
+  private ListenableFuture<RemoteInterpreterProcess> processFuture;
 
   /**
    * Create InterpreterGroup with given id and interpreterSetting, used in ZeppelinServer
@@ -55,22 +64,87 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
     return interpreterSetting;
   }
 
-  public synchronized RemoteInterpreterProcess getOrCreateInterpreterProcess(String userName,
-                                                                             Properties properties)
+  public RemoteInterpreterProcess getOrCreateInterpreterProcess(String userName,
+                                                               Properties properties)
       throws IOException {
-    if (remoteInterpreterProcess == null) {
+    try {
+      return getOrCreateInterpreterProcessAsync(userName, properties).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while starting interpreter process of " + getId(), e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new IOException(e.getCause());
+    } catch (CancellationException e) {
+      throw new IOException("InterpreterGroup " + getId() + " is closed", e);
+    }
+  }
+
+  /**
+   * Starts the interpreter process of this group if it is not started yet, without waiting
+   * for it to be ready.
+   *
+   * @return future which is done when the process is ready and bound to this group
+   */
+  public synchronized ListenableFuture<RemoteInterpreterProcess>
+      getOrCreateInterpreterProcessAsync(String userName, Properties properties) {
+    if (remoteInterpreterProcess != null) {
+      return Futures.immediateFuture(remoteInterpreterProcess);
+    }
+    if (processFuture != null) {
+      return processFuture;
+    }
+    RemoteInterpreterProcess process = null;
+    // pooled processes are started with the properties of the interpreter setting
+    if (properties.equals(interpreterSetting.getJavaProperties())) {
+      process = interpreterSetting.claimPooledProcess();
+    }
+    final ListenableFuture<RemoteInterpreterProcess> started;
+    if (process != null) {
+      LOGGER.info("Use pre-started InterpreterProcess for InterpreterGroup: " + getId());
+      started = Futures.immediateFuture(process);
+    } else {
       LOGGER.info("Create InterpreterProcess for InterpreterGroup: " + getId());
-      remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
-          properties);
-      remoteInterpreterProcess.start(userName);
-      remoteInterpreterProcess.getRemoteInterpreterEventPoller()
-          .setInterpreterProcess(remoteInterpreterProcess);
-      remoteInterpreterProcess.getRemoteInterpreterEventPoller().setInterpreterGroup(this);
-      remoteInterpreterProcess.getRemoteInterpreterEventPoller().start();
-      getInterpreterSetting().getRecoveryStorage()
-          .onInterpreterClientStart(remoteInterpreterProcess);
+      try {
+        process = interpreterSetting.createInterpreterProcess(id, userName, properties);
+        started = process.startAsync(userName);
+      } catch (IOException | RuntimeException e) {
+        return Futures.immediateFailedFuture(e);
+      }
     }
-    return remoteInterpreterProcess;
+    final ListenableFuture<RemoteInterpreterProcess> bound = Futures.transformAsync(started,
+        new AsyncFunction<RemoteInterpreterProcess, RemoteInterpreterProcess>() {
+          @Override
+          public ListenableFuture<RemoteInterpreterProcess> apply(
+              RemoteInterpreterProcess startedProcess) throws Exception {
+            bindInterpreterProcess(startedProcess);
+            return Futures.immediateFuture(startedProcess);
+          }
+        }, MoreExecutors.directExecutor());
+    processFuture = bound;
+    bound.addListener(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (ManagedInterpreterGroup.this) {
+          // a failed start is tried again by the next caller
+          if (processFuture == bound) {
+            processFuture = null;
+          }
+        }
+      }
+    }, MoreExecutors.directExecutor());
+    return bound;
+  }
+
+  private synchronized void bindInterpreterProcess(RemoteInterpreterProcess process)
+      throws IOException {
+    remoteInterpreterProcess = process;
+    remoteInterpreterProcess.getRemoteInterpreterEventPoller()
+        .setInterpreterProcess(remoteInterpreterProcess);
+    remoteInterpreterProcess.getRemoteInterpreterEventPoller().setInterpreterGroup(this);
+    remoteInterpreterProcess.getRemoteInterpreterEventPoller().start();
+    getInterpreterSetting().getRecoveryStorage()
+        .onInterpreterClientStart(remoteInterpreterProcess);
   }
 
   public RemoteInterpreterProcess getInterpreterProcess() {
@@ -104,6 +178,11 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
     if (sessions.isEmpty() && interpreterSetting != null) {
       LOGGER.info("Remove this InterpreterGroup: {} as all the sessions are closed", id);
       interpreterSetting.removeInterpreterGroup(id);
+      if (processFuture != null) {
+        // stops the process which is still starting
+        processFuture.cancel(false);
+        processFuture = null;
+      }
       if (remoteInterpreterProcess != null) {
         LOGGER.info("Kill RemoteInterpreterProcess");
         remoteInterpreterProcess.stop();
@@ -19,6 +19,7 @@
 package org.apache.zeppelin.interpreter.lifecycle;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterProcessPool;
 import org.apache.zeppelin.interpreter.LifecycleManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 
@@ -46,4 +47,14 @@ public class NullLifecycleManager implements LifecycleManager {
   public void onInterpreterUse(ManagedInterpreterGroup interpreterGroup, String sessionId) {
 
   }
+
+  @Override
+  public void onInterpreterProcessPoolCreated(InterpreterProcessPool processPool) {
+
+  }
+
+  @Override
+  public void onInterpreterProcessPoolClosed(InterpreterProcessPool processPool) {
+
+  }
 }
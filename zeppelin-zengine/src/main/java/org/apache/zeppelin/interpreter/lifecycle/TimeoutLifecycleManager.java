@@ -1,12 +1,16 @@
 package org.apache.zeppelin.interpreter.lifecycle;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterProcessPool;
 import org.apache.zeppelin.interpreter.LifecycleManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,7 +22,8 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * For now, this class only manage the lifecycle of interpreter group (will close interpreter
  * process after timeout). Managing the lifecycle of interpreter session could be done in future
- * if necessary.
+ * if necessary. Pre-started interpreter processes which are not claimed before the timeout are
+ * stopped as well.
  */
 public class TimeoutLifecycleManager implements LifecycleManager {
 
@@ -26,6 +31,8 @@ public class TimeoutLifecycleManager implements LifecycleManager {
 
   // ManagerInterpreterGroup -> LastTimeUsing timestamp
   private Map<ManagedInterpreterGroup, Long> interpreterGroups = new ConcurrentHashMap<>();
+  private Set<InterpreterProcessPool> processPools =
+      Collections.newSetFromMap(new ConcurrentHashMap<InterpreterProcessPool, Boolean>());
 
   private long checkInterval;
   private long timeoutThreshold;
@@ -51,6 +58,9 @@ public class TimeoutLifecycleManager implements LifecycleManager {
             interpreterGroups.remove(entry.getKey());
           }
         }
+        for (InterpreterProcessPool processPool : processPools) {
+          processPool.recycleIdle(timeoutThreshold);
+        }
       }
     }, checkInterval, checkInterval);
     LOGGER.info("TimeoutLifecycleManager is started with checkinterval: " + checkInterval
@@ -72,4 +82,19 @@ public class TimeoutLifecycleManager implements LifecycleManager {
   public void onInterpreterUse(ManagedInterpreterGroup interpreterGroup, String sessionId) {
     interpreterGroups.put(interpreterGroup, System.currentTimeMillis());
   }
+
+  @Override
+  public void onInterpreterProcessPoolCreated(InterpreterProcessPool processPool) {
+    processPools.add(processPool);
+  }
+
+  @Override
+  public void onInterpreterProcessPoolClosed(InterpreterProcessPool processPool) {
+    processPools.remove(processPool);
+  }
+
+  @VisibleForTesting
+  Set<InterpreterProcessPool> getProcessPools() {
+    return processPools;
+  }
 }
@@ -62,6 +62,19 @@ public class ClientFactory extends BasePooledObjectFactory<Client>{
     return client;
   }
 
+  /**
+   * Sets the read timeout of the connection of the client, 0 waits forever.
+   */
+  public void setTimeout(Client client, int timeout) {
+    TSocket socket;
+    synchronized (clientSocketMap) {
+      socket = clientSocketMap.get(client);
+    }
+    if (socket != null) {
+      socket.setTimeout(timeout);
+    }
+  }
+
   @Override
   public PooledObject<Client> wrap(Client client) {
     return new DefaultPooledObject<>(client);
@@ -34,6 +34,7 @@ import java.util.List;
  */
 public class RemoteAngularObjectRegistry extends AngularObjectRegistry {
   Logger logger = LoggerFactory.getLogger(RemoteAngularObjectRegistry.class);
+  private static final Gson gson = new Gson();
   private ManagedInterpreterGroup interpreterGroup;
 
   public RemoteAngularObjectRegistry(String interpreterId,
@@ -69,7 +70,6 @@ public class RemoteAngularObjectRegistry extends AngularObjectRegistry {
         new RemoteInterpreterProcess.RemoteFunction<Void>() {
           @Override
           public Void call(Client client) throws Exception {
-            Gson gson = new Gson();
             client.angularObjectAdd(name, noteId, paragraphId, gson.toJson(o));
             return null;
           }
@@ -18,10 +18,14 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import org.apache.commons.lang.StringUtils;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.display.GUI;
@@ -51,6 +55,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Proxy for Interpreter instance that runs on separate process
@@ -58,13 +65,14 @@ import java.util.Properties;
 public class RemoteInterpreter extends Interpreter {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreter.class);
   private static final Gson gson = new Gson();
+  private static final long JOB_STATUS_CHECK_INTERVAL_MS = 10 * 1000;
 
 
   private String className;
   private String sessionId;
   private FormType formType;
 
-  private RemoteInterpreterProcess interpreterProcess;
+  private volatile RemoteInterpreterProcess interpreterProcess;
   private volatile boolean isOpened = false;
   private volatile boolean isCreated = false;
 
@@ -112,6 +120,19 @@ public class RemoteInterpreter extends Interpreter {
     return interpreterProcess;
   }
 
+  /**
+   * Starts the interpreter process in the background if it is not started yet.
+   *
+   * @return future which is done when the process is ready
+   */
+  public ListenableFuture<RemoteInterpreterProcess> getOrCreateInterpreterProcessAsync() {
+    RemoteInterpreterProcess process = this.interpreterProcess;
+    if (process != null) {
+      return Futures.immediateFuture(process);
+    }
+    return getInterpreterGroup().getOrCreateInterpreterProcessAsync(getUserName(), properties);
+  }
+
   public ManagedInterpreterGroup getInterpreterGroup() {
     return (ManagedInterpreterGroup) super.getInterpreterGroup();
   }
@@ -225,44 +246,98 @@ public class RemoteInterpreter extends Interpreter {
       interpreterContextRunnerPool.addAll(noteId, runners);
     }
     this.lifecycleManager.onInterpreterUse(this.getInterpreterGroup(), sessionId);
-    return interpreterProcess.callRemoteFunction(
-        new RemoteInterpreterProcess.RemoteFunction<InterpreterResult>() {
-          @Override
-          public InterpreterResult call(Client client) throws Exception {
-
-            RemoteInterpreterResult remoteResult = client.interpret(
-                sessionId, className, st, convert(context));
-            Map<String, Object> remoteConfig = (Map<String, Object>) gson.fromJson(
-                remoteResult.getConfig(), new TypeToken<Map<String, Object>>() {
-                }.getType());
-            context.getConfig().clear();
-            context.getConfig().putAll(remoteConfig);
-            GUI currentGUI = context.getGui();
-            GUI currentNoteGUI = context.getNoteGui();
-            if (form == FormType.NATIVE) {
-              GUI remoteGui = GUI.fromJson(remoteResult.getGui());
-              GUI remoteNoteGui = GUI.fromJson(remoteResult.getNoteGui());
-              currentGUI.clear();
-              currentGUI.setParams(remoteGui.getParams());
-              currentGUI.setForms(remoteGui.getForms());
-              currentNoteGUI.setParams(remoteNoteGui.getParams());
-              currentNoteGUI.setForms(remoteNoteGui.getForms());
-            } else if (form == FormType.SIMPLE) {
-              final Map<String, Input> currentForms = currentGUI.getForms();
-              final Map<String, Object> currentParams = currentGUI.getParams();
-              final GUI remoteGUI = GUI.fromJson(remoteResult.getGui());
-              final Map<String, Input> remoteForms = remoteGUI.getForms();
-              final Map<String, Object> remoteParams = remoteGUI.getParams();
-              currentForms.putAll(remoteForms);
-              currentParams.putAll(remoteParams);
-            }
+    RemoteInterpreterResult remoteResult =
+        submitAndWaitForResult(interpreterProcess, st, context);
+
+    Map<String, Object> remoteConfig = (Map<String, Object>) gson.fromJson(
+        remoteResult.getConfig(), new TypeToken<Map<String, Object>>() {
+        }.getType());
+    context.getConfig().clear();
+    context.getConfig().putAll(remoteConfig);
+    GUI currentGUI = context.getGui();
+    GUI currentNoteGUI = context.getNoteGui();
+    if (form == FormType.NATIVE) {
+      GUI remoteGui = GUI.fromJson(remoteResult.getGui());
+      GUI remoteNoteGui = GUI.fromJson(remoteResult.getNoteGui());
+      currentGUI.clear();
+      currentGUI.setParams(remoteGui.getParams());
+      currentGUI.setForms(remoteGui.getForms());
+      currentNoteGUI.setParams(remoteNoteGui.getParams());
+      currentNoteGUI.setForms(remoteNoteGui.getForms());
+    } else if (form == FormType.SIMPLE) {
+      final Map<String, Input> currentForms = currentGUI.getForms();
+      final Map<String, Object> currentParams = currentGUI.getParams();
+      final GUI remoteGUI = GUI.fromJson(remoteResult.getGui());
+      final Map<String, Input> remoteForms = remoteGUI.getForms();
+      final Map<String, Object> remoteParams = remoteGUI.getParams();
+      currentForms.putAll(remoteForms);
+      currentParams.putAll(remoteParams);
+    }
 
-            InterpreterResult result = convert(remoteResult);
-            return result;
-          }
+    InterpreterResult result = convert(remoteResult);
+    return result;
+  }
+
+  /**
+   * Submits the paragraph to the interpreter process and waits until it tells the job finished,
+   * then fetches the result. No connection is held while the job runs.
+   */
+  private RemoteInterpreterResult submitAndWaitForResult(
+      RemoteInterpreterProcess interpreterProcess, final String st,
+      final InterpreterContext context) throws InterpreterException {
+    // the job of the interpreter process is identified by the paragraph id
+    final String jobId = context.getParagraphId();
+    ListenableFuture<Void> finished = interpreterProcess.addSubmittedJob(sessionId, jobId);
+    try {
+      interpreterProcess.callRemoteFunction(new RemoteInterpreterProcess.RemoteFunction<Void>() {
+        @Override
+        public Void call(Client client) throws Exception {
+          client.submit(sessionId, className, st, convert(context));
+          return null;
         }
-    );
+      });
+      waitForJob(interpreterProcess, jobId, finished);
+      return interpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<RemoteInterpreterResult>() {
+            @Override
+            public RemoteInterpreterResult call(Client client) throws Exception {
+              return client.getJobResult(sessionId, jobId);
+            }
+          });
+    } finally {
+      interpreterProcess.removeSubmittedJob(sessionId, jobId);
+    }
+  }
 
+  private void waitForJob(RemoteInterpreterProcess interpreterProcess, String jobId,
+                          ListenableFuture<Void> finished) throws InterpreterException {
+    boolean terminated = false;
+    while (true) {
+      try {
+        finished.get(JOB_STATUS_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        return;
+      } catch (TimeoutException e) {
+        // the JOB_FINISHED event is lost when the event poller drops the unread events, so check
+        // the status once in a while. A job which is not pending or running on two checks in a
+        // row has stored its result.
+        if (!interpreterProcess.isRunning()) {
+          throw new InterpreterException("Interpreter process is not running, job " + jobId
+              + " of " + className + " is lost");
+        }
+        Job.Status status = Job.Status.valueOf(getStatus(jobId));
+        if (status.isPending() || status.isRunning()) {
+          terminated = false;
+        } else if (terminated) {
+          return;
+        } else {
+          terminated = true;
+        }
+      } catch (ExecutionException e) {
+        throw new InterpreterException(e.getCause());
+      } catch (InterruptedException e) {
+        throw new InterpreterException(e);
+      }
+    }
   }
 
   @Override
@@ -313,7 +388,7 @@ public class RemoteInterpreter extends Interpreter {
             formType = FormType.valueOf(client.getFormType(sessionId, className));
             return formType;
           }
-        });
+        }, interpreterProcess.getRpcTimeout());
     return type;
   }
 
@@ -337,7 +412,7 @@ public class RemoteInterpreter extends Interpreter {
           public Integer call(Client client) throws Exception {
             return client.getProgress(sessionId, className, convert(context));
           }
-        });
+        }, interpreterProcess.getRpcTimeout());
   }
 
 
@@ -362,7 +437,7 @@ public class RemoteInterpreter extends Interpreter {
             return client.completion(sessionId, className, buf, cursor,
                 convert(interpreterContext));
           }
-        });
+        }, interpreterProcess.getRpcTimeout());
   }
 
   public String getStatus(final String jobId) {
@@ -383,25 +458,52 @@ public class RemoteInterpreter extends Interpreter {
           public String call(Client client) throws Exception {
             return client.getStatus(sessionId, jobId);
           }
-        });
+        }, interpreterProcess.getRpcTimeout());
   }
 
 
   @Override
   public Scheduler getScheduler() {
-    int maxConcurrency = Integer.parseInt(
-        getProperty("zeppelin.interpreter.max.poolsize",
-            ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE.getIntValue() + ""));
+    int maxConcurrency = getIntProperty("zeppelin.interpreter.max.poolsize",
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE.getIntValue());
     // one session own one Scheduler, so that when one session is closed, all the jobs/paragraphs
     // running under the scheduler of this session will be aborted.
-    Scheduler s = new RemoteScheduler(
+    RemoteScheduler created = new RemoteScheduler(
         RemoteInterpreter.class.getName() + "-" + getInterpreterGroup().getId() + "-" + sessionId,
         SchedulerFactory.singleton().getExecutor(),
         sessionId,
         this,
         SchedulerFactory.singleton(),
         maxConcurrency);
-    return SchedulerFactory.singleton().createOrGetScheduler(s);
+    Scheduler s = SchedulerFactory.singleton().createOrGetScheduler(created);
+    if (s == created) {
+      // paragraphs of the users sharing this session are scheduled fairly between them
+      ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+      created.setMaxConcurrencyPerTenant(
+          getIntProperty("zeppelin.interpreter.scheduler.user.maxConcurrency",
+              conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_SCHEDULER_USER_MAX_CONCURRENCY)));
+      created.setTenantWeights(
+          getProperty("zeppelin.interpreter.scheduler.user.weights",
+              conf.getString(ConfVars.ZEPPELIN_INTERPRETER_SCHEDULER_USER_WEIGHTS)));
+    }
+    return s;
+  }
+
+  /**
+   * Interpreter properties are edited by users, an invalid value falls back to the default.
+   */
+  private int getIntProperty(String name, int defaultValue) {
+    String value = getProperty(name);
+    if (StringUtils.isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Invalid value '" + value + "' of interpreter property " + name
+          + ", use default " + defaultValue);
+      return defaultValue;
+    }
   }
 
   private RemoteInterpreterContext convert(InterpreterContext ic) {
@@ -63,7 +63,7 @@ public class RemoteInterpreterEventPoller extends Thread {
   private RemoteInterpreterProcess interpreterProcess;
   private ManagedInterpreterGroup interpreterGroup;
 
-  Gson gson = new Gson();
+  private static final Gson gson = new Gson();
 
   public RemoteInterpreterEventPoller(
       RemoteInterpreterProcessListener listener,
@@ -90,11 +90,7 @@ public class RemoteInterpreterEventPoller extends Thread {
     while (!shutdown) {
       // wait and retry
       if (!interpreterProcess.isRunning()) {
-        try {
-          Thread.sleep(1000);
-        } catch (InterruptedException e) {
-          // nothing to do
-        }
+        waitQuietly();
         continue;
       }
 
@@ -107,147 +103,21 @@ public class RemoteInterpreterEventPoller extends Thread {
           }
       );
 
-      AngularObjectRegistry angularObjectRegistry = interpreterGroup.getAngularObjectRegistry();
-
-      try {
-        if (event.getType() != RemoteInterpreterEventType.NO_OP) {
-          logger.debug("Receive message from RemoteInterpreter Process: " + event.toString());
-        }
-        if (event.getType() == RemoteInterpreterEventType.NO_OP) {
+      if (event.getType() == RemoteInterpreterEventType.EVENT_BATCH) {
+        List<RemoteInterpreterEvent> events;
+        try {
+          events = gson.fromJson(event.getData(),
+              new TypeToken<List<RemoteInterpreterEvent>>() {}.getType());
+        } catch (Exception e) {
+          logger.error("Can't handle event " + event, e);
           continue;
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_ADD) {
-          AngularObject angularObject = AngularObject.fromJson(event.getData());
-          angularObjectRegistry.add(angularObject.getName(),
-              angularObject.get(), angularObject.getNoteId(), angularObject.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE) {
-          AngularObject angularObject = AngularObject.fromJson(event.getData());
-          AngularObject localAngularObject = angularObjectRegistry.get(
-              angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
-          if (localAngularObject instanceof RemoteAngularObject) {
-            // to avoid ping-pong loop
-            ((RemoteAngularObject) localAngularObject).set(
-                angularObject.get(), true, false);
-          } else {
-            localAngularObject.set(angularObject.get());
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE) {
-          AngularObject angularObject = AngularObject.fromJson(event.getData());
-          angularObjectRegistry.remove(angularObject.getName(), angularObject.getNoteId(),
-                  angularObject.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.RUN_INTERPRETER_CONTEXT_RUNNER) {
-          InterpreterContextRunner runnerFromRemote = gson.fromJson(
-              event.getData(), RemoteInterpreterContextRunner.class);
-
-          listener.onRemoteRunParagraph(
-              runnerFromRemote.getNoteId(), runnerFromRemote.getParagraphId());
-
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL) {
-          ResourceSet resourceSet = getAllResourcePoolExcept();
-          sendResourcePoolResponseGetAll(resourceSet);
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_GET) {
-          String resourceIdString = event.getData();
-          ResourceId resourceId = ResourceId.fromJson(resourceIdString);
-          logger.debug("RESOURCE_GET {} {}", resourceId.getResourcePoolId(), resourceId.getName());
-          Object o = getResource(resourceId);
-          sendResourceResponseGet(resourceId, o);
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD) {
-          String message = event.getData();
-          InvokeResourceMethodEventMessage invokeMethodMessage =
-              InvokeResourceMethodEventMessage.fromJson(message);
-          Object ret = invokeResourceMethod(invokeMethodMessage);
-          sendInvokeMethodResult(invokeMethodMessage, ret);
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_APPEND) {
-          // on output append
-          Map<String, String> outputAppend = gson.fromJson(
-                  event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
-          String noteId = (String) outputAppend.get("noteId");
-          String paragraphId = (String) outputAppend.get("paragraphId");
-          int index = Integer.parseInt(outputAppend.get("index"));
-          String outputToAppend = (String) outputAppend.get("data");
-
-          String appId = (String) outputAppend.get("appId");
-
-          if (appId == null) {
-            runner.appendBuffer(noteId, paragraphId, index, outputToAppend);
-          } else {
-            appListener.onOutputAppend(noteId, paragraphId, index, appId, outputToAppend);
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE_ALL) {
-          Map<String, Object> outputUpdate = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
-          String noteId = (String) outputUpdate.get("noteId");
-          String paragraphId = (String) outputUpdate.get("paragraphId");
-
-          // clear the output
-          List<Map<String, String>> messages =
-              (List<Map<String, String>>) outputUpdate.get("messages");
-
-          if (messages != null) {
-            listener.onOutputClear(noteId, paragraphId);
-            for (int i = 0; i < messages.size(); i++) {
-              Map<String, String> m = messages.get(i);
-              InterpreterResult.Type type =
-                  InterpreterResult.Type.valueOf((String) m.get("type"));
-              String outputToUpdate = (String) m.get("data");
-
-              listener.onOutputUpdated(noteId, paragraphId, i, type, outputToUpdate);
-            }
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE) {
-          // on output update
-          Map<String, String> outputAppend = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
-          String noteId = (String) outputAppend.get("noteId");
-          String paragraphId = (String) outputAppend.get("paragraphId");
-          int index = Integer.parseInt(outputAppend.get("index"));
-          InterpreterResult.Type type =
-              InterpreterResult.Type.valueOf((String) outputAppend.get("type"));
-          String outputToUpdate = (String) outputAppend.get("data");
-          String appId = (String) outputAppend.get("appId");
-
-          if (appId == null) {
-            listener.onOutputUpdated(noteId, paragraphId, index, type, outputToUpdate);
-          } else {
-            appListener.onOutputUpdated(noteId, paragraphId, index, appId, type, outputToUpdate);
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.APP_STATUS_UPDATE) {
-          // on output update
-          Map<String, String> appStatusUpdate = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, String>>() {}.getType());
-
-          String noteId = appStatusUpdate.get("noteId");
-          String paragraphId = appStatusUpdate.get("paragraphId");
-          String appId = appStatusUpdate.get("appId");
-          String status = appStatusUpdate.get("status");
-
-          appListener.onStatusChange(noteId, paragraphId, appId, status);
-        } else if (event.getType() == RemoteInterpreterEventType.REMOTE_ZEPPELIN_SERVER_RESOURCE) {
-          RemoteZeppelinServerResource reqResourceBody = RemoteZeppelinServerResource.fromJson(
-              event.getData());
-          progressRemoteZeppelinControlEvent(
-              reqResourceBody.getResourceType(), listener, reqResourceBody);
-
-        } else if (event.getType() == RemoteInterpreterEventType.META_INFOS) {
-          Map<String, String> metaInfos = gson.fromJson(event.getData(),
-              new TypeToken<Map<String, String>>() {
-              }.getType());
-          String settingId = RemoteInterpreterUtils.
-              getInterpreterSettingId(interpreterGroup.getId());
-          listener.onMetaInfosReceived(settingId, metaInfos);
-        } else if (event.getType() == RemoteInterpreterEventType.PARA_INFOS) {
-          Map<String, String> paraInfos = gson.fromJson(event.getData(),
-              new TypeToken<Map<String, String>>() {
-              }.getType());
-          String noteId = paraInfos.get("noteId");
-          String paraId = paraInfos.get("paraId");
-          String settingId = RemoteInterpreterUtils.
-              getInterpreterSettingId(interpreterGroup.getId());
-          if (noteId != null && paraId != null && settingId != null) {
-            listener.onParaInfosReceived(noteId, paraId, settingId, paraInfos);
-          }
         }
-      } catch (Exception e) {
-        logger.error("Can't handle event " + event, e);
+        logger.debug("Receive batch of {} events from RemoteInterpreter Process", events.size());
+        for (RemoteInterpreterEvent batchedEvent : events) {
+          handleEvent(batchedEvent, runner);
+        }
+      } else {
+        handleEvent(event, runner);
       }
     }
     try {
@@ -264,6 +134,156 @@ public class RemoteInterpreterEventPoller extends Thread {
     }
   }
 
+  private void handleEvent(RemoteInterpreterEvent event, AppendOutputRunner runner) {
+    AngularObjectRegistry angularObjectRegistry = interpreterGroup.getAngularObjectRegistry();
+
+    try {
+      if (event.getType() != RemoteInterpreterEventType.NO_OP) {
+        logger.debug("Receive message from RemoteInterpreter Process: " + event.toString());
+      }
+      if (event.getType() == RemoteInterpreterEventType.NO_OP) {
+        return;
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_ADD) {
+        AngularObject angularObject = AngularObject.fromJson(event.getData());
+        angularObjectRegistry.add(angularObject.getName(),
+            angularObject.get(), angularObject.getNoteId(), angularObject.getParagraphId());
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE) {
+        AngularObject angularObject = AngularObject.fromJson(event.getData());
+        AngularObject localAngularObject = angularObjectRegistry.get(
+            angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
+        if (localAngularObject instanceof RemoteAngularObject) {
+          // to avoid ping-pong loop
+          ((RemoteAngularObject) localAngularObject).set(
+              angularObject.get(), true, false);
+        } else {
+          localAngularObject.set(angularObject.get());
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE) {
+        AngularObject angularObject = AngularObject.fromJson(event.getData());
+        angularObjectRegistry.remove(angularObject.getName(), angularObject.getNoteId(),
+                angularObject.getParagraphId());
+      } else if (event.getType() == RemoteInterpreterEventType.RUN_INTERPRETER_CONTEXT_RUNNER) {
+        InterpreterContextRunner runnerFromRemote = gson.fromJson(
+            event.getData(), RemoteInterpreterContextRunner.class);
+
+        listener.onRemoteRunParagraph(
+            runnerFromRemote.getNoteId(), runnerFromRemote.getParagraphId());
+
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL) {
+        ResourceSet resourceSet = getAllResourcePoolExcept();
+        sendResourcePoolResponseGetAll(resourceSet);
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_GET) {
+        String resourceIdString = event.getData();
+        ResourceId resourceId = ResourceId.fromJson(resourceIdString);
+        logger.debug("RESOURCE_GET {} {}", resourceId.getResourcePoolId(), resourceId.getName());
+        Object o = getResource(resourceId);
+        sendResourceResponseGet(resourceId, o);
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_INVOKE_METHOD) {
+        String message = event.getData();
+        InvokeResourceMethodEventMessage invokeMethodMessage =
+            InvokeResourceMethodEventMessage.fromJson(message);
+        Object ret = invokeResourceMethod(invokeMethodMessage);
+        sendInvokeMethodResult(invokeMethodMessage, ret);
+      } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_APPEND) {
+        // on output append
+        Map<String, String> outputAppend = gson.fromJson(
+                event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
+        String noteId = (String) outputAppend.get("noteId");
+        String paragraphId = (String) outputAppend.get("paragraphId");
+        int index = Integer.parseInt(outputAppend.get("index"));
+        String outputToAppend = (String) outputAppend.get("data");
+
+        String appId = (String) outputAppend.get("appId");
+
+        if (appId == null) {
+          runner.appendBuffer(noteId, paragraphId, index, outputToAppend);
+        } else {
+          appListener.onOutputAppend(noteId, paragraphId, index, appId, outputToAppend);
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE_ALL) {
+        Map<String, Object> outputUpdate = gson.fromJson(
+            event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
+        String noteId = (String) outputUpdate.get("noteId");
+        String paragraphId = (String) outputUpdate.get("paragraphId");
+
+        // clear the output
+        List<Map<String, String>> messages =
+            (List<Map<String, String>>) outputUpdate.get("messages");
+
+        if (messages != null) {
+          listener.onOutputClear(noteId, paragraphId);
+          for (int i = 0; i < messages.size(); i++) {
+            Map<String, String> m = messages.get(i);
+            InterpreterResult.Type type =
+                InterpreterResult.Type.valueOf((String) m.get("type"));
+            String outputToUpdate = (String) m.get("data");
+
+            listener.onOutputUpdated(noteId, paragraphId, i, type, outputToUpdate);
+          }
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE) {
+        // on output update
+        Map<String, String> outputAppend = gson.fromJson(
+            event.getData(), new TypeToken<Map<String, Object>>() {}.getType());
+        String noteId = (String) outputAppend.get("noteId");
+        String paragraphId = (String) outputAppend.get("paragraphId");
+        int index = Integer.parseInt(outputAppend.get("index"));
+        InterpreterResult.Type type =
+            InterpreterResult.Type.valueOf((String) outputAppend.get("type"));
+        String outputToUpdate = (String) outputAppend.get("data");
+        String appId = (String) outputAppend.get("appId");
+
+        if (appId == null) {
+          listener.onOutputUpdated(noteId, paragraphId, index, type, outputToUpdate);
+        } else {
+          appListener.onOutputUpdated(noteId, paragraphId, index, appId, type, outputToUpdate);
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.APP_STATUS_UPDATE) {
+        // on output update
+        Map<String, String> appStatusUpdate = gson.fromJson(
+            event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+
+        String noteId = appStatusUpdate.get("noteId");
+        String paragraphId = appStatusUpdate.get("paragraphId");
+        String appId = appStatusUpdate.get("appId");
+        String status = appStatusUpdate.get("status");
+
+        appListener.onStatusChange(noteId, paragraphId, appId, status);
+      } else if (event.getType() == RemoteInterpreterEventType.REMOTE_ZEPPELIN_SERVER_RESOURCE) {
+        RemoteZeppelinServerResource reqResourceBody = RemoteZeppelinServerResource.fromJson(
+            event.getData());
+        progressRemoteZeppelinControlEvent(
+            reqResourceBody.getResourceType(), listener, reqResourceBody);
+
+      } else if (event.getType() == RemoteInterpreterEventType.META_INFOS) {
+        Map<String, String> metaInfos = gson.fromJson(event.getData(),
+            new TypeToken<Map<String, String>>() {
+            }.getType());
+        String settingId = RemoteInterpreterUtils.
+            getInterpreterSettingId(interpreterGroup.getId());
+        listener.onMetaInfosReceived(settingId, metaInfos);
+      } else if (event.getType() == RemoteInterpreterEventType.PARA_INFOS) {
+        Map<String, String> paraInfos = gson.fromJson(event.getData(),
+            new TypeToken<Map<String, String>>() {
+            }.getType());
+        String noteId = paraInfos.get("noteId");
+        String paraId = paraInfos.get("paraId");
+        String settingId = RemoteInterpreterUtils.
+            getInterpreterSettingId(interpreterGroup.getId());
+        if (noteId != null && paraId != null && settingId != null) {
+          listener.onParaInfosReceived(noteId, paraId, settingId, paraInfos);
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.JOB_FINISHED) {
+        Map<String, String> jobFinished = gson.fromJson(event.getData(),
+            new TypeToken<Map<String, String>>() {
+            }.getType());
+        interpreterProcess.onJobFinished(jobFinished.get("sessionKey"), jobFinished.get("jobId"));
+      }
+    } catch (Exception e) {
+      logger.error("Can't handle event " + event, e);
+    }
+  }
+
   private void clearUnreadEvents(Client client) throws TException {
     while (client.getEvent().getType() != RemoteInterpreterEventType.NO_OP) {}
   }
@@ -273,7 +293,6 @@ public class RemoteInterpreterEventPoller extends Thread {
       RemoteInterpreterProcessListener remoteWorksEventListener,
       RemoteZeppelinServerResource reqResourceBody) throws Exception {
     boolean broken = false;
-    final Gson gson = new Gson();
     final String eventOwnerKey = reqResourceBody.getOwnerKey();
     try {
       if (resourceType == RemoteZeppelinServerResource.Type.PARAGRAPH_RUNNERS) {
@@ -470,7 +489,7 @@ public class RemoteInterpreterEventPoller extends Thread {
             return res.invokeMethod(
                 message.methodName,
                 message.getParamTypes(),
-                message.params,
+                message.getParams(),
                 message.returnResourceName);
           } catch (Exception e) {
             logger.error(e.getMessage(), e);
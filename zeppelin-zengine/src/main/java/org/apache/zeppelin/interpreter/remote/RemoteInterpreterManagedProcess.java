@@ -18,6 +18,12 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import org.apache.commons.exec.CommandLine;
 import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.ExecuteException;
@@ -41,6 +47,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -66,6 +79,20 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
   private final boolean isUserImpersonated;
 
   private Map<String, String> env;
+  // done once the process registered itself, reset when the process is stopped
+  private SettableFuture<RemoteInterpreterProcess> readyFuture;
+  // output of the process until it is ready, reported when it fails to start
+  private ByteArrayOutputStream startOutput;
+
+  private static final ScheduledExecutorService startTimeoutExecutor =
+      Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "RemoteInterpreterStartTimeout");
+          t.setDaemon(true);
+          return t;
+        }
+      });
 
   public RemoteInterpreterManagedProcess(
       String intpRunner,
@@ -100,6 +127,29 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
 
   @Override
   public void start(String userName) {
+    try {
+      startAsync(userName).get();
+    } catch (InterruptedException e) {
+      logger.error("Remote interpreter is not accessible");
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Launches the interpreter process. The returned future is done when the process registers
+   * itself through the callback server, so no thread waits while the process starts.
+   */
+  @Override
+  public synchronized ListenableFuture<RemoteInterpreterProcess> startAsync(String userName) {
+    if (readyFuture != null) {
+      return readyFuture;
+    }
+    final SettableFuture<RemoteInterpreterProcess> future = SettableFuture.create();
+    readyFuture = future;
+
     // start server process
     final String callbackHost;
     final int callbackPort;
@@ -109,51 +159,42 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
       callbackPort = tSocket.getServerSocket().getLocalPort();
       callbackHost = RemoteInterpreterUtils.findAvailableHostAddress();
     } catch (IOException e1) {
+      readyFuture = null;
       throw new RuntimeException(e1);
     }
 
     logger.info("Thrift server for callback will start. Port: {}", callbackPort);
-    try {
-      callbackServer = new TThreadPoolServer(
-        new TThreadPoolServer.Args(tSocket).processor(
-          new RemoteInterpreterCallbackService.Processor<>(
-            new RemoteInterpreterCallbackService.Iface() {
-              @Override
-              public void callback(CallbackInfo callbackInfo) throws TException {
-                logger.info("RemoteInterpreterServer Registered: {}", callbackInfo);
-                host = callbackInfo.getHost();
-                port = callbackInfo.getPort();
-                running.set(true);
-                synchronized (running) {
-                  running.notify();
-                }
-              }
-            })));
-      // Start thrift server to receive callbackInfo from RemoteInterpreterServer;
-      new Thread(new Runnable() {
-        @Override
-        public void run() {
-          callbackServer.serve();
-        }
-      }).start();
+    callbackServer = new TThreadPoolServer(
+      new TThreadPoolServer.Args(tSocket).processor(
+        new RemoteInterpreterCallbackService.Processor<>(
+          new RemoteInterpreterCallbackService.Iface() {
+            @Override
+            public void callback(CallbackInfo callbackInfo) throws TException {
+              logger.info("RemoteInterpreterServer Registered: {}", callbackInfo);
+              host = callbackInfo.getHost();
+              port = callbackInfo.getPort();
+              running.set(true);
+              future.set(RemoteInterpreterManagedProcess.this);
+            }
+          })));
+    // Start thrift server to receive callbackInfo from RemoteInterpreterServer.
+    // The socket is already bound, so the process can connect before the server is serving
+    final TServer server = callbackServer;
+    new Thread(new Runnable() {
+      @Override
+      public void run() {
+        server.serve();
+      }
+    }).start();
 
-      Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
-        @Override
-        public void run() {
-          if (callbackServer.isServing()) {
-            callbackServer.stop();
-          }
+    Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+      @Override
+      public void run() {
+        if (server.isServing()) {
+          server.stop();
         }
-      }));
-
-      while (!callbackServer.isServing()) {
-        logger.debug("callbackServer is not serving");
-        Thread.sleep(500);
       }
-      logger.debug("callbackServer is serving now");
-    } catch (InterruptedException e) {
-      logger.warn("", e);
-    }
+    }));
 
     CommandLine cmdLine = CommandLine.parse(interpreterRunner);
     cmdLine.addArgument("-d", false);
@@ -175,13 +216,39 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
 
     executor = new DefaultExecutor();
 
-    ByteArrayOutputStream cmdOut = new ByteArrayOutputStream();
-    ProcessLogOutputStream processOutput = new ProcessLogOutputStream(logger);
+    final ByteArrayOutputStream cmdOut = new ByteArrayOutputStream();
+    final ProcessLogOutputStream processOutput = new ProcessLogOutputStream(logger);
     processOutput.setOutputStream(cmdOut);
+    startOutput = cmdOut;
 
     executor.setStreamHandler(new PumpStreamHandler(processOutput));
     watchdog = new ExecuteWatchdog(ExecuteWatchdog.INFINITE_TIMEOUT);
     executor.setWatchdog(watchdog);
+    final ExecuteWatchdog processWatchdog = watchdog;
+
+    Futures.addCallback(future, new FutureCallback<RemoteInterpreterProcess>() {
+      @Override
+      public void onSuccess(RemoteInterpreterProcess process) {
+        processOutput.setOutputStream(null);
+      }
+
+      @Override
+      public void onFailure(Throwable t) {
+        processOutput.setOutputStream(null);
+        synchronized (RemoteInterpreterManagedProcess.this) {
+          // allow to start again
+          if (readyFuture == future) {
+            readyFuture = null;
+          }
+        }
+        if (server.isServing()) {
+          server.stop();
+        }
+        if (t instanceof CancellationException) {
+          processWatchdog.destroyProcess();
+        }
+      }
+    }, MoreExecutors.directExecutor());
 
     try {
       Map procEnv = EnvironmentUtils.getProcEnvironment();
@@ -191,23 +258,26 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
       executor.execute(cmdLine, procEnv, this);
     } catch (IOException e) {
       running.set(false);
+      future.setException(e);
       throw new RuntimeException(e);
     }
 
-    try {
-      synchronized (running) {
-        if (!running.get()) {
-          running.wait(getConnectTimeout() * 2);
+    final ScheduledFuture<?> timeout = startTimeoutExecutor.schedule(new Runnable() {
+      @Override
+      public void run() {
+        if (future.setException(new RuntimeException(new String(cmdOut.toByteArray())))) {
+          logger.error("Interpreter process {} did not register within {} ms",
+              interpreterSettingName, getConnectTimeout() * 2);
         }
       }
-      if (!running.get()) {
-        callbackServer.stop();
-        throw new RuntimeException(new String(cmdOut.toByteArray()));
+    }, getConnectTimeout() * 2, TimeUnit.MILLISECONDS);
+    future.addListener(new Runnable() {
+      @Override
+      public void run() {
+        timeout.cancel(false);
       }
-    } catch (InterruptedException e) {
-      logger.error("Remote interpreter is not accessible");
-    }
-    processOutput.setOutputStream(null);
+    }, MoreExecutors.directExecutor());
+    return future;
   }
 
   public void stop() {
@@ -232,6 +302,15 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
       watchdog.destroyProcess();
     }
 
+    SettableFuture<RemoteInterpreterProcess> starting;
+    synchronized (this) {
+      starting = readyFuture;
+      readyFuture = null;
+    }
+    if (starting != null) {
+      starting.cancel(false);
+    }
+    closeClientPools();
     executor = null;
     watchdog = null;
     running.set(false);
@@ -242,13 +321,28 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess
   public void onProcessComplete(int exitValue) {
     logger.info("Interpreter process exited {}", exitValue);
     running.set(false);
-
+    failStart("Interpreter process exited " + exitValue);
   }
 
   @Override
   public void onProcessFailed(ExecuteException e) {
     logger.info("Interpreter process failed {}", e);
     running.set(false);
+    failStart("Interpreter process failed " + e.getMessage());
+  }
+
+  private void failStart(String reason) {
+    SettableFuture<RemoteInterpreterProcess> starting;
+    String output;
+    synchronized (this) {
+      if (readyFuture == null || readyFuture.isDone()) {
+        return;
+      }
+      starting = readyFuture;
+      output = new String(startOutput.toByteArray());
+    }
+    // listeners of the future are not called with the lock of this process
+    starting.setException(new RuntimeException(reason + "\n" + output));
   }
 
   @VisibleForTesting
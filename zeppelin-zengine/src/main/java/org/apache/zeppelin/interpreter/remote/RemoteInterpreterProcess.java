@@ -16,9 +16,16 @@
  */
 package org.apache.zeppelin.interpreter.remote;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.gson.Gson;
 import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.helium.ApplicationEventListener;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
@@ -26,21 +33,46 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.SocketTimeoutException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Abstract class for interpreter process
  */
 public abstract class RemoteInterpreterProcess implements InterpreterClient {
   private static final Logger logger = LoggerFactory.getLogger(RemoteInterpreterProcess.class);
+  private static final Gson gson = new Gson();
 
   private GenericObjectPool<Client> clientPool;
   private RemoteInterpreterEventPoller remoteInterpreterEventPoller;
   private final InterpreterContextRunnerPool interpreterContextRunnerPool;
   private int connectTimeout;
+  private final int clientPoolSize;
+  private final int clientPoolMaxIdle;
+  private final int rpcTimeout;
+
+  private final AtomicInteger inFlightCalls = new AtomicInteger();
+  private final AtomicInteger maxInFlightCalls = new AtomicInteger();
+  private final AtomicLong callCount = new AtomicLong();
+  private final AtomicLong timeoutCount = new AtomicLong();
+  private final AtomicLong totalBorrowTime = new AtomicLong();
+
+  // jobs submitted to the interpreter process, done once it tells they finished
+  private final ConcurrentMap<String, SettableFuture<Void>> submittedJobs =
+      new ConcurrentHashMap<>();
 
   public RemoteInterpreterProcess(
       int connectTimeout) {
     this.interpreterContextRunnerPool = new InterpreterContextRunnerPool();
     this.connectTimeout = connectTimeout;
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    this.clientPoolSize = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CLIENT_POOL_SIZE);
+    this.clientPoolMaxIdle = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CLIENT_POOL_MAX_IDLE);
+    this.rpcTimeout = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_RPC_TIMEOUT);
   }
 
   public RemoteInterpreterEventPoller getRemoteInterpreterEventPoller() {
@@ -55,32 +87,88 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
     return connectTimeout;
   }
 
-  public synchronized Client getClient() throws Exception {
+  /**
+   * Starts the process without waiting until it accepts requests.
+   *
+   * @return future which is done once the process is ready
+   */
+  public ListenableFuture<RemoteInterpreterProcess> startAsync(String userName) {
+    try {
+      start(userName);
+      return Futures.<RemoteInterpreterProcess>immediateFuture(this);
+    } catch (RuntimeException e) {
+      return Futures.immediateFailedFuture(e);
+    }
+  }
+
+  /**
+   * Read timeout of the short calls like status and progress polls.
+   */
+  public int getRpcTimeout() {
+    return rpcTimeout;
+  }
+
+  /**
+   * Borrows a client of the interpreter process. Waits up to the connect timeout when all the
+   * connections are in use.
+   */
+  public Client getClient() throws Exception {
+    return borrowClient(getClientPool());
+  }
+
+  private Client borrowClient(GenericObjectPool<Client> pool) throws Exception {
+    long start = System.currentTimeMillis();
+    try {
+      return pool.borrowObject();
+    } catch (NoSuchElementException e) {
+      throw new InterpreterException("No connection to the interpreter process became free within "
+          + connectTimeout + " ms, all " + clientPoolSize + " connections are in use", e);
+    } finally {
+      totalBorrowTime.addAndGet(System.currentTimeMillis() - start);
+    }
+  }
+
+  private synchronized GenericObjectPool<Client> getClientPool() {
     if (clientPool == null || clientPool.isClosed()) {
-      clientPool = new GenericObjectPool<>(new ClientFactory(getHost(), getPort()));
+      clientPool = new GenericObjectPool<>(new ClientFactory(getHost(), getPort()),
+          createClientPoolConfig(clientPoolSize, connectTimeout));
     }
-    return clientPool.borrowObject();
+    return clientPool;
   }
 
-  private void releaseClient(Client client) {
-    releaseClient(client, false);
+  private GenericObjectPoolConfig createClientPoolConfig(int maxTotal, long maxWaitMillis) {
+    GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+    config.setMaxTotal(maxTotal);
+    config.setMaxIdle(clientPoolMaxIdle);
+    config.setMaxWaitMillis(maxWaitMillis);
+    return config;
   }
 
-  private void releaseClient(Client client, boolean broken) {
-    if (broken) {
-      releaseBrokenClient(client);
-    } else {
-      try {
-        clientPool.returnObject(client);
-      } catch (Exception e) {
-        logger.warn("exception occurred during releasing thrift client", e);
-      }
+  /**
+   * Closes the connections to the interpreter process, called when the process is stopped.
+   * Connections still in use are closed when they are returned. Jobs waiting for the process
+   * to finish them fail.
+   */
+  protected synchronized void closeClientPools() {
+    if (clientPool != null) {
+      clientPool.close();
+      clientPool = null;
+    }
+    for (SettableFuture<Void> job : submittedJobs.values()) {
+      job.setException(new InterpreterException("Interpreter process is stopped"));
     }
   }
 
-  private void releaseBrokenClient(Client client) {
+  /**
+   * Returns the client to the pool it was borrowed from, which may be closed meanwhile.
+   */
+  private void releaseClient(GenericObjectPool<Client> pool, Client client, boolean broken) {
     try {
-      clientPool.invalidateObject(client);
+      if (broken) {
+        pool.invalidateObject(client);
+      } else {
+        pool.returnObject(client);
+      }
     } catch (Exception e) {
       logger.warn("exception occurred during releasing thrift client", e);
     }
@@ -93,9 +181,11 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
    * @param o
    */
   public void updateRemoteAngularObject(String name, String noteId, String paragraphId, Object o) {
+    GenericObjectPool<Client> pool = null;
     Client client = null;
     try {
-      client = getClient();
+      pool = getClientPool();
+      client = borrowClient(pool);
     } catch (NullPointerException e) {
       // remote process not started
       logger.info("NullPointerException in RemoteInterpreterProcess while " +
@@ -107,7 +197,6 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
 
     boolean broken = false;
     try {
-      Gson gson = new Gson();
       client.angularObjectUpdate(name, noteId, paragraphId, gson.toJson(o));
     } catch (TException e) {
       broken = true;
@@ -117,7 +206,7 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
       return;
     } finally {
       if (client != null) {
-        releaseClient(client, broken);
+        releaseClient(pool, client, broken);
       }
     }
   }
@@ -127,26 +216,141 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
   }
 
   public <T> T callRemoteFunction(RemoteFunction<T> func) {
+    return callRemoteFunction(func, 0);
+  }
+
+  /**
+   * Calls the interpreter process, the connection is closed when the call does not return
+   * within the timeout.
+   *
+   * @param timeout read timeout in milliseconds, 0 waits until the call returns
+   */
+  public <T> T callRemoteFunction(RemoteFunction<T> func, int timeout) {
+    GenericObjectPool<Client> pool = null;
     Client client = null;
     boolean broken = false;
+    int inFlight = inFlightCalls.incrementAndGet();
+    callCount.incrementAndGet();
+    updateMaxInFlightCalls(inFlight);
     try {
-      client = getClient();
+      pool = getClientPool();
+      client = borrowClient(pool);
       if (client != null) {
+        if (timeout > 0) {
+          ((ClientFactory) pool.getFactory()).setTimeout(client, timeout);
+        }
         return func.call(client);
       }
     } catch (TException e) {
       broken = true;
+      if (e instanceof TTransportException && e.getCause() instanceof SocketTimeoutException) {
+        timeoutCount.incrementAndGet();
+      }
       throw new RuntimeException(e);
     } catch (Exception e1) {
       throw new RuntimeException(e1);
     } finally {
+      inFlightCalls.decrementAndGet();
       if (client != null) {
-        releaseClient(client, broken);
+        if (timeout > 0 && !broken) {
+          ((ClientFactory) pool.getFactory()).setTimeout(client, 0);
+        }
+        releaseClient(pool, client, broken);
       }
     }
     return null;
   }
 
+  /**
+   * Registers a job before it is submitted to the interpreter process. The returned future is
+   * done when the process sends JOB_FINISHED for it, and fails when the process is stopped.
+   * The job has to be removed by {@link #removeSubmittedJob} once its result is fetched.
+   *
+   * @throws InterpreterException when a job with the same id is still running in the session
+   */
+  public ListenableFuture<Void> addSubmittedJob(String sessionId, String jobId)
+      throws InterpreterException {
+    SettableFuture<Void> finished = SettableFuture.create();
+    if (submittedJobs.putIfAbsent(getJobKey(sessionId, jobId), finished) != null) {
+      throw new InterpreterException("Job " + jobId + " is already running in session "
+          + sessionId);
+    }
+    return finished;
+  }
+
+  public void removeSubmittedJob(String sessionId, String jobId) {
+    submittedJobs.remove(getJobKey(sessionId, jobId));
+  }
+
+  /**
+   * Called by the event poller when the interpreter process tells a submitted job finished.
+   */
+  public void onJobFinished(String sessionId, String jobId) {
+    SettableFuture<Void> finished = submittedJobs.get(getJobKey(sessionId, jobId));
+    if (finished != null) {
+      finished.set(null);
+    } else {
+      logger.debug("Job {} of session {} finished, but nobody waits for it", jobId, sessionId);
+    }
+  }
+
+  /**
+   * Number of jobs submitted to the interpreter process which did not return their result yet.
+   * These do not hold a connection while they run.
+   */
+  public int getSubmittedJobs() {
+    return submittedJobs.size();
+  }
+
+  private static String getJobKey(String sessionId, String jobId) {
+    return sessionId + "/" + jobId;
+  }
+
+  private void updateMaxInFlightCalls(int inFlight) {
+    int max = maxInFlightCalls.get();
+    while (inFlight > max && !maxInFlightCalls.compareAndSet(max, inFlight)) {
+      max = maxInFlightCalls.get();
+    }
+  }
+
+  /**
+   * Number of calls to the interpreter process which did not return yet.
+   */
+  public int getInFlightCalls() {
+    return inFlightCalls.get();
+  }
+
+  public int getMaxInFlightCalls() {
+    return maxInFlightCalls.get();
+  }
+
+  public long getCallCount() {
+    return callCount.get();
+  }
+
+  /**
+   * Number of calls which did not return within their timeout.
+   */
+  public long getTimeoutCount() {
+    return timeoutCount.get();
+  }
+
+  /**
+   * Average time to get a connection to the interpreter process.
+   */
+  public long getAverageBorrowMs() {
+    long calls = callCount.get();
+    return calls == 0 ? 0 : totalBorrowTime.get() / calls;
+  }
+
+  public synchronized int getOpenConnections() {
+    int connections = 0;
+    if (clientPool != null) {
+      connections += clientPool.getNumActive() + clientPool.getNumIdle();
+    }
+    return connections;
+  }
+
   /**
    *
    * @param <T>
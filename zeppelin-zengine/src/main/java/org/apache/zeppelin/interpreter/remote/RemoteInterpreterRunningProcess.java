@@ -82,6 +82,7 @@ public class RemoteInterpreterRunningProcess extends RemoteInterpreterProcess {
         }
       }
     }
+    closeClientPools();
   }
 
   @Override
@@ -1,5 +1,6 @@
 package org.apache.zeppelin.notebook;
 
+import com.google.common.util.concurrent.Striped;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -12,28 +13,50 @@ import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 
 
 /**
  * Hadoop FileSystem wrapper. Support both secure and no-secure mode
+ *
+ * Operations run concurrently. Reads, writes and deletes of the same path are serialized
+ * by a lock striped by path, since a write replaces the file through a temporary file.
  */
 public class FileSystemStorage {
 
   private static Logger LOGGER = LoggerFactory.getLogger(FileSystemStorage.class);
 
+  private static final int LOCK_STRIPES = 64;
+
   private ZeppelinConfiguration zConf;
   private Configuration hadoopConf;
   private boolean isSecurityEnabled = false;
   private FileSystem fs;
+  private UserGroupInformation ugi;
+  private final Striped<Lock> pathLocks = Striped.lock(LOCK_STRIPES);
+  private ExecutorService ioExecutor;
 
   public FileSystemStorage(ZeppelinConfiguration zConf, String path) throws IOException {
     this.zConf = zConf;
@@ -53,6 +76,7 @@ public class FileSystemStorage {
             + ", principal: " + principal);
       }
       UserGroupInformation.loginUserFromKeytab(principal, keytab);
+      this.ugi = UserGroupInformation.getLoginUser();
     }
 
     try {
@@ -112,7 +136,7 @@ public class FileSystemStorage {
   }
 
   public boolean delete(final Path path) throws IOException {
-    return callHdfsOperation(new HdfsOperation<Boolean>() {
+    return callHdfsOperation(path, new HdfsOperation<Boolean>() {
       @Override
       public Boolean call() throws IOException {
         return fs.delete(path, true);
@@ -121,7 +145,7 @@ public class FileSystemStorage {
   }
 
   public String readFile(final Path file) throws IOException {
-    return callHdfsOperation(new HdfsOperation<String>() {
+    return callHdfsOperation(file, new HdfsOperation<String>() {
       @Override
       public String call() throws IOException {
         LOGGER.debug("Read from file: " + file);
@@ -133,15 +157,103 @@ public class FileSystemStorage {
     });
   }
 
+  /**
+   * Reads the files in parallel on the io threads of this storage, each through the given reader.
+   *
+   * @return content of the files which could be read, in the order of the given files
+   */
+  public <T> Map<Path, T> readFiles(List<Path> files, final ContentReader<T> contentReader)
+      throws IOException {
+    List<Future<T>> futures = new ArrayList<>();
+    for (final Path file : files) {
+      futures.add(getIoExecutor().submit(new Callable<T>() {
+        @Override
+        public T call() throws IOException {
+          return readFile(file, contentReader);
+        }
+      }));
+    }
+
+    Map<Path, T> contents = new LinkedHashMap<>();
+    for (int i = 0; i < files.size(); i++) {
+      try {
+        contents.put(files.get(i), futures.get(i).get());
+      } catch (InterruptedException e) {
+        for (Future<T> future : futures) {
+          future.cancel(true);
+        }
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while reading " + files.get(i), e);
+      } catch (ExecutionException e) {
+        LOGGER.error("Fail to read file: " + files.get(i), e.getCause());
+      }
+    }
+    return contents;
+  }
+
+  private synchronized ExecutorService getIoExecutor() {
+    if (ioExecutor == null) {
+      final AtomicInteger threadCount = new AtomicInteger();
+      ioExecutor = Executors.newFixedThreadPool(
+          Math.max(1, zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_FILESYSTEM_IO_THREADS)),
+          new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+              Thread t = new Thread(r, "FileSystemStorage-io-" + threadCount.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            }
+          });
+    }
+    return ioExecutor;
+  }
+
+  /**
+   * Reads the file through the given reader, without holding its whole content in memory.
+   */
+  public <T> T readFile(final Path file, final ContentReader<T> contentReader)
+      throws IOException {
+    return callHdfsOperation(file, new HdfsOperation<T>() {
+      @Override
+      public T call() throws IOException {
+        LOGGER.debug("Read from file: " + file);
+        Reader reader = new BufferedReader(new InputStreamReader(fs.open(file),
+            zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING)));
+        try {
+          return contentReader.read(reader);
+        } finally {
+          reader.close();
+        }
+      }
+    });
+  }
+
   public void writeFile(final String content, final Path file, boolean writeTempFileFirst)
       throws IOException {
-    callHdfsOperation(new HdfsOperation<Void>() {
+    writeFile(file, new ContentWriter() {
+      @Override
+      public void write(Writer writer) throws IOException {
+        writer.write(content);
+      }
+    });
+  }
+
+  /**
+   * Writes the content written by the given writer to a temporary file, which then
+   * replaces the file.
+   */
+  public void writeFile(final Path file, final ContentWriter contentWriter) throws IOException {
+    callHdfsOperation(file, new HdfsOperation<Void>() {
       @Override
       public Void call() throws IOException {
-        InputStream in = new ByteArrayInputStream(content.getBytes(
-            zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING)));
         Path tmpFile = new Path(file.toString() + ".tmp");
-        IOUtils.copyBytes(in, fs.create(tmpFile), hadoopConf);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(fs.create(tmpFile),
+            zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING)));
+        try {
+          contentWriter.write(writer);
+        } finally {
+          writer.close();
+        }
         fs.delete(file, true);
         fs.rename(tmpFile, file);
         return null;
@@ -149,14 +261,42 @@ public class FileSystemStorage {
     });
   }
 
+  /**
+   * Reads the content of a file.
+   */
+  public interface ContentReader<T> {
+    T read(Reader reader) throws IOException;
+  }
+
+  /**
+   * Writes the content of a file.
+   */
+  public interface ContentWriter {
+    void write(Writer writer) throws IOException;
+  }
+
   private interface HdfsOperation<T> {
     T call() throws IOException;
   }
 
-  public synchronized <T> T callHdfsOperation(final HdfsOperation<T> func) throws IOException {
+  /**
+   * Runs the operation on the given path, holding the lock of the path.
+   */
+  private <T> T callHdfsOperation(Path path, HdfsOperation<T> func) throws IOException {
+    Lock lock = pathLocks.get(path.toString());
+    lock.lock();
+    try {
+      return callHdfsOperation(func);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public <T> T callHdfsOperation(final HdfsOperation<T> func) throws IOException {
     if (isSecurityEnabled) {
       try {
-        return UserGroupInformation.getCurrentUser().doAs(new PrivilegedExceptionAction<T>() {
+        ugi.checkTGTAndReloginFromKeytab();
+        return ugi.doAs(new PrivilegedExceptionAction<T>() {
           @Override
           public T run() throws Exception {
             return func.call();
@@ -30,8 +30,9 @@ import java.util.Map;
 public class FolderView implements NoteNameListener, FolderListener {
   // key: folderId
   private final Map<String, Folder> folders = new LinkedHashMap<>();
-  // key: a note, value: a folder where the note belongs to
-  private final Map<Note, Folder> index = new LinkedHashMap<>();
+  // key: a note id, value: a folder where the note belongs to.
+  // Notes are not used as key since their hash code changes with their paragraphs
+  private final Map<String, Folder> index = new LinkedHashMap<>();
 
   private static final Logger logger = LoggerFactory.getLogger(FolderView.class);
 
@@ -73,7 +74,7 @@ public class FolderView implements NoteNameListener, FolderListener {
   }
 
   public Folder getFolderOf(Note note) {
-    return index.get(note);
+    return index.get(note.getId());
   }
 
   public void putNote(Note note) {
@@ -87,7 +88,7 @@ public class FolderView implements NoteNameListener, FolderListener {
     folder.addNote(note);
 
     synchronized (index) {
-      index.put(note, folder);
+      index.put(note.getId(), folder);
     }
   }
 
@@ -145,17 +146,17 @@ public class FolderView implements NoteNameListener, FolderListener {
   }
 
   public void removeNote(Note note) {
-    if (!index.containsKey(note)) {
+    if (!index.containsKey(note.getId())) {
       return;
     }
 
-    Folder folder = index.get(note);
+    Folder folder = index.get(note.getId());
     folder.removeNote(note);
 
     removeFolderIfEmpty(folder.getId());
 
     synchronized (index) {
-      index.remove(note);
+      index.remove(note.getId());
     }
   }
 
@@ -173,7 +174,7 @@ public class FolderView implements NoteNameListener, FolderListener {
   }
 
   public boolean hasNote(Note note) {
-    return index.containsKey(note);
+    return index.containsKey(note.getId());
   }
 
   public int countFolders() {
@@ -204,13 +205,13 @@ public class FolderView implements NoteNameListener, FolderListener {
     }
     logger.info("Note name changed: {} -> {}", oldName, note.getName());
     // New note
-    if (!index.containsKey(note)) {
+    if (!index.containsKey(note.getId())) {
       putNote(note);
     }
     // Existing note
     else {
       // If the note is in the right place, just return
-      Folder folder = index.get(note);
+      Folder folder = index.get(note.getId());
       if (folder.getId().equals(note.getFolderId())) {
         return;
       }
@@ -233,7 +234,7 @@ public class FolderView implements NoteNameListener, FolderListener {
     newFolder.merge(folder);
 
     for (Note note : folder.getNotes()) {
-      index.put(note, newFolder);
+      index.put(note.getId(), newFolder);
     }
   }
 }
@@ -23,17 +23,28 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.common.JsonSerializable;
 import org.apache.zeppelin.completer.CompletionType;
@@ -54,6 +65,7 @@ import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
 import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl;
 import org.apache.zeppelin.notebook.utility.IdHashes;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.search.SearchService;
@@ -68,22 +80,18 @@ import org.slf4j.LoggerFactory;
 public class Note implements ParagraphJobListener, JsonSerializable {
   private static final Logger logger = LoggerFactory.getLogger(Note.class);
   private static final long serialVersionUID = 7920699076577612429L;
-  private static Gson gson = new GsonBuilder()
+  private static final String DELAYED_PERSIST_EXECUTOR = "NoteDelayedPersist";
+  private static final int DELAYED_PERSIST_THREADS = 1;
+  // shared by everything serializing notes and paragraphs, so type adapters are built once
+  private static final Gson gson = new GsonBuilder()
       .setPrettyPrinting()
       .setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
       .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
       .registerTypeAdapterFactory(Input.TypeAdapterFactory)
       .create();
 
-  // threadpool for delayed persist of note
-  private static final ScheduledThreadPoolExecutor delayedPersistThreadPool =
-      new ScheduledThreadPoolExecutor(0);
-
-  static {
-    delayedPersistThreadPool.setRemoveOnCancelPolicy(true);
-  }
-
-  final List<Paragraph> paragraphs = new LinkedList<>();
+  // modified while holding its monitor, read without locking
+  final CopyOnWriteArrayList<Paragraph> paragraphs = new CopyOnWriteArrayList<>();
 
   private String name = "";
   private String id;
@@ -100,10 +108,23 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   private transient JobListenerFactory jobListenerFactory;
   private transient NotebookRepo repo;
   private transient SearchService index;
-  private transient ScheduledFuture delayedPersist;
+  private transient NotePersistQueue persistQueue;
   private transient NoteEventListener noteEventListener;
   private transient Credentials credentials;
   private transient NoteNameListener noteNameListener;
+  // false when only the id, name and config of the note are in memory
+  private transient boolean loaded = true;
+  // true from a persist request until the note is written
+  private transient volatile boolean dirty = false;
+  // write scheduled by persist(maxDelaySec) when there is no persist queue
+  private transient ScheduledFuture<?> delayedPersist;
+  private transient NoteLoader loader;
+  // number of uses keeping the note loaded, see acquire()
+  private transient AtomicInteger holders = new AtomicInteger();
+  // paragraphs of the unloaded note, they are taken back on load while still referenced
+  private transient Map<String, WeakReference<Paragraph>> unloadedParagraphs = new HashMap<>();
+  // built on first use after the paragraphs changed
+  private transient volatile ParagraphIndex paragraphIndex;
 
   /*
    * note configurations.
@@ -264,10 +285,8 @@ public class Note implements ParagraphJobListener, JsonSerializable {
 
   public void setInterpreterFactory(InterpreterFactory factory) {
     this.factory = factory;
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        p.setInterpreterFactory(factory);
-      }
+    for (Paragraph p : paragraphs) {
+      p.setInterpreterFactory(factory);
     }
   }
 
@@ -283,15 +302,9 @@ public class Note implements ParagraphJobListener, JsonSerializable {
               paragraphNote.getId(), this.getId()));
     }
 
-    boolean foundParagraph = false;
-    for (Paragraph ownParagraph : paragraphs) {
-      if (paragraph.getId().equals(ownParagraph.getId())) {
-        paragraph.setListener(this.jobListenerFactory.getParagraphJobListener(this));
-        foundParagraph = true;
-      }
-    }
-
-    if (!foundParagraph) {
+    if (getParagraph(paragraph.getId()) != null) {
+      paragraph.setListener(this.jobListenerFactory.getParagraphJobListener(this));
+    } else {
       throw new IllegalArgumentException(
           format("Cannot find paragraph %s " + "from note %s", paragraph.getId(),
               paragraphNote.getId()));
@@ -378,7 +391,6 @@ public class Note implements ParagraphJobListener, JsonSerializable {
 
 
     try {
-      Gson gson = new Gson();
       String resultJson = gson.toJson(srcParagraph.getReturn());
       InterpreterResult result = InterpreterResult.fromJson(resultJson);
       newParagraph.setReturn(result, null);
@@ -390,6 +402,7 @@ public class Note implements ParagraphJobListener, JsonSerializable {
 
     synchronized (paragraphs) {
       paragraphs.add(newParagraph);
+      paragraphIndex = null;
     }
     if (noteEventListener != null) {
       noteEventListener.onParagraphCreate(newParagraph);
@@ -421,6 +434,7 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   public void insertParagraph(Paragraph paragraph, int index) {
     synchronized (paragraphs) {
       paragraphs.add(index, paragraph);
+      paragraphIndex = null;
     }
     if (noteEventListener != null) {
       noteEventListener.onParagraphCreate(paragraph);
@@ -436,22 +450,20 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   public Paragraph removeParagraph(String user, String paragraphId) {
     removeAllAngularObjectInParagraph(user, paragraphId);
     interpreterSettingManager.removeResourcesBelongsToParagraph(getId(), paragraphId);
+    Paragraph p;
     synchronized (paragraphs) {
-      Iterator<Paragraph> i = paragraphs.iterator();
-      while (i.hasNext()) {
-        Paragraph p = i.next();
-        if (p.getId().equals(paragraphId)) {
-          index.deleteIndexDoc(this, p);
-          i.remove();
-
-          if (noteEventListener != null) {
-            noteEventListener.onParagraphRemove(p);
-          }
-          return p;
-        }
+      Integer position = getParagraphIndex().positions.get(paragraphId);
+      if (position == null) {
+        return null;
       }
+      p = paragraphs.remove(position.intValue());
+      paragraphIndex = null;
+    }
+    index.deleteIndexDoc(this, p);
+    if (noteEventListener != null) {
+      noteEventListener.onParagraphRemove(p);
     }
-    return null;
+    return p;
   }
 
   public void clearParagraphOutputFields(Paragraph p) {
@@ -460,18 +472,13 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   }
 
   public Paragraph clearPersonalizedParagraphOutput(String paragraphId, String user) {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        if (!p.getId().equals(paragraphId)) {
-          continue;
-        }
-
-        p = p.getUserParagraphMap().get(user);
-        clearParagraphOutputFields(p);
-        return p;
-      }
+    Paragraph p = getParagraph(paragraphId);
+    if (p == null) {
+      return null;
     }
-    return null;
+    p = p.getUserParagraphMap().get(user);
+    clearParagraphOutputFields(p);
+    return p;
   }
 
   /**
@@ -481,27 +488,19 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    * @return Paragraph
    */
   public Paragraph clearParagraphOutput(String paragraphId) {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        if (!p.getId().equals(paragraphId)) {
-          continue;
-        }
-
-        clearParagraphOutputFields(p);
-        return p;
-      }
+    Paragraph p = getParagraph(paragraphId);
+    if (p != null) {
+      clearParagraphOutputFields(p);
     }
-    return null;
+    return p;
   }
 
   /**
    * Clear all paragraph output of note
    */
   public void clearAllParagraphOutput() {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        p.setReturn(null, null);
-      }
+    for (Paragraph p : paragraphs) {
+      p.setReturn(null, null);
     }
   }
 
@@ -525,9 +524,6 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    */
   public void moveParagraph(String paragraphId, int index, boolean throwWhenIndexIsOutOfBound) {
     synchronized (paragraphs) {
-      int oldIndex;
-      Paragraph p = null;
-
       if (index < 0 || index >= paragraphs.size()) {
         if (throwWhenIndexIsOutOfBound) {
           throw new IndexOutOfBoundsException(
@@ -537,30 +533,19 @@ public class Note implements ParagraphJobListener, JsonSerializable {
         }
       }
 
-      for (int i = 0; i < paragraphs.size(); i++) {
-        if (paragraphs.get(i).getId().equals(paragraphId)) {
-          oldIndex = i;
-          if (oldIndex == index) {
-            return;
-          }
-          p = paragraphs.remove(i);
-        }
-      }
-
-      if (p != null) {
-        paragraphs.add(index, p);
+      Integer oldIndex = getParagraphIndex().positions.get(paragraphId);
+      if (oldIndex == null || oldIndex == index) {
+        return;
       }
+      paragraphs.add(index, paragraphs.remove(oldIndex.intValue()));
+      paragraphIndex = null;
     }
   }
 
   public boolean isLastParagraph(String paragraphId) {
-    if (!paragraphs.isEmpty()) {
-      synchronized (paragraphs) {
-        if (paragraphId.equals(paragraphs.get(paragraphs.size() - 1).getId())) {
-          return true;
-        }
-      }
-      return false;
+    List<Paragraph> list = getParagraphIndex().list;
+    if (!list.isEmpty()) {
+      return paragraphId.equals(list.get(list.size() - 1).getId());
     }
     /** because empty list, cannot remove nothing right? */
     return true;
@@ -571,42 +556,29 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   }
 
   public Paragraph getParagraph(String paragraphId) {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        if (p.getId().equals(paragraphId)) {
-          return p;
-        }
-      }
-    }
-    return null;
+    return getParagraphIndex().paragraphs.get(paragraphId);
   }
 
   public Paragraph getLastParagraph() {
-    synchronized (paragraphs) {
-      return paragraphs.get(paragraphs.size() - 1);
-    }
+    List<Paragraph> list = getParagraphIndex().list;
+    return list.get(list.size() - 1);
   }
 
   public List<Map<String, String>> generateParagraphsInfo() {
     List<Map<String, String>> paragraphsInfo = new LinkedList<>();
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        Map<String, String> info = populateParagraphInfo(p);
-        paragraphsInfo.add(info);
-      }
+    for (Paragraph p : paragraphs) {
+      Map<String, String> info = populateParagraphInfo(p);
+      paragraphsInfo.add(info);
     }
     return paragraphsInfo;
   }
 
   public Map<String, String> generateSingleParagraphInfo(String paragraphId) {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        if (p.getId().equals(paragraphId)) {
-          return populateParagraphInfo(p);
-        }
-      }
-      return new HashMap<>();
+    Paragraph p = getParagraph(paragraphId);
+    if (p != null) {
+      return populateParagraphInfo(p);
     }
+    return new HashMap<>();
   }
 
   private Map<String, String> populateParagraphInfo(Paragraph p) {
@@ -655,15 +627,23 @@ public class Note implements ParagraphJobListener, JsonSerializable {
   }
 
   public void runAll(AuthenticationInfo authenticationInfo, boolean blocking) {
-    for (Paragraph p : getParagraphs()) {
-      if (!p.isEnabled()) {
-        continue;
-      }
-      p.setAuthenticationInfo(authenticationInfo);
-      if (!run(p.getId(), blocking)) {
-        logger.warn("Skip running the remain notes because paragraph {} fails", p.getId());
-        break;
+    if (!acquire()) {
+      logger.error("Can't run note {}, it can not be read from the repo", id);
+      return;
+    }
+    try {
+      for (Paragraph p : getParagraphs()) {
+        if (!p.isEnabled()) {
+          continue;
+        }
+        p.setAuthenticationInfo(authenticationInfo);
+        if (!run(p.getId(), blocking, true)) {
+          logger.warn("Skip running the remain notes because paragraph {} fails", p.getId());
+          break;
+        }
       }
+    } finally {
+      release();
     }
   }
 
@@ -677,8 +657,20 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    * @param paragraphId ID of paragraph
    */
   public boolean run(String paragraphId, boolean blocking) {
+    return run(paragraphId, blocking, false);
+  }
+
+  /**
+   * Run a single paragraph.
+   *
+   * @param paragraphId ID of paragraph
+   * @param batch true when run by "run all" or cron, the paragraph waits for the interactive ones
+   */
+  public boolean run(String paragraphId, boolean blocking, boolean batch) {
     Paragraph p = getParagraph(paragraphId);
     p.setListener(jobListenerFactory.getParagraphJobListener(this));
+    // kept until the paragraph runs again, the scheduler reads it as long as the job waits
+    p.setBatch(batch);
     return p.execute(blocking);
   }
 
@@ -686,11 +678,9 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    * Check whether all paragraphs belongs to this note has terminated
    */
   boolean isTerminated() {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        if (!p.isTerminated()) {
-          return false;
-        }
+    for (Paragraph p : paragraphs) {
+      if (!p.isTerminated()) {
+        return false;
       }
     }
 
@@ -701,12 +691,10 @@ public class Note implements ParagraphJobListener, JsonSerializable {
    * Return true if there is a running or pending paragraph
    */
   boolean isRunningOrPending() {
-    synchronized (paragraphs) {
-      for (Paragraph p : paragraphs) {
-        Status status = p.getStatus();
-        if (status.isRunning() || status.isPending()) {
-          return true;
-        }
+    for (Paragraph p : paragraphs) {
+      Status status = p.getStatus();
+      if (status.isRunning() || status.isPending()) {
+        return true;
       }
     }
 
@@ -745,9 +733,44 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     return completion;
   }
 
+  /**
+   * @return unmodifiable snapshot of the paragraphs, not affected by later changes
+   */
   public List<Paragraph> getParagraphs() {
-    synchronized (paragraphs) {
-      return new LinkedList<>(paragraphs);
+    return getParagraphIndex().list;
+  }
+
+  private ParagraphIndex getParagraphIndex() {
+    ParagraphIndex current = paragraphIndex;
+    if (current == null) {
+      synchronized (paragraphs) {
+        current = paragraphIndex;
+        if (current == null) {
+          current = new ParagraphIndex(paragraphs);
+          paragraphIndex = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Snapshot of the paragraphs with their ids, replaced whenever the paragraphs change.
+   */
+  private static class ParagraphIndex {
+    final List<Paragraph> list;
+    final Map<String, Paragraph> paragraphs = new HashMap<>();
+    final Map<String, Integer> positions = new HashMap<>();
+
+    ParagraphIndex(List<Paragraph> source) {
+      list = Collections.unmodifiableList(Arrays.asList(source.toArray(new Paragraph[0])));
+      for (int i = 0; i < list.size(); i++) {
+        Paragraph p = list.get(i);
+        if (!paragraphs.containsKey(p.getId())) {
+          paragraphs.put(p.getId(), p);
+          positions.put(p.getId(), i);
+        }
+      }
     }
   }
 
@@ -809,19 +832,197 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     }
   }
 
+  /**
+   * Persist this note, in the background when a persist queue is set.
+   */
   public void persist(AuthenticationInfo subject) throws IOException {
     Preconditions.checkNotNull(subject, "AuthenticationInfo should not be null");
-    stopDelayedPersistTimer();
-    snapshotAngularObjectRegistry(subject.getUser());
-    index.updateIndexDoc(this);
-    repo.save(this, subject);
+    markDirty();
+    if (persistQueue != null) {
+      persistQueue.schedule(this, subject, 0, TimeUnit.SECONDS);
+    } else {
+      cancelDelayedPersist();
+      write(subject);
+    }
   }
 
   /**
-   * Persist this note with maximum delay.
+   * Persist this note with maximum delay. Without a persist queue the note is written by a
+   * timer, further calls before it fires are covered by the same write.
    */
   public void persist(int maxDelaySec, AuthenticationInfo subject) {
-    startDelayedPersistTimer(maxDelaySec, subject);
+    try {
+      markDirty();
+      if (persistQueue != null) {
+        persistQueue.schedule(this, subject, maxDelaySec, TimeUnit.SECONDS);
+      } else {
+        startDelayedPersistTimer(maxDelaySec, subject);
+      }
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+    }
+  }
+
+  private synchronized void startDelayedPersistTimer(int maxDelaySec,
+      final AuthenticationInfo subject) {
+    if (delayedPersist != null) {
+      return;
+    }
+    delayedPersist = ExecutorFactory.singleton()
+        .createOrGetScheduled(DELAYED_PERSIST_EXECUTOR, DELAYED_PERSIST_THREADS)
+        .schedule(new Runnable() {
+          @Override
+          public void run() {
+            synchronized (Note.this) {
+              delayedPersist = null;
+            }
+            try {
+              write(subject);
+            } catch (IOException e) {
+              logger.error(e.getMessage(), e);
+            }
+          }
+        }, maxDelaySec, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Drops the write scheduled by {@link #persist(int, AuthenticationInfo)}, if any.
+   */
+  synchronized void cancelDelayedPersist() {
+    if (delayedPersist != null) {
+      delayedPersist.cancel(false);
+      delayedPersist = null;
+    }
+  }
+
+  /**
+   * Writes the note to the repo and updates its index in the calling thread.
+   * Does nothing for an unloaded note, only notes without pending changes are unloaded.
+   */
+  synchronized void write(AuthenticationInfo subject) throws IOException {
+    if (!loaded) {
+      return;
+    }
+    dirty = false;
+    try {
+      snapshotAngularObjectRegistry(subject.getUser());
+      index.updateIndexDoc(this);
+      repo.save(this, subject);
+    } catch (IOException | RuntimeException e) {
+      dirty = true;
+      throw e;
+    }
+  }
+
+  /**
+   * Marks the note to be written. A note unloaded meanwhile is loaded again first, taking
+   * back the paragraphs which were changed through references kept by callers.
+   */
+  private synchronized void markDirty() throws IOException {
+    if (!loaded && (loader == null || !loader.load(this))) {
+      throw new IOException("Note " + id + " can not be read from the repo to be written");
+    }
+    dirty = true;
+  }
+
+  /**
+   * @return true when a persist was requested and the note is not written yet
+   */
+  boolean isDirty() {
+    return dirty;
+  }
+
+  void setNoteLoader(NoteLoader loader) {
+    this.loader = loader;
+  }
+
+  void setPersistQueue(NotePersistQueue persistQueue) {
+    this.persistQueue = persistQueue;
+  }
+
+  boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Keeps the note loaded until {@link #release()}, the note cache doesn't unload notes which
+   * are held. An unloaded note is loaded again first.
+   *
+   * @return false when the note can not be read from the repo
+   */
+  synchronized boolean acquire() {
+    if (!loaded && (loader == null || !loader.load(this))) {
+      return false;
+    }
+    holders.incrementAndGet();
+    return true;
+  }
+
+  void release() {
+    holders.decrementAndGet();
+  }
+
+  /**
+   * @return true while a use holds the note loaded
+   */
+  boolean isHeld() {
+    return holders.get() > 0;
+  }
+
+  /**
+   * Takes the paragraphs and the state of the given note, read from the repo.
+   * Name, config and info are kept, they are set on listing and may have been changed since.
+   * Paragraphs of this note which are still referenced since it was unloaded are kept instead
+   * of the ones read, so changes made through them are not lost.
+   */
+  void load(Note note) {
+    List<Paragraph> loadedParagraphs = new ArrayList<>();
+    Set<String> loadedIds = new HashSet<>();
+    for (Paragraph read : note.paragraphs) {
+      WeakReference<Paragraph> unloaded = unloadedParagraphs.get(read.getId());
+      Paragraph p = unloaded == null ? null : unloaded.get();
+      if (p == null) {
+        p = read;
+      }
+      loadedIds.add(p.getId());
+      p.setNote(this);
+      loadedParagraphs.add(p);
+    }
+    unloadedParagraphs = new HashMap<>();
+    synchronized (paragraphs) {
+      // paragraphs added while the note was unloaded are kept
+      for (Paragraph p : paragraphs) {
+        if (!loadedIds.contains(p.getId())) {
+          loadedParagraphs.add(p);
+        }
+      }
+      paragraphs.clear();
+      paragraphs.addAll(loadedParagraphs);
+      paragraphIndex = null;
+    }
+    noteParams = note.noteParams;
+    noteForms = note.noteForms;
+    angularObjects = note.angularObjects;
+    loaded = true;
+  }
+
+  /**
+   * Releases the paragraphs and the state of the note, keeping its id, name, config and info.
+   */
+  void unload() {
+    synchronized (paragraphs) {
+      Map<String, WeakReference<Paragraph>> unloaded = new HashMap<>();
+      for (Paragraph p : paragraphs) {
+        unloaded.put(p.getId(), new WeakReference<>(p));
+      }
+      unloadedParagraphs = unloaded;
+      paragraphs.clear();
+      paragraphIndex = null;
+    }
+    noteParams = new HashMap<>();
+    noteForms = new LinkedHashMap<>();
+    angularObjects = new HashMap<>();
+    loaded = false;
   }
 
   void unpersist(AuthenticationInfo subject) throws IOException {
@@ -855,36 +1056,6 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     return newNote;
   }
 
-  private void startDelayedPersistTimer(int maxDelaySec, final AuthenticationInfo subject) {
-    synchronized (this) {
-      if (delayedPersist != null) {
-        return;
-      }
-
-      delayedPersist = delayedPersistThreadPool.schedule(new Runnable() {
-
-        @Override
-        public void run() {
-          try {
-            persist(subject);
-          } catch (IOException e) {
-            logger.error(e.getMessage(), e);
-          }
-        }
-      }, maxDelaySec, TimeUnit.SECONDS);
-    }
-  }
-
-  private void stopDelayedPersistTimer() {
-    synchronized (this) {
-      if (delayedPersist == null) {
-        return;
-      }
-
-      delayedPersist.cancel(false);
-    }
-  }
-
   public Map<String, Object> getConfig() {
     if (config == null) {
       config = new HashMap<>();
@@ -974,6 +1145,17 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     return gson.toJson(this);
   }
 
+  /**
+   * Writes the json of the note to the writer without building it in memory first.
+   */
+  public void toJson(Writer writer) throws IOException {
+    try {
+      gson.toJson(this, Note.class, writer);
+    } catch (JsonIOException e) {
+      throw new IOException(e);
+    }
+  }
+
   public static Note fromJson(String json) {
     Note note = gson.fromJson(json, Note.class);
     convertOldInput(note);
@@ -981,6 +1163,38 @@ public class Note implements ParagraphJobListener, JsonSerializable {
     return note;
   }
 
+  /**
+   * Reads the note from the json read from the reader.
+   */
+  public static Note fromJson(Reader reader) throws IOException {
+    Note note;
+    try {
+      note = gson.fromJson(reader, Note.class);
+    } catch (JsonIOException e) {
+      throw new IOException(e);
+    }
+    if (note == null) {
+      throw new IOException("Empty note json");
+    }
+    convertOldInput(note);
+    note.postProcessParagraphs();
+    return note;
+  }
+
+  /**
+   * Json tree of the note, for repos which store parts of the note separately.
+   */
+  public JsonObject toJsonObject() {
+    return gson.toJsonTree(this).getAsJsonObject();
+  }
+
+  public static Note fromJson(JsonElement json) {
+    Note note = gson.fromJson(json, Note.class);
+    convertOldInput(note);
+    note.postProcessParagraphs();
+    return note;
+  }
+
   public void postProcessParagraphs() {
     for (Paragraph p : paragraphs) {
       p.clearRuntimeInfos();
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the notes whose paragraphs are loaded, least recently used first.
+ *
+ * The cache does not load or unload notes itself, it tells Notebook which notes to unload
+ * once there are more than capacity notes loaded. Running notes, notes waiting to be
+ * written and notes held by a use are never evicted.
+ */
+class NoteCache {
+
+  private final int capacity;
+  private final LinkedHashMap<String, Note> notes = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * @param capacity maximum number of loaded notes, unbounded when less than 1
+   */
+  NoteCache(int capacity) {
+    this.capacity = capacity;
+  }
+
+  boolean isBounded() {
+    return capacity > 0;
+  }
+
+  /**
+   * Marks the note as most recently used.
+   *
+   * @return notes to unload, removed from the cache
+   */
+  synchronized List<Note> touch(Note note) {
+    notes.put(note.getId(), note);
+    List<Note> evicted = new LinkedList<>();
+    if (!isBounded()) {
+      return evicted;
+    }
+    Iterator<Map.Entry<String, Note>> it = notes.entrySet().iterator();
+    while (notes.size() > capacity && it.hasNext()) {
+      Note candidate = it.next().getValue();
+      if (candidate == note || candidate.isRunningOrPending() || candidate.isDirty()
+          || candidate.isHeld()) {
+        continue;
+      }
+      it.remove();
+      evicted.add(candidate);
+    }
+    return evicted;
+  }
+
+  /**
+   * Adds the note back as most recently used, without evicting other notes.
+   */
+  synchronized void add(Note note) {
+    notes.put(note.getId(), note);
+  }
+
+  synchronized void remove(String noteId) {
+    notes.remove(noteId);
+  }
+
+  synchronized void clear() {
+    notes.clear();
+  }
+
+  synchronized int size() {
+    return notes.size();
+  }
+}
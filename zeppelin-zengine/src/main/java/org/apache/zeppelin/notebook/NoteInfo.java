@@ -17,9 +17,14 @@
 
 package org.apache.zeppelin.notebook;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
 /**
  *
  */
@@ -27,6 +32,10 @@ public class NoteInfo {
   String id;
   String name;
   private Map<String, Object> config = new HashMap<>();
+  // latest paragraph date of the note, null when the repo lists notes without reading them
+  private Date lastModified;
+  // fingerprint of the searchable content, null when the repo lists notes without reading them
+  private String fingerprint;
 
   public NoteInfo(String id, String name, Map<String, Object> config) {
     super();
@@ -39,6 +48,74 @@ public class NoteInfo {
     id = note.getId();
     name = note.getName();
     config = note.getConfig();
+    lastModified = lastModificationDate(note);
+    fingerprint = fingerprint(note);
+  }
+
+  /**
+   * Fingerprint of the name and of the paragraph ids, titles and texts of the note. It changes
+   * whenever what the search index holds for the note changes.
+   */
+  public static String fingerprint(Note note) {
+    FingerprintBuilder builder = new FingerprintBuilder();
+    for (Paragraph p : note.getParagraphs()) {
+      builder.addParagraph(p.getId(), p.getTitle(), p.getText());
+    }
+    return builder.build(note.getName());
+  }
+
+  /**
+   * Computes {@link #fingerprint(Note)} from the fields of a note json, without building
+   * the note. Paragraphs are added in their order, the name last.
+   */
+  public static class FingerprintBuilder {
+    private final Hasher hasher = Hashing.murmur3_128().newHasher();
+
+    public FingerprintBuilder addParagraph(String id, String title, String text) {
+      putString(id);
+      putString(title);
+      putString(text);
+      return this;
+    }
+
+    public String build(String name) {
+      putString(name);
+      return hasher.hash().toString();
+    }
+
+    private void putString(String value) {
+      if (value == null) {
+        hasher.putInt(-1);
+      } else {
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+      }
+    }
+  }
+
+  /**
+   * checks latest modification date based on Paragraph fields
+   * @return -Date
+   */
+  public static Date lastModificationDate(Note note) {
+    Date latest = new Date(0L);
+    Date tempCreated, tempStarted, tempFinished;
+
+    for (Paragraph paragraph : note.getParagraphs()) {
+      tempCreated = paragraph.getDateCreated();
+      tempStarted = paragraph.getDateStarted();
+      tempFinished = paragraph.getDateFinished();
+
+      if (tempCreated != null && tempCreated.after(latest)) {
+        latest = tempCreated;
+      }
+      if (tempStarted != null && tempStarted.after(latest)) {
+        latest = tempStarted;
+      }
+      if (tempFinished != null && tempFinished.after(latest)) {
+        latest = tempFinished;
+      }
+    }
+    return latest;
   }
 
   public String getId() {
@@ -65,4 +142,20 @@ public class NoteInfo {
     this.config = config;
   }
 
+  public Date getLastModified() {
+    return lastModified;
+  }
+
+  public void setLastModified(Date lastModified) {
+    this.lastModified = lastModified;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public void setFingerprint(String fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
 }
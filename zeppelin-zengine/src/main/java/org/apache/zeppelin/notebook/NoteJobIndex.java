@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the notes for the job manager, kept up to date from paragraph events.
+ *
+ * Keeps the last run time of every note ordered by time and the running paragraphs of
+ * every note, so notes updated since a given time are found without scanning all notes.
+ */
+class NoteJobIndex {
+
+  // noteId -> last run time of its paragraphs
+  private final Map<String, Long> lastRunTimes = new HashMap<>();
+  // last run time -> noteIds
+  private final TreeMap<Long, Set<String>> notesByLastRunTime = new TreeMap<>();
+  // noteId -> ids of running paragraphs
+  private final Map<String, Set<String>> runningParagraphs = new HashMap<>();
+  // paragraphId -> noteId
+  private final Map<String, String> paragraphNotes = new HashMap<>();
+  // noteId -> ids of its paragraphs
+  private final Map<String, Set<String>> noteParagraphs = new HashMap<>();
+  // ids of listed notes whose last run time is not known until they are read
+  private final Set<String> unindexedNotes = new HashSet<>();
+
+  /**
+   * Re-indexes every paragraph of the note.
+   */
+  synchronized void putNote(Note note) {
+    removeNote(note.getId());
+    for (Paragraph paragraph : note.getParagraphs()) {
+      putParagraph(note.getId(), paragraph);
+    }
+  }
+
+  /**
+   * Indexes a note of which only the listing is read, by the modification date of the
+   * listing when the repo provides it.
+   */
+  synchronized void putListedNote(NoteInfo info) {
+    removeNote(info.getId());
+    if (info.getLastModified() != null) {
+      setLastRunTime(info.getId(), info.getLastModified().getTime());
+    } else {
+      unindexedNotes.add(info.getId());
+    }
+  }
+
+  synchronized void clear() {
+    unindexedNotes.clear();
+    lastRunTimes.clear();
+    notesByLastRunTime.clear();
+    runningParagraphs.clear();
+    paragraphNotes.clear();
+    noteParagraphs.clear();
+  }
+
+  synchronized void removeNote(String noteId) {
+    unindexedNotes.remove(noteId);
+    setLastRunTime(noteId, null);
+    runningParagraphs.remove(noteId);
+    Set<String> paragraphIds = noteParagraphs.remove(noteId);
+    if (paragraphIds != null) {
+      paragraphNotes.keySet().removeAll(paragraphIds);
+    }
+  }
+
+  /**
+   * Called when a paragraph is created or its status changed.
+   */
+  synchronized void putParagraph(String noteId, Paragraph paragraph) {
+    paragraphNotes.put(paragraph.getId(), noteId);
+    Set<String> paragraphIds = noteParagraphs.get(noteId);
+    if (paragraphIds == null) {
+      paragraphIds = new HashSet<>();
+      noteParagraphs.put(noteId, paragraphIds);
+    }
+    paragraphIds.add(paragraph.getId());
+
+    Long lastRunTime = lastRunTimes.get(noteId);
+    long paragraphRunTime = getLastRunTime(paragraph);
+    if (lastRunTime == null || lastRunTime < paragraphRunTime) {
+      setLastRunTime(noteId, paragraphRunTime);
+    }
+
+    Set<String> running = runningParagraphs.get(noteId);
+    if (paragraph.getStatus().isRunning()) {
+      if (running == null) {
+        running = new HashSet<>();
+        runningParagraphs.put(noteId, running);
+      }
+      running.add(paragraph.getId());
+    } else if (running != null) {
+      running.remove(paragraph.getId());
+      if (running.isEmpty()) {
+        runningParagraphs.remove(noteId);
+      }
+    }
+  }
+
+  /**
+   * Called when a paragraph is removed. The last run time of the note may go back,
+   * so the remaining paragraphs of the note are indexed again.
+   */
+  synchronized void removeParagraph(Note note, Paragraph paragraph) {
+    putNote(note);
+  }
+
+  synchronized String getNoteId(String paragraphId) {
+    return paragraphNotes.get(paragraphId);
+  }
+
+  /**
+   * @return ids of notes which have a running paragraph or were run after the given time,
+   *         running notes first and then the most recently run first. Listed notes whose
+   *         last run time is not known yet come last
+   */
+  synchronized Set<String> getNoteIdsUpdatedAfter(long unixTime) {
+    Set<String> noteIds = new LinkedHashSet<>(runningParagraphs.keySet());
+    for (Set<String> ids : notesByLastRunTime.tailMap(unixTime, false)
+        .descendingMap().values()) {
+      noteIds.addAll(ids);
+    }
+    noteIds.addAll(unindexedNotes);
+    return noteIds;
+  }
+
+  synchronized boolean isUpdatedAfter(String noteId, long unixTime) {
+    Long lastRunTime = lastRunTimes.get(noteId);
+    return runningParagraphs.containsKey(noteId)
+        || (lastRunTime != null && lastRunTime > unixTime);
+  }
+
+  private void setLastRunTime(String noteId, Long lastRunTime) {
+    Long previous = lastRunTimes.remove(noteId);
+    if (previous != null) {
+      Set<String> ids = notesByLastRunTime.get(previous);
+      ids.remove(noteId);
+      if (ids.isEmpty()) {
+        notesByLastRunTime.remove(previous);
+      }
+    }
+    if (lastRunTime != null) {
+      lastRunTimes.put(noteId, lastRunTime);
+      Set<String> ids = notesByLastRunTime.get(lastRunTime);
+      if (ids == null) {
+        ids = new HashSet<>();
+        notesByLastRunTime.put(lastRunTime, ids);
+      }
+      ids.add(noteId);
+    }
+  }
+
+  /**
+   * @return the later of the started and finished time of the paragraph, or its created time
+   *         when it has never run, as unix time (ms)
+   */
+  static long getLastRunTime(Paragraph paragraph) {
+    Date paragaraphDate = paragraph.getDateStarted();
+    // diff started time <-> finishied time
+    if (paragaraphDate == null) {
+      paragaraphDate = paragraph.getDateFinished();
+    } else {
+      if (paragraph.getDateFinished() != null && paragraph.getDateFinished()
+          .after(paragaraphDate)) {
+        paragaraphDate = paragraph.getDateFinished();
+      }
+    }
+
+    // finished time and started time is not exists.
+    if (paragaraphDate == null) {
+      paragaraphDate = paragraph.getDateCreated();
+    }
+
+    return paragaraphDate.getTime();
+  }
+}
@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves notes to the notebook repo in background threads.
+ *
+ * A note is queued at most once: saving a note which is already waiting only updates the
+ * subject and, when sooner, the time it is due, so a burst of edits results in one write.
+ * A note is never written by two threads at the same time. Scheduling a note blocks while
+ * capacity notes are waiting, which bounds the memory held by the queue and slows down
+ * callers when the repo can not keep up. A note which fails to be written is queued again,
+ * the delay doubles with each failure up to a maximum, so it stays pending until it is written.
+ */
+public class NotePersistQueue {
+  private static final Logger LOG = LoggerFactory.getLogger(NotePersistQueue.class);
+  private static final long RETRY_DELAY_MS = 1000;
+  private static final long MAX_RETRY_DELAY_MS = 60 * 1000;
+
+  private static class Entry {
+    final Note note;
+    final long queuedTime;
+    AuthenticationInfo subject;
+    long dueTime;
+    int failures;
+
+    Entry(Note note, AuthenticationInfo subject, long queuedTime, long dueTime) {
+      this.note = note;
+      this.subject = subject;
+      this.queuedTime = queuedTime;
+      this.dueTime = dueTime;
+    }
+  }
+
+  private final int capacity;
+  private final LinkedHashMap<String, Entry> pending = new LinkedHashMap<>();
+  private final Set<String> writing = new HashSet<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final List<Thread> writers = new LinkedList<>();
+  private final long retryDelayMs;
+  private final long maxRetryDelayMs;
+  private boolean closed = false;
+
+  private long writeCount = 0;
+  private long failureCount = 0;
+  private long retryCount = 0;
+  private long coalescedCount = 0;
+  private long totalLatency = 0;
+  private long maxLatency = 0;
+
+  /**
+   * @param capacity maximum number of notes waiting to be written
+   * @param threads number of threads writing notes
+   */
+  public NotePersistQueue(int capacity, int threads) {
+    this(capacity, threads, RETRY_DELAY_MS, MAX_RETRY_DELAY_MS);
+  }
+
+  @VisibleForTesting
+  NotePersistQueue(int capacity, int threads, long retryDelayMs, long maxRetryDelayMs) {
+    this.capacity = capacity;
+    this.retryDelayMs = retryDelayMs;
+    this.maxRetryDelayMs = maxRetryDelayMs;
+    for (int i = 0; i < Math.max(1, threads); i++) {
+      Thread writer = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          runWriter();
+        }
+      }, "NotePersistQueue-" + i);
+      writer.setDaemon(true);
+      writer.start();
+      writers.add(writer);
+    }
+  }
+
+  /**
+   * Queues the note to be written after the given delay. The note is written in the calling
+   * thread once the queue is closed.
+   */
+  public void schedule(Note note, AuthenticationInfo subject, long delay, TimeUnit unit)
+      throws IOException {
+    long now = System.nanoTime();
+    long dueTime = now + unit.toNanos(delay);
+    lock.lock();
+    try {
+      while (!closed) {
+        Entry entry = pending.get(note.getId());
+        if (entry != null) {
+          entry.subject = subject;
+          if (dueTime < entry.dueTime) {
+            entry.dueTime = dueTime;
+            changed.signalAll();
+          }
+          coalescedCount++;
+          return;
+        }
+        if (pending.size() < capacity) {
+          pending.put(note.getId(), new Entry(note, subject, now, dueTime));
+          changed.signalAll();
+          return;
+        }
+        changed.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while queueing note " + note.getId());
+    } finally {
+      lock.unlock();
+    }
+    note.write(subject);
+  }
+
+  /**
+   * Drops the pending save of the note and waits until the note is not being written,
+   * e.g. before the note is removed from the repo.
+   */
+  public void cancel(String noteId) {
+    lock.lock();
+    try {
+      pending.remove(noteId);
+      changed.signalAll();
+      while (writing.contains(noteId)) {
+        changed.awaitUninterruptibly();
+      }
+      // queued again by a failed write
+      pending.remove(noteId);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes every pending note now and waits until each of them was written or failed once.
+   * Notes which failed stay queued for a retry.
+   */
+  public void flush() {
+    lock.lock();
+    try {
+      long now = System.nanoTime();
+      for (Entry entry : pending.values()) {
+        entry.dueTime = Math.min(entry.dueTime, now);
+      }
+      changed.signalAll();
+      while (hasEntryDueBy(now) || !writing.isEmpty()) {
+        changed.awaitUninterruptibly();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean hasEntryDueBy(long time) {
+    for (Entry entry : pending.values()) {
+      if (entry.dueTime <= time) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Writes the pending notes and stops the writer threads. Notes failing to be written
+   * meanwhile are not retried.
+   */
+  public void close() {
+    flush();
+    lock.lock();
+    try {
+      closed = true;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    for (Thread writer : writers) {
+      try {
+        writer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    LOG.info("Note persist queue closed, {} notes written, {} failed, {} retried, "
+        + "{} saves coalesced, average latency {} ms", getWriteCount(), getFailureCount(),
+        getRetryCount(), getCoalescedCount(), getAverageLatencyMs());
+  }
+
+  private void runWriter() {
+    while (true) {
+      Entry entry = null;
+      lock.lock();
+      try {
+        while (entry == null) {
+          if (closed && pending.isEmpty()) {
+            return;
+          }
+          Entry next = nextEntry();
+          if (next == null) {
+            changed.await();
+            continue;
+          }
+          long wait = next.dueTime - System.nanoTime();
+          if (wait > 0 && !closed) {
+            changed.awaitNanos(wait);
+            continue;
+          }
+          pending.remove(next.note.getId());
+          writing.add(next.note.getId());
+          // there is room in the queue again
+          changed.signalAll();
+          entry = next;
+        }
+      } catch (InterruptedException e) {
+        return;
+      } finally {
+        lock.unlock();
+      }
+      write(entry);
+    }
+  }
+
+  /**
+   * Pending note due first which is not being written.
+   */
+  private Entry nextEntry() {
+    Entry next = null;
+    for (Entry entry : pending.values()) {
+      if (!writing.contains(entry.note.getId())
+          && (next == null || entry.dueTime < next.dueTime)) {
+        next = entry;
+      }
+    }
+    return next;
+  }
+
+  private void write(Entry entry) {
+    boolean failed = false;
+    try {
+      entry.note.write(entry.subject);
+    } catch (Exception e) {
+      LOG.error("Failed to persist note " + entry.note.getId(), e);
+      failed = true;
+    }
+    long latency = System.nanoTime() - entry.queuedTime;
+    lock.lock();
+    try {
+      writing.remove(entry.note.getId());
+      if (failed) {
+        failureCount++;
+        retry(entry);
+      } else {
+        writeCount++;
+      }
+      totalLatency += latency;
+      maxLatency = Math.max(maxLatency, latency);
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues the note of a failed write again, unless it was saved again meanwhile.
+   */
+  private void retry(Entry entry) {
+    String noteId = entry.note.getId();
+    if (pending.containsKey(noteId)) {
+      return;
+    }
+    if (closed) {
+      LOG.error("Note {} is not written, the persist queue is closed", noteId);
+      return;
+    }
+    entry.failures++;
+    long delay = retryDelayMs << Math.min(entry.failures - 1, 16);
+    entry.dueTime = System.nanoTime()
+        + TimeUnit.MILLISECONDS.toNanos(Math.min(delay, maxRetryDelayMs));
+    pending.put(noteId, entry);
+    retryCount++;
+  }
+
+  /**
+   * Number of notes waiting to be written.
+   */
+  public int getQueueDepth() {
+    lock.lock();
+    try {
+      return pending.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getWriteCount() {
+    lock.lock();
+    try {
+      return writeCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getFailureCount() {
+    lock.lock();
+    try {
+      return failureCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Number of failed writes queued again.
+   */
+  public long getRetryCount() {
+    lock.lock();
+    try {
+      return retryCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Number of saves merged into the save of a note already waiting.
+   */
+  public long getCoalescedCount() {
+    lock.lock();
+    try {
+      return coalescedCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Average time from queueing a note until it is written, including the requested delay.
+   */
+  public long getAverageLatencyMs() {
+    lock.lock();
+    try {
+      long count = writeCount + failureCount;
+      return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency / count);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getMaxLatencyMs() {
+    lock.lock();
+    try {
+      return TimeUnit.NANOSECONDS.toMillis(maxLatency);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
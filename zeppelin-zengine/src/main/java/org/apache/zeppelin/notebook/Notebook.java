@@ -32,7 +32,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.display.AngularObject;
@@ -82,6 +84,34 @@ public class Notebook implements NoteEventListener {
    */
   private final Map<String, Note> notes = new LinkedHashMap<>();
   private final FolderView folders = new FolderView();
+  private final NoteJobIndex jobIndex = new NoteJobIndex();
+  private NoteCache noteCache;
+  private final NoteLoader noteLoader = new NoteLoader() {
+    @Override
+    public boolean load(Note note) {
+      if (!loadNote(note)) {
+        return false;
+      }
+      // called while the note is locked, other notes are evicted on their next use
+      noteCache.add(note);
+      return true;
+    }
+  };
+  // reads listed notes for the search index, unloaded notes are not kept in memory
+  private final SearchService.NoteReader noteReader = new SearchService.NoteReader() {
+    @Override
+    public Note read(NoteInfo noteInfo) {
+      Note note;
+      synchronized (notes) {
+        note = notes.get(noteInfo.getId());
+      }
+      return note != null ? readNote(note) : null;
+    }
+  };
+  // listed notes never loaded yet, their angular objects are restored on first load
+  private final Map<String, AuthenticationInfo> notesToRestore = new ConcurrentHashMap<>();
+  // null when notes are persisted in the calling thread
+  private NotePersistQueue persistQueue;
   private ZeppelinConfiguration conf;
   private StdSchedulerFactory quertzSchedFact;
   private org.quartz.Scheduler quartzSched;
@@ -114,19 +144,25 @@ public class Notebook implements NoteEventListener {
     this.noteSearchService = noteSearchService;
     this.notebookAuthorization = notebookAuthorization;
     this.credentials = credentials;
+    this.noteCache = new NoteCache(conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE));
+    int persistQueueSize = conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_QUEUE_SIZE);
+    if (persistQueueSize > 0) {
+      this.persistQueue = new NotePersistQueue(persistQueueSize,
+          conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_THREADS));
+    }
     quertzSchedFact = new org.quartz.impl.StdSchedulerFactory();
     quartzSched = quertzSchedFact.getScheduler();
     quartzSched.start();
     CronJob.notebook = this;
 
     AuthenticationInfo anonymous = AuthenticationInfo.ANONYMOUS;
-    loadAllNotes(anonymous);
+    List<NoteInfo> noteInfos = loadAllNotes(anonymous);
     if (this.noteSearchService != null) {
       long start = System.nanoTime();
       logger.info("Notebook indexing started...");
-      noteSearchService.addIndexDocs(notes.values());
-      logger.info("Notebook indexing finished: {} indexed in {}s", notes.size(),
-          TimeUnit.NANOSECONDS.toSeconds(start - System.nanoTime()));
+      noteSearchService.addIndexDocs(noteInfos, noteReader);
+      logger.info("Notebook indexing finished: {} notes in {}s", noteInfos.size(),
+          TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
     }
   }
 
@@ -158,10 +194,14 @@ public class Notebook implements NoteEventListener {
         new Note(notebookRepo, replFactory, interpreterSettingManager, jobListenerFactory,
                 noteSearchService, credentials, this);
     note.setNoteNameListener(folders);
+    note.setPersistQueue(persistQueue);
+    note.setNoteLoader(noteLoader);
 
     synchronized (notes) {
       notes.put(note.getId(), note);
     }
+    jobIndex.putNote(note);
+    unloadNotes(noteCache.touch(note));
     if (interpreterIds != null) {
       bindInterpretersToNote(subject.getUser(), note.getId(), interpreterIds);
     }
@@ -234,30 +274,35 @@ public class Notebook implements NoteEventListener {
    */
   public Note cloneNote(String sourceNoteId, String newNoteName, AuthenticationInfo subject)
       throws IOException, IllegalArgumentException {
-
-    Note sourceNote = getNote(sourceNoteId);
+    // creating the new note must not unload the source note
+    Note sourceNote = acquireNote(sourceNoteId);
     if (sourceNote == null) {
       throw new IllegalArgumentException(sourceNoteId + "not found");
     }
-    Note newNote = createNote(subject);
-    if (newNoteName != null) {
-      newNote.setName(newNoteName);
-    } else {
-      newNote.setName("Note " + newNote.getId());
-    }
-    newNote.setCronSupported(getConf());
-    // Copy the interpreter bindings
-    List<String> boundInterpreterSettingsIds = getBindedInterpreterSettingsIds(sourceNote.getId());
-    bindInterpretersToNote(subject.getUser(), newNote.getId(), boundInterpreterSettingsIds);
+    try {
+      Note newNote = createNote(subject);
+      if (newNoteName != null) {
+        newNote.setName(newNoteName);
+      } else {
+        newNote.setName("Note " + newNote.getId());
+      }
+      newNote.setCronSupported(getConf());
+      // Copy the interpreter bindings
+      List<String> boundInterpreterSettingsIds =
+          getBindedInterpreterSettingsIds(sourceNote.getId());
+      bindInterpretersToNote(subject.getUser(), newNote.getId(), boundInterpreterSettingsIds);
 
-    List<Paragraph> paragraphs = sourceNote.getParagraphs();
-    for (Paragraph p : paragraphs) {
-      newNote.addCloneParagraph(p, subject);
-    }
+      List<Paragraph> paragraphs = sourceNote.getParagraphs();
+      for (Paragraph p : paragraphs) {
+        newNote.addCloneParagraph(p, subject);
+      }
 
-    noteSearchService.addIndexDoc(newNote);
-    newNote.persist(subject);
-    return newNote;
+      noteSearchService.addIndexDoc(newNote);
+      newNote.persist(subject);
+      return newNote;
+    } finally {
+      releaseNote(sourceNote);
+    }
   }
 
   public void bindInterpretersToNote(String user, String id, List<String> interpreterSettingIds)
@@ -296,9 +341,139 @@ public class Notebook implements NoteEventListener {
     }
   }
 
+  /**
+   * Returns the note, loading its paragraphs from the repo when only its id, name and config
+   * are in memory. The note may be unloaded once other notes are used and is loaded again
+   * when it is changed, use {@link #acquireNote(String)} to keep it loaded while it is used.
+   *
+   * @return null when there is no such note or it can not be read from the repo
+   */
   public Note getNote(String id) {
+    Note note;
+    synchronized (notes) {
+      note = notes.get(id);
+    }
+    if (note == null || !noteCache.isBounded()) {
+      return note;
+    }
+    if (!loadNote(note)) {
+      return null;
+    }
+    unloadNotes(noteCache.touch(note));
+    return note;
+  }
+
+  /**
+   * Returns the note like {@link #getNote(String)} and keeps it loaded until the matching
+   * {@link #releaseNote(Note)}, e.g. while a request on the note is handled.
+   *
+   * @return null when there is no such note or it can not be read from the repo
+   */
+  public Note acquireNote(String id) {
+    Note note;
     synchronized (notes) {
-      return notes.get(id);
+      note = notes.get(id);
+    }
+    if (note == null || !note.acquire()) {
+      return null;
+    }
+    if (noteCache.isBounded()) {
+      unloadNotes(noteCache.touch(note));
+    }
+    return note;
+  }
+
+  /**
+   * Releases a note returned by {@link #acquireNote(String)}, it is unloaded on later uses of
+   * other notes.
+   */
+  public void releaseNote(Note note) {
+    note.release();
+  }
+
+  private boolean containsNote(String id) {
+    synchronized (notes) {
+      return notes.containsKey(id);
+    }
+  }
+
+  /**
+   * Reads the paragraphs of a listed note from the repo.
+   *
+   * @return false when the note can not be read
+   */
+  private boolean loadNote(Note note) {
+    AuthenticationInfo restoreSubject;
+    synchronized (note) {
+      if (note.isLoaded()) {
+        return true;
+      }
+      Note content;
+      try {
+        content = notebookRepo.get(note.getId(), AuthenticationInfo.ANONYMOUS);
+      } catch (IOException e) {
+        logger.error("Failed to load " + note.getId(), e);
+        return false;
+      }
+      if (content == null) {
+        return false;
+      }
+      convertFromSingleResultToMultipleResultsFormat(content);
+      note.load(content);
+      for (Paragraph p : note.getParagraphs()) {
+        p.clearRuntimeInfo(null);
+      }
+      // angular objects stay in the registries when the note is unloaded, they are restored
+      // only when a listed note is loaded for the first time
+      restoreSubject = notesToRestore.remove(note.getId());
+    }
+    if (restoreSubject != null) {
+      restoreAngularObjects(note, restoreSubject);
+    }
+    jobIndex.putNote(note);
+    return true;
+  }
+
+  /**
+   * Unloads the notes evicted from the note cache. Only notes which are written are unloaded,
+   * so they are not saved again. Notes which started running, were changed or are held
+   * meanwhile stay loaded and go back to the cache.
+   */
+  private void unloadNotes(List<Note> evicted) {
+    for (Note note : evicted) {
+      synchronized (note) {
+        if (!note.isLoaded()) {
+          continue;
+        }
+        if (note.isRunningOrPending() || note.isDirty() || note.isHeld()) {
+          noteCache.add(note);
+          continue;
+        }
+        note.unload();
+      }
+      logger.debug("Unloaded note {}", note.getId());
+    }
+  }
+
+  /**
+   * Returns the note if it is loaded, otherwise its content read from the repo without
+   * loading it, so the note cache is not changed.
+   *
+   * @return null when the note can not be read
+   */
+  private Note readNote(Note note) {
+    if (note.isLoaded()) {
+      return note;
+    }
+    try {
+      Note content = notebookRepo.get(note.getId(), AuthenticationInfo.ANONYMOUS);
+      if (content != null) {
+        convertFromSingleResultToMultipleResultsFormat(content);
+      }
+      return content;
+    } catch (IOException e) {
+      logger.error("Failed to read " + note.getId(), e);
+      return null;
     }
   }
 
@@ -327,10 +502,26 @@ public class Notebook implements NoteEventListener {
 
     Note note;
 
-    synchronized (notes) {
-      note = notes.remove(id);
-      folders.removeNote(note);
+    // paragraphs are needed to remove their angular objects, the note is held until it is
+    // out of the note cache
+    Note held = acquireNote(id);
+    try {
+      synchronized (notes) {
+        note = notes.remove(id);
+        folders.removeNote(note);
+      }
+      noteCache.remove(id);
+      notesToRestore.remove(id);
+    } finally {
+      if (held != null) {
+        releaseNote(held);
+      }
+    }
+    jobIndex.removeNote(id);
+    if (persistQueue != null) {
+      persistQueue.cancel(id);
     }
+    note.cancelDelayedPersist();
     try {
       interpreterSettingManager.removeNoteInterpreterSettingBinding(subject.getUser(), id);
     } catch (IOException e) {
@@ -393,6 +584,7 @@ public class Notebook implements NoteEventListener {
   public Revision checkpointNote(String noteId, String checkpointMessage,
       AuthenticationInfo subject) throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      flushPersistQueue();
       return ((NotebookRepoWithVersionControl) notebookRepo)
           .checkpoint(noteId, checkpointMessage, subject);
     } else {
@@ -412,6 +604,8 @@ public class Notebook implements NoteEventListener {
   public Note setNoteRevision(String noteId, String revisionId, AuthenticationInfo subject)
       throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      // a pending save would overwrite the restored revision
+      flushPersistQueue();
       return ((NotebookRepoWithVersionControl) notebookRepo)
           .setNoteRevision(noteId, revisionId, subject);
     } else {
@@ -498,7 +692,6 @@ public class Notebook implements NoteEventListener {
     }
   }
 
-  @SuppressWarnings("rawtypes")
   public Note loadNoteFromRepo(String id, AuthenticationInfo subject) {
     Note note = null;
     try {
@@ -523,16 +716,40 @@ public class Notebook implements NoteEventListener {
     note.setNotebookRepo(notebookRepo);
     note.setCronSupported(getConf());
 
+    for (Paragraph p : note.getParagraphs()) {
+      p.setNote(note);
+      p.clearRuntimeInfo(null);
+    }
+
+    note.setNoteEventListener(this);
+    note.setNoteNameListener(folders);
+    note.setPersistQueue(persistQueue);
+    note.setNoteLoader(noteLoader);
+
+    synchronized (notes) {
+      notes.put(note.getId(), note);
+      folders.putNote(note);
+      refreshCron(note.getId());
+    }
+    jobIndex.putNote(note);
+    unloadNotes(noteCache.touch(note));
+
+    restoreAngularObjects(note, subject);
+    return note;
+  }
+
+  /**
+   * Restores the angular objects saved in the note to the registries of its interpreter groups.
+   */
+  @SuppressWarnings("rawtypes")
+  private void restoreAngularObjects(Note note, AuthenticationInfo subject) {
     Map<String, SnapshotAngularObject> angularObjectSnapshot = new HashMap<>();
 
-    // restore angular object --------------
     Date lastUpdatedDate = new Date(0);
     for (Paragraph p : note.getParagraphs()) {
-      p.setNote(note);
       if (p.getDateFinished() != null && lastUpdatedDate.before(p.getDateFinished())) {
         lastUpdatedDate = p.getDateFinished();
       }
-      p.clearRuntimeInfo(null);
     }
 
     Map<String, List<AngularObject>> savedObjects = note.getAngularObjects();
@@ -551,15 +768,6 @@ public class Notebook implements NoteEventListener {
       }
     }
 
-    note.setNoteEventListener(this);
-    note.setNoteNameListener(folders);
-
-    synchronized (notes) {
-      notes.put(note.getId(), note);
-      folders.putNote(note);
-      refreshCron(note.getId());
-    }
-
     for (String name : angularObjectSnapshot.keySet()) {
       SnapshotAngularObject snapshot = angularObjectSnapshot.get(name);
       List<InterpreterSetting> settings = interpreterSettingManager.get();
@@ -578,16 +786,45 @@ public class Notebook implements NoteEventListener {
         }
       }
     }
-
-    return note;
   }
 
-  void loadAllNotes(AuthenticationInfo subject) throws IOException {
+  List<NoteInfo> loadAllNotes(AuthenticationInfo subject) throws IOException {
     List<NoteInfo> noteInfos = notebookRepo.list(subject);
 
     for (NoteInfo info : noteInfos) {
-      loadNoteFromRepo(info.getId(), subject);
+      if (noteCache.isBounded() && !StringUtils.isBlank(info.getName())
+          && info.getConfig() != null) {
+        addListedNote(info, subject);
+      } else {
+        loadNoteFromRepo(info.getId(), subject);
+      }
+    }
+    return noteInfos;
+  }
+
+  /**
+   * Adds a note of which only the id, name and config are read. Its paragraphs are loaded
+   * by {@link #getNote(String)}, and its angular objects are restored on the first load.
+   */
+  private void addListedNote(NoteInfo info, AuthenticationInfo subject) {
+    Note note = new Note(notebookRepo, replFactory, interpreterSettingManager,
+        jobListenerFactory, noteSearchService, credentials, this);
+    note.setId(info.getId());
+    note.setName(info.getName());
+    note.setConfig(info.getConfig());
+    note.setCronSupported(getConf());
+    note.unload();
+    note.setNoteNameListener(folders);
+    note.setPersistQueue(persistQueue);
+    note.setNoteLoader(noteLoader);
+
+    synchronized (notes) {
+      notes.put(note.getId(), note);
+      folders.putNote(note);
+      refreshCron(note.getId());
     }
+    notesToRestore.put(note.getId(), subject);
+    jobIndex.putListedNote(info);
   }
 
   /**
@@ -597,9 +834,13 @@ public class Notebook implements NoteEventListener {
    * @throws IOException
    */
   public void reloadAllNotes(AuthenticationInfo subject) throws IOException {
+    flushPersistQueue();
     synchronized (notes) {
       notes.clear();
     }
+    noteCache.clear();
+    notesToRestore.clear();
+    jobIndex.clear();
     synchronized (folders) {
       folders.clear();
     }
@@ -611,11 +852,7 @@ public class Notebook implements NoteEventListener {
       }
     }
 
-    List<NoteInfo> noteInfos = notebookRepo.list(subject);
-
-    for (NoteInfo info : noteInfos) {
-      loadNoteFromRepo(info.getId(), subject);
-    }
+    loadAllNotes(subject);
   }
 
   private class SnapshotAngularObject {
@@ -726,69 +963,40 @@ public class Notebook implements NoteEventListener {
     return paragraphItem;
   }
 
-  private long getUnixTimeLastRunParagraph(Paragraph paragraph) {
-
-    Date lastRunningDate;
-    long lastRunningUnixTime;
-
-    Date paragaraphDate = paragraph.getDateStarted();
-    // diff started time <-> finishied time
-    if (paragaraphDate == null) {
-      paragaraphDate = paragraph.getDateFinished();
-    } else {
-      if (paragraph.getDateFinished() != null && paragraph.getDateFinished()
-          .after(paragaraphDate)) {
-        paragaraphDate = paragraph.getDateFinished();
-      }
-    }
-
-    // finished time and started time is not exists.
-    if (paragaraphDate == null) {
-      paragaraphDate = paragraph.getDateCreated();
-    }
-
-    // set last update unixtime(ms).
-    lastRunningDate = paragaraphDate;
-
-    lastRunningUnixTime = lastRunningDate.getTime();
-
-    return lastRunningUnixTime;
-  }
-
   public List<Map<String, Object>> getJobListByParagraphId(String paragraphId) {
-    String gotNoteId = null;
-    List<Note> notes = getAllNotes();
-    for (Note note : notes) {
-      Paragraph p = note.getParagraph(paragraphId);
-      if (p != null) {
-        gotNoteId = note.getId();
-      }
-    }
-    return getJobListByNoteId(gotNoteId);
+    return getJobListByNoteId(jobIndex.getNoteId(paragraphId));
   }
 
   public List<Map<String, Object>> getJobListByNoteId(String noteId) {
-    final String CRON_TYPE_NOTE_KEYWORD = "cron";
-    long lastRunningUnixTime = 0;
-    boolean isNoteRunning = false;
-    Note jobNote = getNote(noteId);
     List<Map<String, Object>> notesInfo = new LinkedList<>();
+    Note jobNote = noteId == null ? null : getNote(noteId);
     if (jobNote == null) {
       return notesInfo;
     }
+    notesInfo.add(getNoteForJobManagerItem(jobNote));
+    return notesInfo;
+  }
 
+  private Map<String, Object> getNoteForJobManagerItem(Note note) {
+    final String CRON_TYPE_NOTE_KEYWORD = "cron";
+    boolean isNoteRunning = false;
+    long lastRunningUnixTime = 0;
     Map<String, Object> info = new HashMap<>();
 
-    info.put("noteId", jobNote.getId());
-    String noteName = jobNote.getName();
+    // set note ID
+    info.put("noteId", note.getId());
+
+    // set note Name
+    String noteName = note.getName();
     if (noteName != null && !noteName.equals("")) {
-      info.put("noteName", jobNote.getName());
+      info.put("noteName", note.getName());
     } else {
-      info.put("noteName", "Note " + jobNote.getId());
+      info.put("noteName", "Note " + note.getId());
     }
+
     // set note type ( cron or normal )
-    if (jobNote.getConfig().containsKey(CRON_TYPE_NOTE_KEYWORD) && !jobNote.getConfig()
-            .get(CRON_TYPE_NOTE_KEYWORD).equals("")) {
+    if (note.getConfig().containsKey(CRON_TYPE_NOTE_KEYWORD) && !note.getConfig()
+        .get(CRON_TYPE_NOTE_KEYWORD).equals("")) {
       info.put("noteType", "cron");
     } else {
       info.put("noteType", "normal");
@@ -796,7 +1004,7 @@ public class Notebook implements NoteEventListener {
 
     // set paragraphs
     List<Map<String, Object>> paragraphsInfo = new LinkedList<>();
-    for (Paragraph paragraph : jobNote.getParagraphs()) {
+    for (Paragraph paragraph : note.getParagraphs()) {
       // check paragraph's status.
       if (paragraph.getStatus().isRunning()) {
         isNoteRunning = true;
@@ -804,17 +1012,17 @@ public class Notebook implements NoteEventListener {
 
       // get data for the job manager.
       Map<String, Object> paragraphItem = getParagraphForJobManagerItem(paragraph);
-      lastRunningUnixTime = getUnixTimeLastRunParagraph(paragraph);
-
+      lastRunningUnixTime =
+          Math.max(NoteJobIndex.getLastRunTime(paragraph), lastRunningUnixTime);
       paragraphsInfo.add(paragraphItem);
     }
 
     // set interpreter bind type
     String interpreterGroupName = null;
-    if (interpreterSettingManager.getInterpreterSettings(jobNote.getId()) != null
-            && interpreterSettingManager.getInterpreterSettings(jobNote.getId()).size() >= 1) {
-      interpreterGroupName =
-          interpreterSettingManager.getInterpreterSettings(jobNote.getId()).get(0).getName();
+    List<InterpreterSetting> settings = interpreterSettingManager.getInterpreterSettings(
+        note.getId());
+    if (settings != null && settings.size() >= 1) {
+      interpreterGroupName = settings.get(0).getName();
     }
 
     // note json object root information.
@@ -822,15 +1030,15 @@ public class Notebook implements NoteEventListener {
     info.put("isRunningJob", isNoteRunning);
     info.put("unixTimeLastRun", lastRunningUnixTime);
     info.put("paragraphs", paragraphsInfo);
-    notesInfo.add(info);
-
-    return notesInfo;
-  };
+    return info;
+  }
 
+  /**
+   * Returns the notes which are running or have been run after lastUpdateServerUnixTime.
+   * Notes are looked up in the job index, so only the matching notes are visited.
+   */
   public List<Map<String, Object>> getJobListByUnixTime(boolean needsReload,
       long lastUpdateServerUnixTime, AuthenticationInfo subject) {
-    final String CRON_TYPE_NOTE_KEYWORD = "cron";
-
     if (needsReload) {
       try {
         reloadAllNotes(subject);
@@ -839,74 +1047,25 @@ public class Notebook implements NoteEventListener {
       }
     }
 
-    List<Note> notes = getAllNotes();
     List<Map<String, Object>> notesInfo = new LinkedList<>();
-    for (Note note : notes) {
-      boolean isNoteRunning = false;
-      boolean isUpdateNote = false;
-      long lastRunningUnixTime = 0;
-      Map<String, Object> info = new HashMap<>();
-
-      // set note ID
-      info.put("noteId", note.getId());
-
-      // set note Name
-      String noteName = note.getName();
-      if (noteName != null && !noteName.equals("")) {
-        info.put("noteName", note.getName());
-      } else {
-        info.put("noteName", "Note " + note.getId());
+    for (String noteId : jobIndex.getNoteIdsUpdatedAfter(lastUpdateServerUnixTime)) {
+      Note note;
+      synchronized (notes) {
+        note = notes.get(noteId);
       }
-
-      // set note type ( cron or normal )
-      if (note.getConfig().containsKey(CRON_TYPE_NOTE_KEYWORD) && !note.getConfig()
-          .get(CRON_TYPE_NOTE_KEYWORD).equals("")) {
-        info.put("noteType", "cron");
-      } else {
-        info.put("noteType", "normal");
+      // unloaded notes are read without loading them, listing jobs doesn't evict notes
+      Note content = note == null ? null : readNote(note);
+      if (content == null) {
+        continue;
       }
-
-      // set paragraphs
-      List<Map<String, Object>> paragraphsInfo = new LinkedList<>();
-      for (Paragraph paragraph : note.getParagraphs()) {
-        // check paragraph's status.
-        if (paragraph.getStatus().isRunning()) {
-          isNoteRunning = true;
-          isUpdateNote = true;
-        }
-
-        // get data for the job manager.
-        Map<String, Object> paragraphItem = getParagraphForJobManagerItem(paragraph);
-        lastRunningUnixTime = Math.max(getUnixTimeLastRunParagraph(paragraph), lastRunningUnixTime);
-
-        // is update note for last server update time.
-        if (lastRunningUnixTime > lastUpdateServerUnixTime) {
-          isUpdateNote = true;
+      if (content != note) {
+        jobIndex.putNote(content);
+        if (!jobIndex.isUpdatedAfter(noteId, lastUpdateServerUnixTime)) {
+          continue;
         }
-        paragraphsInfo.add(paragraphItem);
-      }
-
-      // set interpreter bind type
-      String interpreterGroupName = null;
-      if (interpreterSettingManager.getInterpreterSettings(note.getId()) != null
-          && interpreterSettingManager.getInterpreterSettings(note.getId()).size() >= 1) {
-        interpreterGroupName =
-            interpreterSettingManager.getInterpreterSettings(note.getId()).get(0).getName();
-      }
-
-      // not update and not running -> pass
-      if (!isUpdateNote && !isNoteRunning) {
-        continue;
       }
-
-      // note json object root information.
-      info.put("interpreter", interpreterGroupName);
-      info.put("isRunningJob", isNoteRunning);
-      info.put("unixTimeLastRun", lastRunningUnixTime);
-      info.put("paragraphs", paragraphsInfo);
-      notesInfo.add(info);
+      notesInfo.add(getNoteForJobManagerItem(content));
     }
-
     return notesInfo;
   }
 
@@ -920,8 +1079,21 @@ public class Notebook implements NoteEventListener {
     public void execute(JobExecutionContext context) throws JobExecutionException {
 
       String noteId = context.getJobDetail().getJobDataMap().getString("noteId");
-      Note note = notebook.getNote(noteId);
+      Note note = notebook.acquireNote(noteId);
+      if (note == null) {
+        logger.warn("execution of the cron job is skipped because note {} can not be read",
+            noteId);
+        return;
+      }
+      try {
+        runNote(note);
+      } finally {
+        notebook.releaseNote(note);
+      }
+    }
 
+    private void runNote(Note note) {
+      String noteId = note.getId();
       if (note.isRunningOrPending()) {
         logger.warn("execution of the cron job is skipped because there is a running or pending " +
             "paragraph (note id: {})", noteId);
@@ -1038,7 +1210,27 @@ public class Notebook implements NoteEventListener {
     return conf;
   }
 
+  /**
+   * Waits until the notes waiting in the persist queue are written.
+   */
+  public void flushPersistQueue() {
+    if (persistQueue != null) {
+      persistQueue.flush();
+    }
+  }
+
+  /**
+   * @return queue of the notes persisted in the background, null when notes are persisted
+   * in the calling thread
+   */
+  public NotePersistQueue getPersistQueue() {
+    return persistQueue;
+  }
+
   public void close() {
+    if (persistQueue != null) {
+      persistQueue.close();
+    }
     this.notebookRepo.close();
     this.noteSearchService.close();
   }
@@ -1075,8 +1267,20 @@ public class Notebook implements NoteEventListener {
     }
   }
 
+  private void updateJobIndex(Paragraph p) {
+    Note note = p.getNote();
+    // skip notes which are not (or no longer) in the notebook
+    if (note != null && containsNote(note.getId())) {
+      jobIndex.putParagraph(note.getId(), p);
+    }
+  }
+
   @Override
   public void onParagraphRemove(Paragraph p) {
+    Note note = p.getNote();
+    if (note != null && containsNote(note.getId())) {
+      jobIndex.removeParagraph(note, p);
+    }
     for (NotebookEventListener listener : notebookEventListeners) {
       listener.onParagraphRemove(p);
     }
@@ -1084,6 +1288,7 @@ public class Notebook implements NoteEventListener {
 
   @Override
   public void onParagraphCreate(Paragraph p) {
+    updateJobIndex(p);
     for (NotebookEventListener listener : notebookEventListeners) {
       listener.onParagraphCreate(p);
     }
@@ -1091,6 +1296,7 @@ public class Notebook implements NoteEventListener {
 
   @Override
   public void onParagraphStatusChange(Paragraph p, Job.Status status) {
+    updateJobIndex(p);
     for (NotebookEventListener listener : notebookEventListeners) {
       listener.onParagraphStatusChange(p, status);
     }
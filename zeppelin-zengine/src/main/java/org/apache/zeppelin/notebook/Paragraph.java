@@ -174,6 +174,15 @@ public class Paragraph extends Job implements Cloneable, JsonSerializable {
     return user;
   }
 
+  @Override
+  public String getTenant() {
+    // the user running the paragraph shares the interpreter with the other users
+    if (authenticationInfo != null && authenticationInfo.getUser() != null) {
+      return authenticationInfo.getUser();
+    }
+    return user;
+  }
+
   public String getText() {
     return text;
   }
@@ -320,6 +329,18 @@ public class Paragraph extends Job implements Cloneable, JsonSerializable {
     }
   }
 
+  /**
+   * Paragraphs of an interpreter group read their progress from the same interpreter process.
+   */
+  @Override
+  public Object getPollKey() {
+    Interpreter intp = this.interpreter;
+    if (intp != null && intp.getInterpreterGroup() != null) {
+      return intp.getInterpreterGroup();
+    }
+    return this;
+  }
+
   @Override
   public Map<String, Object> info() {
     return null;
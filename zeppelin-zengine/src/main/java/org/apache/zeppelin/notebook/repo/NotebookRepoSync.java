@@ -23,7 +23,6 @@ import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.NotebookAuthorization;
-import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.plugin.PluginManager;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
@@ -33,6 +32,12 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Notebook repository sync with remote storage
@@ -49,6 +54,7 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   private List<NotebookRepo> repos = new ArrayList<>();
   private boolean oneWaySync;
+  private int syncThreads;
 
   /**
    * @param conf
@@ -58,9 +64,20 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     init(conf);
   }
 
-  public void init(ZeppelinConfiguration conf) throws IOException {
+  /* sync between given repos (for tests) */
+  NotebookRepoSync(ZeppelinConfiguration conf, List<NotebookRepo> repos) {
+    initSync(conf);
+    this.repos.addAll(repos);
+  }
+
+  private void initSync(ZeppelinConfiguration conf) {
     config = conf;
     oneWaySync = conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC);
+    syncThreads = Math.max(1, conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_SYNC_THREADS));
+  }
+
+  public void init(ZeppelinConfiguration conf) throws IOException {
+    initSync(conf);
     String allStorageClassNames = conf.getNotebookStorageClass().trim();
     if (allStorageClassNames.isEmpty()) {
       allStorageClassNames = defaultStorage;
@@ -189,12 +206,14 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   }
 
   /**
-   * Copies new/updated notes from source to destination storage
+   * Copies new/updated notes from source to destination storage.
+   * Notes are compared and copied by up to zeppelin.notebook.sync.threads threads.
    *
    * @throws IOException
    */
   void sync(int sourceRepoIndex, int destRepoIndex, AuthenticationInfo subject) throws IOException {
     LOG.info("Sync started");
+    long start = System.currentTimeMillis();
     NotebookAuthorization auth = NotebookAuthorization.getInstance();
     NotebookRepo srcRepo = getRepo(sourceRepoIndex);
     NotebookRepo dstRepo = getRepo(destRepoIndex);
@@ -202,61 +221,115 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     List <NoteInfo> srcNotes = auth.filterByUser(allSrcNotes, subject);
     List <NoteInfo> dstNotes = dstRepo.list(subject);
 
-    Map<String, List<String>> noteIds = notesCheckDiff(srcNotes, srcRepo, dstNotes, dstRepo,
-        subject);
-    List<String> pushNoteIds = noteIds.get(pushKey);
-    List<String> pullNoteIds = noteIds.get(pullKey);
-    List<String> delDstNoteIds = noteIds.get(delDstKey);
-
-    if (!pushNoteIds.isEmpty()) {
-      LOG.info("Notes with the following IDs will be pushed");
-      for (String id : pushNoteIds) {
-        LOG.info("ID : " + id);
+    ExecutorService executor = Executors.newFixedThreadPool(syncThreads);
+    try {
+      Map<String, List<String>> noteIds = notesCheckDiff(srcNotes, srcRepo, dstNotes, dstRepo,
+          subject, executor);
+      List<String> pushNoteIds = noteIds.get(pushKey);
+      List<String> pullNoteIds = noteIds.get(pullKey);
+      List<String> delDstNoteIds = noteIds.get(delDstKey);
+
+      if (!pushNoteIds.isEmpty()) {
+        LOG.info("Notes with the following IDs will be pushed");
+        for (String id : pushNoteIds) {
+          LOG.info("ID : " + id);
+        }
+        pushNotes(subject, pushNoteIds, srcRepo, dstRepo, false, executor);
+      } else {
+        LOG.info("Nothing to push");
       }
-      pushNotes(subject, pushNoteIds, srcRepo, dstRepo, false);
-    } else {
-      LOG.info("Nothing to push");
-    }
 
-    if (!pullNoteIds.isEmpty()) {
-      LOG.info("Notes with the following IDs will be pulled");
-      for (String id : pullNoteIds) {
-        LOG.info("ID : " + id);
+      if (!pullNoteIds.isEmpty()) {
+        LOG.info("Notes with the following IDs will be pulled");
+        for (String id : pullNoteIds) {
+          LOG.info("ID : " + id);
+        }
+        pushNotes(subject, pullNoteIds, dstRepo, srcRepo, true, executor);
+      } else {
+        LOG.info("Nothing to pull");
       }
-      pushNotes(subject, pullNoteIds, dstRepo, srcRepo, true);
-    } else {
-      LOG.info("Nothing to pull");
-    }
 
-    if (!delDstNoteIds.isEmpty()) {
-      LOG.info("Notes with the following IDs will be deleted from dest");
-      for (String id : delDstNoteIds) {
-        LOG.info("ID : " + id);
+      if (!delDstNoteIds.isEmpty()) {
+        LOG.info("Notes with the following IDs will be deleted from dest");
+        for (String id : delDstNoteIds) {
+          LOG.info("ID : " + id);
+        }
+        deleteNotes(subject, delDstNoteIds, dstRepo);
+      } else {
+        LOG.info("Nothing to delete from dest");
       }
-      deleteNotes(subject, delDstNoteIds, dstRepo);
-    } else {
-      LOG.info("Nothing to delete from dest");
+    } finally {
+      executor.shutdownNow();
     }
 
-    LOG.info("Sync ended");
+    LOG.info("Sync ended in {}ms", System.currentTimeMillis() - start);
   }
 
   public void sync(AuthenticationInfo subject) throws IOException {
     sync(0, 1, subject);
   }
 
-  private void pushNotes(AuthenticationInfo subject, List<String> ids, NotebookRepo localRepo,
-      NotebookRepo remoteRepo, boolean setPermissions) {
-    for (String id : ids) {
+  private void pushNotes(final AuthenticationInfo subject, List<String> ids,
+      final NotebookRepo localRepo, final NotebookRepo remoteRepo, final boolean setPermissions,
+      ExecutorService executor) {
+    final int total = ids.size();
+    final AtomicInteger done = new AtomicInteger();
+    final AtomicInteger failed = new AtomicInteger();
+    long start = System.currentTimeMillis();
+    Map<String, Callable<Void>> tasks = new LinkedHashMap<>();
+    for (final String id : ids) {
+      tasks.put(id, new Callable<Void>() {
+        @Override
+        public Void call() {
+          try {
+            remoteRepo.save(localRepo.get(id, subject), subject);
+            if (setPermissions && emptyNoteAcl(id)) {
+              makePrivate(id, subject);
+            }
+          } catch (IOException e) {
+            failed.incrementAndGet();
+            LOG.error("Failed to push note to storage, moving onto next one", e);
+          }
+          int count = done.incrementAndGet();
+          if (count % 100 == 0) {
+            LOG.info("Copied {}/{} notes to {}", count, total,
+                remoteRepo.getClass().getSimpleName());
+          }
+          return null;
+        }
+      });
+    }
+    invokeAll(executor, tasks);
+    LOG.info("Copied {} notes to {} in {}ms, {} failed", done.get(),
+        remoteRepo.getClass().getSimpleName(), System.currentTimeMillis() - start, failed.get());
+  }
+
+  /**
+   * Runs the tasks of each note and returns their results by note id.
+   * Notes whose task failed have no result.
+   */
+  private <T> Map<String, T> invokeAll(ExecutorService executor,
+      Map<String, Callable<T>> tasks) {
+    Map<String, Future<T>> futures = new LinkedHashMap<>();
+    for (Map.Entry<String, Callable<T>> task : tasks.entrySet()) {
+      futures.put(task.getKey(), executor.submit(task.getValue()));
+    }
+    Map<String, T> results = new HashMap<>();
+    for (Map.Entry<String, Future<T>> future : futures.entrySet()) {
       try {
-        remoteRepo.save(localRepo.get(id, subject), subject);
-        if (setPermissions && emptyNoteAcl(id)) {
-          makePrivate(id, subject);
+        T result = future.getValue().get();
+        if (result != null) {
+          results.put(future.getKey(), result);
         }
-      } catch (IOException e) {
-        LOG.error("Failed to push note to storage, moving onto next one", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.error("Notebook sync interrupted", e);
+        break;
+      } catch (ExecutionException e) {
+        LOG.error("Notebook sync task of note {} failed", future.getKey(), e.getCause());
       }
     }
+    return results;
   }
 
   private boolean emptyNoteAcl(String noteId) {
@@ -311,38 +384,34 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   }
 
   private Map<String, List<String>> notesCheckDiff(List<NoteInfo> sourceNotes,
-      NotebookRepo sourceRepo, List<NoteInfo> destNotes, NotebookRepo destRepo,
-      AuthenticationInfo subject) {
+      final NotebookRepo sourceRepo, List<NoteInfo> destNotes, final NotebookRepo destRepo,
+      final AuthenticationInfo subject, ExecutorService executor) {
     List <String> pushIDs = new ArrayList<>();
     List <String> pullIDs = new ArrayList<>();
     List <String> delDstIDs = new ArrayList<>();
 
-    NoteInfo dnote;
-    Date sdate, ddate;
-    for (NoteInfo snote : sourceNotes) {
-      dnote = containsID(destNotes, snote.getId());
-      if (dnote != null) {
-        try {
-          /* note exists in source and destination storage systems */
-          sdate = lastModificationDate(sourceRepo.get(snote.getId(), subject));
-          ddate = lastModificationDate(destRepo.get(dnote.getId(), subject));
-        } catch (IOException e) {
-          LOG.error("Cannot access previously listed note {} from storage ", dnote.getId(), e);
-          continue;
-        }
+    Map<String, NoteInfo> sourceNoteMap = toMap(sourceNotes);
+    Map<String, NoteInfo> destNoteMap = toMap(destNotes);
 
-        if (sdate.compareTo(ddate) != 0) {
-          if (sdate.after(ddate) || oneWaySync) {
-            /* if source contains more up to date note - push
-             * if oneWaySync is enabled, always push no matter who's newer */
-            pushIDs.add(snote.getId());
-            LOG.info("Modified note is added to push list : " + sdate);
-          } else {
-            /* destination contains more up to date note - pull */
-            LOG.info("Modified note is added to pull list : " + ddate);
-            pullIDs.add(snote.getId());
+    /* notes which exist in source and destination storage systems are compared by the date
+     * carried by the listing, and read from storage only when the repo did not provide it */
+    Map<String, Callable<Date[]>> compareTasks = new LinkedHashMap<>();
+    for (final NoteInfo snote : sourceNoteMap.values()) {
+      final NoteInfo dnote = destNoteMap.get(snote.getId());
+      if (dnote != null) {
+        compareTasks.put(snote.getId(), new Callable<Date[]>() {
+          @Override
+          public Date[] call() {
+            try {
+              return new Date[] {lastModificationDate(snote, sourceRepo, subject),
+                  lastModificationDate(dnote, destRepo, subject)};
+            } catch (IOException e) {
+              LOG.error("Cannot access previously listed note {} from storage ", dnote.getId(),
+                  e);
+              return null;
+            }
           }
-        }
+        });
       } else {
         /* note exists in source storage, and absent in destination
          * view source as up to date - push
@@ -351,9 +420,27 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       }
     }
 
-    for (NoteInfo note : destNotes) {
-      dnote = containsID(sourceNotes, note.getId());
-      if (dnote == null) {
+    Map<String, Date[]> dates = invokeAll(executor, compareTasks);
+    for (Map.Entry<String, Date[]> noteDates : dates.entrySet()) {
+      String id = noteDates.getKey();
+      Date sdate = noteDates.getValue()[0];
+      Date ddate = noteDates.getValue()[1];
+      if (sdate.compareTo(ddate) != 0) {
+        if (sdate.after(ddate) || oneWaySync) {
+          /* if source contains more up to date note - push
+           * if oneWaySync is enabled, always push no matter who's newer */
+          pushIDs.add(id);
+          LOG.info("Modified note is added to push list : " + sdate);
+        } else {
+          /* destination contains more up to date note - pull */
+          LOG.info("Modified note is added to pull list : " + ddate);
+          pullIDs.add(id);
+        }
+      }
+    }
+
+    for (NoteInfo note : destNoteMap.values()) {
+      if (!sourceNoteMap.containsKey(note.getId())) {
         /* note exists in destination storage, and absent in source */
         if (oneWaySync) {
           /* if oneWaySync is enabled, delete the note from destination */
@@ -374,38 +461,24 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return map;
   }
 
-  private NoteInfo containsID(List <NoteInfo> notes, String id) {
+  private Map<String, NoteInfo> toMap(List<NoteInfo> notes) {
+    Map<String, NoteInfo> map = new LinkedHashMap<>();
     for (NoteInfo note : notes) {
-      if (note.getId().equals(id)) {
-        return note;
-      }
+      map.put(note.getId(), note);
     }
-    return null;
+    return map;
   }
+
   /**
-   * checks latest modification date based on Paragraph fields
-   * @return -Date
+   * Latest modification date of the note, read from storage when the listing
+   * does not carry it.
    */
-  private Date lastModificationDate(Note note) {
-    Date latest = new Date(0L);
-    Date tempCreated, tempStarted, tempFinished;
-
-    for (Paragraph paragraph : note.getParagraphs()) {
-      tempCreated = paragraph.getDateCreated();
-      tempStarted = paragraph.getDateStarted();
-      tempFinished = paragraph.getDateFinished();
-
-      if (tempCreated != null && tempCreated.after(latest)) {
-        latest = tempCreated;
-      }
-      if (tempStarted != null && tempStarted.after(latest)) {
-        latest = tempStarted;
-      }
-      if (tempFinished != null && tempFinished.after(latest)) {
-        latest = tempFinished;
-      }
+  private Date lastModificationDate(NoteInfo info, NotebookRepo repo, AuthenticationInfo subject)
+      throws IOException {
+    if (info.getLastModified() != null) {
+      return info.getLastModified();
     }
-    return latest;
+    return NoteInfo.lastModificationDate(repo.get(info.getId(), subject));
   }
 
   @Override
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.notebook.Note;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores paragraph results whose json is longer than zeppelin.notebook.result.blob.threshold
+ * characters out of note.json, as blobs named by the hash of their content.
+ *
+ * note.json refers to the blob in the "resultsRef" field of the paragraph. A blob is only
+ * written when no blob with the same content exists, so saving a note whose results did not
+ * change only rewrites note.json. Repos implement the blob io, blobs live next to note.json.
+ */
+public abstract class ParagraphResultStore {
+  private static final Logger LOG = LoggerFactory.getLogger(ParagraphResultStore.class);
+
+  static final String RESULTS = "results";
+  static final String RESULTS_REF = "resultsRef";
+
+  private final long threshold;
+
+  /**
+   * @param threshold results longer than this many characters are stored as blobs,
+   *                  disabled when less than 1
+   */
+  protected ParagraphResultStore(long threshold) {
+    this.threshold = threshold;
+  }
+
+  protected ParagraphResultStore(ZeppelinConfiguration conf) {
+    this(conf.getLong(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD));
+  }
+
+  protected abstract boolean blobExists(String noteId, String blobId) throws IOException;
+
+  protected abstract void writeBlob(String noteId, String blobId, String content)
+      throws IOException;
+
+  protected abstract String readBlob(String noteId, String blobId) throws IOException;
+
+  protected abstract List<String> listBlobs(String noteId) throws IOException;
+
+  protected abstract void removeBlob(String noteId, String blobId) throws IOException;
+
+  public boolean isEnabled() {
+    return threshold > 0;
+  }
+
+  /**
+   * Writes the blobs of the large results of the note which are not stored yet.
+   *
+   * @param blobIds filled with the ids of the blobs the note refers to
+   * @return json of the note to write to note.json
+   */
+  public String toJson(Note note, Set<String> blobIds) throws IOException {
+    if (!isEnabled()) {
+      return note.toJson();
+    }
+    StringWriter writer = new StringWriter();
+    writeJson(note, blobIds, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Same as {@link #toJson(Note, Set)}, writing the json of the note to the writer.
+   */
+  public void writeJson(Note note, Set<String> blobIds, Writer writer) throws IOException {
+    if (!isEnabled()) {
+      note.toJson(writer);
+      return;
+    }
+    JsonObject json = note.toJsonObject();
+    JsonElement paragraphs = json.get("paragraphs");
+    if (paragraphs != null && paragraphs.isJsonArray()) {
+      for (JsonElement paragraph : paragraphs.getAsJsonArray()) {
+        String blobId = moveResults(note.getId(), paragraph.getAsJsonObject());
+        if (blobId != null) {
+          blobIds.add(blobId);
+        }
+      }
+    }
+    try {
+      Note.getGson().toJson(json, writer);
+    } catch (JsonIOException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private String moveResults(String noteId, JsonObject paragraph) throws IOException {
+    JsonElement results = paragraph.get(RESULTS);
+    if (results == null || results.isJsonNull()) {
+      return null;
+    }
+    String content = results.toString();
+    if (content.length() <= threshold) {
+      return null;
+    }
+    String blobId = Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    if (!blobExists(noteId, blobId)) {
+      writeBlob(noteId, blobId, content);
+    }
+    paragraph.remove(RESULTS);
+    paragraph.addProperty(RESULTS_REF, blobId);
+    return blobId;
+  }
+
+  /**
+   * Reads the note from the content of note.json, with the results stored as blobs.
+   */
+  public Note fromJson(String noteId, String noteJson) throws IOException {
+    if (!noteJson.contains(RESULTS_REF)) {
+      return Note.fromJson(noteJson);
+    }
+    return fromJson(noteId, new JsonParser().parse(noteJson).getAsJsonObject());
+  }
+
+  /**
+   * Reads the note from note.json read from the reader.
+   */
+  public Note readJson(String noteId, Reader reader) throws IOException {
+    JsonElement json;
+    try {
+      json = new JsonParser().parse(reader);
+    } catch (JsonParseException e) {
+      throw new IOException("Can't parse note " + noteId, e);
+    }
+    if (!json.isJsonObject()) {
+      throw new IOException("Note " + noteId + " is not a json object");
+    }
+    return fromJson(noteId, json.getAsJsonObject());
+  }
+
+  private Note fromJson(String noteId, JsonObject json) throws IOException {
+    JsonElement paragraphs = json.get("paragraphs");
+    if (paragraphs != null && paragraphs.isJsonArray()) {
+      for (JsonElement element : paragraphs.getAsJsonArray()) {
+        JsonObject paragraph = element.getAsJsonObject();
+        JsonElement ref = paragraph.remove(RESULTS_REF);
+        if (ref != null) {
+          paragraph.add(RESULTS, new JsonParser().parse(readBlob(noteId, ref.getAsString())));
+        }
+      }
+    }
+    return Note.fromJson(json);
+  }
+
+  /**
+   * Removes the blobs of the note other than the given ones. Called after note.json is
+   * written, so a failed save never loses results.
+   */
+  public void removeUnreferencedBlobs(String noteId, Set<String> blobIds) {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      for (String blobId : listBlobs(noteId)) {
+        if (!blobIds.contains(blobId)) {
+          removeBlob(noteId, blobId);
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to remove unused results of note " + noteId, e);
+    }
+  }
+}
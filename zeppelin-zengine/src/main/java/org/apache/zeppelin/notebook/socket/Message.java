@@ -42,6 +42,13 @@ public class Message implements JsonSerializable {
     PARAGRAPH,        // [s-c] paragraph info
                       // @param paragraph serialized paragraph object
 
+    PARAGRAPH_PATCH,  // [s-c] changed fields of a paragraph
+                      // @param noteId
+                      // @param paragraphId
+                      // @param revision paragraph revision after applying the patch
+                      // @param fields changed fields
+                      // @param removed names of removed fields
+
     PROGRESS,         // [s-c] progress update
                       // @param id paragraph id
                       // @param progress percentage progress
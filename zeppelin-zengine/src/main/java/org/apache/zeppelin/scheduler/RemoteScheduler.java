@@ -17,18 +17,30 @@
 
 package org.apache.zeppelin.scheduler;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter
@@ -37,15 +49,20 @@ import java.util.concurrent.ExecutorService;
 public class RemoteScheduler implements Scheduler {
   Logger logger = LoggerFactory.getLogger(RemoteScheduler.class);
 
-  List<Job> queue = new LinkedList<>();
+  // shares the scheduler between the users of a shared interpreter
+  FairJobQueue queue = new FairJobQueue();
   List<Job> running = new LinkedList<>();
   private ExecutorService executor;
   private SchedulerListener listener;
-  boolean terminate = false;
+  volatile boolean terminate = false;
   private String name;
-  private int maxConcurrency;
+  private volatile int maxConcurrency;
   private final String sessionId;
   private RemoteInterpreter remoteInterpreter;
+  private ListenableFuture<RemoteInterpreterProcess> processFuture;
+  // job being submitted to the remote scheduler, guarded by queue
+  private JobRunner submittingJob;
+  private final JobStatusPoller jobStatusPoller = new JobStatusPoller();
 
   public RemoteScheduler(String name, ExecutorService executor, String sessionId,
                          RemoteInterpreter remoteInterpreter, SchedulerListener listener,
@@ -58,42 +75,91 @@ public class RemoteScheduler implements Scheduler {
     this.maxConcurrency = maxConcurrency;
   }
 
+  /**
+   * Jobs are started by submit, by the end of running jobs and by the start of the interpreter
+   * process, no thread waits for them.
+   */
   @Override
   public void run() {
-    while (terminate == false) {
-      Job job = null;
+  }
 
-      synchronized (queue) {
-        if (running.size() >= maxConcurrency || queue.isEmpty() == true) {
-          try {
-            queue.wait(500);
-          } catch (InterruptedException e) {
-            logger.error("Exception in RemoteScheduler while run queue.wait", e);
-          }
-          continue;
-        }
+  /**
+   * Starts the next job when there is room for it. Jobs are submitted to the remote scheduler
+   * one at a time to keep their order there, the next one starts once the job being submitted
+   * is running remotely.
+   */
+  private void dispatch() {
+    synchronized (queue) {
+      if (!canDispatch() || queue.isEmpty()) {
+        return;
+      }
+    }
 
-        job = queue.remove(0);
-        running.add(job);
+    // the interpreter process is started outside of the queue lock, its listener dispatches
+    ListenableFuture<RemoteInterpreterProcess> process = getInterpreterProcessFuture();
+    if (!process.isDone()) {
+      return;
+    }
+    synchronized (queue) {
+      if (!canDispatch()) {
+        return;
       }
+      // null when all the waiting jobs belong to users at their concurrency limit
+      Job job = queue.poll();
+      if (job == null) {
+        return;
+      }
+      running.add(job);
+      submittingJob = new JobRunner(this, job);
+      executor.execute(submittingJob);
+    }
+  }
 
-      // run
-      Scheduler scheduler = this;
-      JobRunner jobRunner = new JobRunner(scheduler, job);
-      executor.execute(jobRunner);
+  private boolean canDispatch() {
+    return !terminate && submittingJob == null && running.size() < maxConcurrency;
+  }
 
-      // wait until it is submitted to the remote
-      while (!jobRunner.isJobSubmittedInRemote()) {
-        synchronized (queue) {
-          try {
-            queue.wait(500);
-          } catch (InterruptedException e) {
-            logger.error("Exception in RemoteScheduler while jobRunner.isJobSubmittedInRemote " +
-                "queue.wait", e);
-          }
-        }
+  private void onJobSubmittedRemotely(JobRunner jobRunner) {
+    synchronized (queue) {
+      if (submittingJob != jobRunner) {
+        return;
       }
+      submittingJob = null;
     }
+    dispatch();
+  }
+
+  /**
+   * Jobs stay in the queue while the interpreter process starts, so no thread of the executor
+   * waits for the process. A failed start is reported by the job which runs next, the following
+   * jobs start the process again.
+   */
+  private synchronized ListenableFuture<RemoteInterpreterProcess> getInterpreterProcessFuture() {
+    ListenableFuture<RemoteInterpreterProcess> future = processFuture;
+    if (future != null && future.isDone()) {
+      try {
+        future.get();
+      } catch (InterruptedException | ExecutionException | CancellationException e) {
+        processFuture = null;
+      }
+      return future;
+    }
+    if (future == null) {
+      try {
+        future = remoteInterpreter.getOrCreateInterpreterProcessAsync();
+      } catch (RuntimeException e) {
+        return Futures.immediateFailedFuture(e);
+      }
+      // set first, the listener runs right away when the process is already started
+      processFuture = future;
+      future.addListener(new Runnable() {
+        @Override
+        public void run() {
+          dispatch();
+        }
+      }, MoreExecutors.directExecutor());
+    }
+    return future;
   }
 
   @Override
@@ -103,28 +169,16 @@ public class RemoteScheduler implements Scheduler {
 
   @Override
   public Collection<Job> getJobsWaiting() {
-    List<Job> ret = new LinkedList<>();
     synchronized (queue) {
-      for (Job job : queue) {
-        ret.add(job);
-      }
+      return queue.getJobs();
     }
-    return ret;
   }
 
   @Override
   public Job removeFromWaitingQueue(String jobId) {
     synchronized (queue) {
-      Iterator<Job> it = queue.iterator();
-      while (it.hasNext()) {
-        Job job = it.next();
-        if (job.getId().equals(jobId)) {
-          it.remove();
-          return job;
-        }
-      }
+      return queue.remove(jobId);
     }
-    return null;
   }
 
   @Override
@@ -147,117 +201,147 @@ public class RemoteScheduler implements Scheduler {
 
     synchronized (queue) {
       queue.add(job);
-      queue.notify();
     }
+    dispatch();
   }
 
   public void setMaxConcurrency(int maxConcurrency) {
     this.maxConcurrency = maxConcurrency;
+    dispatch();
+  }
+
+  /**
+   * @param maxConcurrencyPerTenant maximum running jobs per user, 0 for no limit
+   */
+  public void setMaxConcurrencyPerTenant(int maxConcurrencyPerTenant) {
     synchronized (queue) {
-      queue.notify();
+      queue.setMaxConcurrencyPerTenant(maxConcurrencyPerTenant);
     }
+    dispatch();
   }
 
   /**
-   * Role of the class is get status info from remote process from PENDING to
-   * RUNNING status.
+   * @see FairJobQueue#setWeights(String)
    */
-  private class JobStatusPoller extends Thread {
-    private long initialPeriodMsec;
-    private long initialPeriodCheckIntervalMsec;
-    private long checkIntervalMsec;
-    private volatile boolean terminate;
-    private JobListener listener;
-    private Job job;
-    volatile Status lastStatus;
-
-    public JobStatusPoller(long initialPeriodMsec,
-        long initialPeriodCheckIntervalMsec, long checkIntervalMsec, Job job,
-        JobListener listener) {
-      setName("JobStatusPoller-" + job.getId());
-      this.initialPeriodMsec = initialPeriodMsec;
-      this.initialPeriodCheckIntervalMsec = initialPeriodCheckIntervalMsec;
-      this.checkIntervalMsec = checkIntervalMsec;
-      this.job = job;
-      this.listener = listener;
-      this.terminate = false;
+  public void setTenantWeights(String weights) {
+    synchronized (queue) {
+      queue.setWeights(weights);
     }
+  }
 
-    @Override
-    public void run() {
-      long started = System.currentTimeMillis();
-      while (terminate == false) {
-        long current = System.currentTimeMillis();
-        long interval;
-        if (current - started < initialPeriodMsec) {
-          interval = initialPeriodCheckIntervalMsec;
-        } else {
-          interval = checkIntervalMsec;
-        }
+  public Map<String, Integer> getWaitingJobsPerTenant() {
+    synchronized (queue) {
+      return queue.getWaitingJobsPerTenant();
+    }
+  }
 
-        synchronized (this) {
-          try {
-            this.wait(interval);
-          } catch (InterruptedException e) {
-            logger.error("Exception in RemoteScheduler while run this.wait", e);
-          }
-        }
+  public long getAverageWaitMs() {
+    synchronized (queue) {
+      return queue.getAverageWaitMs();
+    }
+  }
 
-        if (terminate) {
-          // terminated by shutdown
-          break;
-        }
+  public long getMaxWaitMs() {
+    synchronized (queue) {
+      return queue.getMaxWaitMs();
+    }
+  }
 
-        Status newStatus = getStatus();
-        if (newStatus == Status.UNKNOWN) { // unknown
-          continue;
-        }
+  /**
+   * Gets the status of the jobs of this scheduler from the remote process until they are
+   * RUNNING there. One task of the shared poller executor starts the polls of all the jobs of
+   * the scheduler, every job is polled often right after it started and less often later.
+   * The polls block on the remote process, so they run on the poll executor keyed by the
+   * interpreter group, one at a time, and the next poll starts after the last one returned.
+   */
+  private class JobStatusPoller implements Runnable {
+    private static final long TICK_MSEC = 100;
+    private static final long INITIAL_PERIOD_MSEC = 1500;
+    private static final long INITIAL_PERIOD_CHECK_INTERVAL_MSEC = 100;
+    private static final long CHECK_INTERVAL_MSEC = 500;
+
+    private final Set<JobRunner> runners =
+        Collections.newSetFromMap(new ConcurrentHashMap<JobRunner, Boolean>());
+    private ScheduledFuture<?> pollFuture;
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+
+    public synchronized void add(JobRunner runner) {
+      runners.add(runner);
+      if (pollFuture == null) {
+        pollFuture = JobProgressPoller.getExecutor().scheduleWithFixedDelay(this, TICK_MSEC,
+            TICK_MSEC, TimeUnit.MILLISECONDS);
+      }
+    }
 
-        if (newStatus != Status.READY && newStatus != Status.PENDING) {
-          // we don't need more
-          break;
-        }
+    public void remove(JobRunner runner) {
+      runners.remove(runner);
+    }
+
+    public synchronized void shutdown() {
+      if (pollFuture != null) {
+        pollFuture.cancel(false);
+        pollFuture = null;
       }
-      terminate = true;
+      runners.clear();
     }
 
-    public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
+    @Override
+    public void run() {
+      if (!polling.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        JobProgressPoller.getPollExecutor().execute(getPollKey(), new Runnable() {
+          @Override
+          public void run() {
+            try {
+              pollJobs();
+            } finally {
+              polling.set(false);
+            }
+          }
+        });
+      } catch (RuntimeException e) {
+        polling.set(false);
+        logger.error("Can not start status poll of scheduler " + name, e);
       }
     }
 
+    private Object getPollKey() {
+      // same key as the progress polls of the paragraphs using the process
+      Object interpreterGroup = remoteInterpreter.getInterpreterGroup();
+      return interpreterGroup != null ? interpreterGroup : RemoteScheduler.this;
+    }
 
-    private Status getLastStatus() {
-      if (terminate == true) {
-        if (job.getErrorMessage() != null) {
-          return Status.ERROR;
-        } else if (lastStatus != Status.FINISHED &&
-            lastStatus != Status.ERROR &&
-            lastStatus != Status.ABORT) {
-          return Status.FINISHED;
+    private void pollJobs() {
+      long now = System.currentTimeMillis();
+      for (JobRunner runner : runners) {
+        if (now < runner.nextStatusPollTime) {
+          continue;
+        }
+        Status status;
+        try {
+          status = runner.pollStatus();
+        } catch (Exception e) {
+          logger.error("Fail to get status of job " + runner.job.getId(), e);
+          runners.remove(runner);
+          continue;
+        }
+        if (status != Status.UNKNOWN && status != Status.READY && status != Status.PENDING) {
+          // we don't need more
+          runners.remove(runner);
         } else {
-          return (lastStatus == null) ? Status.FINISHED : lastStatus;
+          runner.nextStatusPollTime = now + (now - runner.startTime < INITIAL_PERIOD_MSEC ?
+              INITIAL_PERIOD_CHECK_INTERVAL_MSEC : CHECK_INTERVAL_MSEC);
         }
-      } else {
-        return (lastStatus == null) ? Status.UNKNOWN : lastStatus;
-      }
-    }
-
-    public synchronized Status getStatus() {
-      if (!remoteInterpreter.isOpened()) {
-        return getLastStatus();
       }
-      Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
-      if (status == Status.UNKNOWN) {
-        // not found this job in the remote schedulers.
-        // maybe not submitted, maybe already finished
-        return job.getStatus();
+      synchronized (this) {
+        // no task while there is no job to poll, the next job schedules it again
+        if (runners.isEmpty() && pollFuture != null) {
+          pollFuture.cancel(false);
+          pollFuture = null;
+        }
       }
-      lastStatus = status;
-      listener.onStatusChange(job, null, status);
-      return status;
     }
   }
 
@@ -268,6 +352,10 @@ public class RemoteScheduler implements Scheduler {
     private Job job;
     private volatile boolean jobExecuted;
     volatile boolean jobSubmittedRemotely;
+    private boolean statusPolling;
+    private volatile Status lastStatus;
+    private final long startTime = System.currentTimeMillis();
+    volatile long nextStatusPollTime;
 
     public JobRunner(Scheduler scheduler, Job job) {
       this.scheduler = scheduler;
@@ -280,6 +368,32 @@ public class RemoteScheduler implements Scheduler {
       return jobSubmittedRemotely;
     }
 
+    private void setJobSubmittedRemotely() {
+      if (!jobSubmittedRemotely) {
+        jobSubmittedRemotely = true;
+        onJobSubmittedRemotely(this);
+      }
+    }
+
+    synchronized Status pollStatus() {
+      if (!statusPolling || !remoteInterpreter.isOpened()) {
+        return (lastStatus == null) ? Status.UNKNOWN : lastStatus;
+      }
+      Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
+      if (status == Status.UNKNOWN) {
+        // not found this job in the remote schedulers.
+        // maybe not submitted, maybe already finished
+        return job.getStatus();
+      }
+      lastStatus = status;
+      onStatusChange(job, null, status);
+      return status;
+    }
+
+    private synchronized void setStatusPolling(boolean statusPolling) {
+      this.statusPolling = statusPolling;
+    }
+
     @Override
     public void run() {
       if (job.isAborted()) {
@@ -288,16 +402,15 @@ public class RemoteScheduler implements Scheduler {
           job.aborted = false;
 
           running.remove(job);
-          queue.notify();
+          queue.finished(job);
         }
-        jobSubmittedRemotely = true;
+        setJobSubmittedRemotely();
 
         return;
       }
 
-      JobStatusPoller jobStatusPoller = new JobStatusPoller(1500, 100, 500,
-          job, this);
-      jobStatusPoller.start();
+      setStatusPolling(true);
+      jobStatusPoller.add(this);
 
       if (listener != null) {
         listener.jobStarted(scheduler, job);
@@ -305,14 +418,11 @@ public class RemoteScheduler implements Scheduler {
       job.run();
 
       jobExecuted = true;
-      jobSubmittedRemotely = true;
+      setJobSubmittedRemotely();
 
-      jobStatusPoller.shutdown();
-      try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        logger.error("JobStatusPoller interrupted", e);
-      }
+      jobStatusPoller.remove(this);
+      // waits for the status poll in progress
+      setStatusPolling(false);
 
       // set job status based on result.
       Object jobResult = job.getReturn();
@@ -339,8 +449,9 @@ public class RemoteScheduler implements Scheduler {
         job.aborted = false;
 
         running.remove(job);
-        queue.notify();
+        queue.finished(job);
       }
+      dispatch();
     }
 
     @Override
@@ -357,11 +468,11 @@ public class RemoteScheduler implements Scheduler {
           // so not updating the remoteStatus
           return;
         } else if (after == Status.RUNNING) {
-          jobSubmittedRemotely = true;
+          setJobSubmittedRemotely();
           job.setStatus(Status.RUNNING);
         }
       } else {
-        jobSubmittedRemotely = true;
+        setJobSubmittedRemotely();
       }
 
       // only set status when it is RUNNING
@@ -375,10 +486,7 @@ public class RemoteScheduler implements Scheduler {
   @Override
   public void stop() {
     terminate = true;
-    synchronized (queue) {
-      queue.notify();
-    }
-
+    jobStatusPoller.shutdown();
   }
 
 }
@@ -17,11 +17,19 @@
 package org.apache.zeppelin.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -32,8 +40,6 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
@@ -43,6 +49,8 @@ import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
@@ -51,8 +59,12 @@ import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
 import org.apache.lucene.search.highlight.TextFragment;
 import org.apache.lucene.search.highlight.TokenSources;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.RAMDirectory;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,8 +76,14 @@ import com.google.common.collect.Lists;
 /**
  * Search (both, indexing and query) the notebooks using Lucene.
  *
- * Query is thread-safe, as creates new IndexReader every time.
+ * Query is thread-safe, as it acquires a near-real-time searcher from SearcherManager.
  * Index is thread-safe, as re-uses single IndexWriter, which is thread-safe.
+ *
+ * Changes are not committed on every update, but periodically in the background, so
+ * saving a paragraph never waits for an fsync. When the index lives on disk, every note
+ * stores the fingerprint of its indexed content. On startup
+ * {@link #addIndexDocs(List, NoteReader)} compares it with the fingerprint listed by the repo
+ * and only reads and re-indexes the notes which changed.
  */
 public class LuceneSearch implements SearchService {
   private static final Logger LOG = LoggerFactory.getLogger(LuceneSearch.class);
@@ -74,21 +92,110 @@ public class LuceneSearch implements SearchService {
   private static final String SEARCH_FIELD_TITLE = "header";
   static final String PARAGRAPH = "paragraph";
   static final String ID_FIELD = "id";
+  static final String VERSION = "version";
+  private static final String VERSION_FIELD = "noteVersion";
+
+  static final long DEFAULT_COMMIT_INTERVAL_MS = 1000;
 
-  Directory ramDirectory;
+  Directory directory;
   Analyzer analyzer;
   IndexWriterConfig iwc;
   IndexWriter writer;
+  SearcherManager searcherManager;
+  private ScheduledExecutorService commitExecutor;
 
+  /**
+   * Creates an in-memory index.
+   */
   public LuceneSearch() {
-    ramDirectory = new RAMDirectory();
+    this(new RAMDirectory(), DEFAULT_COMMIT_INTERVAL_MS);
+  }
+
+  /**
+   * Creates an index persisted in {@link ZeppelinConfiguration#getSearchIndexPath()}.
+   */
+  public LuceneSearch(ZeppelinConfiguration conf) {
+    this(openDirectory(conf.getSearchIndexPath()),
+        conf.getLong(ZeppelinConfiguration.ConfVars.ZEPPELIN_SEARCH_INDEX_COMMIT_INTERVAL));
+  }
+
+  LuceneSearch(Directory directory, long commitIntervalMs) {
+    this.directory = directory;
     analyzer = new StandardAnalyzer();
-    iwc = new IndexWriterConfig(analyzer);
     try {
-      writer = new IndexWriter(ramDirectory, iwc);
+      openWriter();
+    } catch (LockObtainFailedException e) {
+      // e.g. another server shares the index path, or a stale write.lock was left by a crash
+      LOG.error("Search index {} is locked, fall back to in-memory index: {}",
+          directory, e.getMessage());
+      closeQuietly(directory);
+      this.directory = new RAMDirectory();
+      try {
+        openWriter();
+      } catch (IOException e1) {
+        LOG.error("Failed to create new IndexWriter", e1);
+      }
     } catch (IOException e) {
       LOG.error("Failed to create new IndexWriter", e);
     }
+
+    commitExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, "LuceneSearchCommitter");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    commitExecutor.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        commit();
+      }
+    }, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  private void openWriter() throws IOException {
+    iwc = new IndexWriterConfig(analyzer);
+    writer = new IndexWriter(directory, iwc);
+    searcherManager = new SearcherManager(writer, true, null);
+  }
+
+  private static void closeQuietly(Directory directory) {
+    try {
+      directory.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close search index directory {}", directory, e);
+    }
+  }
+
+  private static Directory openDirectory(String indexPath) {
+    Path path = Paths.get(indexPath);
+    try {
+      Files.createDirectories(path);
+      LOG.info("Using search index directory {}", path);
+      return new MMapDirectory(path);
+    } catch (IOException e) {
+      LOG.error("Failed to open search index directory {}, fall back to in-memory index",
+          path, e);
+      return new RAMDirectory();
+    }
+  }
+
+  /**
+   * Commits pending changes, if any. Called periodically in the background.
+   */
+  void commit() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      if (writer.hasUncommittedChanges()) {
+        writer.commit();
+      }
+    } catch (IOException | IllegalStateException e) {
+      LOG.error("Failed to commit the notebook index", e);
+    }
   }
 
   /* (non-Javadoc)
@@ -96,13 +203,15 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public List<Map<String, String>> query(String queryStr) {
-    if (null == ramDirectory) {
+    if (null == searcherManager) {
       throw new IllegalStateException(
-          "Something went wrong on instance creation time, index dir is null");
+          "Something went wrong on instance creation time, index searcher is null");
     }
     List<Map<String, String>> result = Collections.emptyList();
-    try (IndexReader indexReader = DirectoryReader.open(ramDirectory)) {
-      IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+    IndexSearcher indexSearcher = null;
+    try {
+      searcherManager.maybeRefreshBlocking();
+      indexSearcher = searcherManager.acquire();
       Analyzer analyzer = new StandardAnalyzer();
       MultiFieldQueryParser parser = new MultiFieldQueryParser(
           new String[] {SEARCH_FIELD_TEXT, SEARCH_FIELD_TITLE},
@@ -115,15 +224,27 @@ public class LuceneSearch implements SearchService {
       Highlighter highlighter = new Highlighter(htmlFormatter, new QueryScorer(query));
 
       result = doSearch(indexSearcher, query, analyzer, highlighter);
-      indexReader.close();
     } catch (IOException e) {
-      LOG.error("Failed to open index dir {}, make sure indexing finished OK", ramDirectory, e);
+      LOG.error("Failed to open index dir {}, make sure indexing finished OK", directory, e);
     } catch (ParseException e) {
       LOG.error("Failed to parse query " + queryStr, e);
+    } finally {
+      releaseQuietly(indexSearcher);
     }
     return result;
   }
 
+  private void releaseQuietly(IndexSearcher searcher) {
+    if (searcher == null) {
+      return;
+    }
+    try {
+      searcherManager.release(searcher);
+    } catch (IOException e) {
+      LOG.error("Failed to release index searcher", e);
+    }
+  }
+
   private List<Map<String, String>> doSearch(IndexSearcher searcher, Query query,
       Analyzer analyzer, Highlighter highlighter) {
     List<Map<String, String>> matchingParagraphs = Lists.newArrayList();
@@ -185,6 +306,7 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void updateIndexDoc(Note note) throws IOException {
+    updateVersionDoc(note);
     updateIndexNoteName(note);
     for (Paragraph p: note.getParagraphs()) {
       updateIndexParagraph(note, p);
@@ -224,7 +346,6 @@ public class LuceneSearch implements SearchService {
     Document doc = newDocument(id, noteName, p);
     try {
       writer.updateDocument(new Term(ID_FIELD, id), doc);
-      writer.commit();
     } catch (IOException e) {
       LOG.error("Failed to updaet index of notebook {}", noteId, e);
     }
@@ -286,27 +407,92 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void addIndexDocs(Collection<Note> collection) {
+    List<NoteInfo> noteInfos = new ArrayList<>(collection.size());
+    final Map<String, Note> notes = new HashMap<>();
+    for (Note note : collection) {
+      noteInfos.add(new NoteInfo(note));
+      notes.put(note.getId(), note);
+    }
+    addIndexDocs(noteInfos, new NoteReader() {
+      @Override
+      public Note read(NoteInfo noteInfo) {
+        return notes.get(noteInfo.getId());
+      }
+    });
+  }
+
+  /* (non-Javadoc)
+   * @see org.apache.zeppelin.search.Search#addIndexDocs(java.util.List, NoteReader)
+   */
+  @Override
+  public void addIndexDocs(List<NoteInfo> noteInfos, NoteReader noteReader) {
     int docsIndexed = 0;
+    int docsSkipped = 0;
+    int notesRead = 0;
     long start = System.nanoTime();
     try {
-      for (Note note : collection) {
+      Map<String, String> indexedVersions = getIndexedNoteVersions();
+      for (NoteInfo noteInfo : noteInfos) {
+        String version = indexedVersions.remove(noteInfo.getId());
+        if (version != null && version.equals(noteInfo.getFingerprint())) {
+          docsSkipped++;
+          continue;
+        }
+        Note note = noteReader.read(noteInfo);
+        if (note == null) {
+          continue;
+        }
+        notesRead++;
+        if (version != null) {
+          // the repo listed the note without its fingerprint
+          if (version.equals(NoteInfo.fingerprint(note))) {
+            docsSkipped++;
+            continue;
+          }
+          deleteNoteDocs(note.getId());
+        }
         addIndexDocAsync(note);
         docsIndexed++;
       }
+      // notes removed while the server was down
+      for (String noteId : indexedVersions.keySet()) {
+        deleteNoteDocs(noteId);
+      }
     } catch (IOException e) {
       LOG.error("Failed to index all Notebooks", e);
     } finally {
-      try { // save what's been indexed, even if not full collection
-        writer.commit();
-      } catch (IOException e) {
-        LOG.error("Failed to save index", e);
-      }
+      // save what's been indexed, even if not full collection
+      commit();
       long end = System.nanoTime();
-      LOG.info("Indexing {} notebooks took {}ms", docsIndexed,
-          TimeUnit.NANOSECONDS.toMillis(end - start));
+      LOG.info("Indexing {} notebooks ({} up to date, {} read) took {}ms", docsIndexed,
+          docsSkipped, notesRead, TimeUnit.NANOSECONDS.toMillis(end - start));
     }
   }
 
+  /**
+   * Reads the content fingerprint of every note present in the index.
+   *
+   * @return noteId -> fingerprint
+   */
+  private Map<String, String> getIndexedNoteVersions() throws IOException {
+    Map<String, String> versions = new HashMap<>();
+    searcherManager.maybeRefreshBlocking();
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      int maxDoc = Math.max(1, searcher.getIndexReader().maxDoc());
+      ScoreDoc[] hits = searcher.search(new TermQuery(new Term(VERSION, VERSION)), maxDoc)
+          .scoreDocs;
+      for (ScoreDoc hit : hits) {
+        Document doc = searcher.doc(hit.doc);
+        String id = doc.get(ID_FIELD);
+        versions.put(id.substring(0, id.length() - VERSION.length() - 1), doc.get(VERSION_FIELD));
+      }
+    } finally {
+      searcherManager.release(searcher);
+    }
+    return versions;
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#addIndexDoc(org.apache.zeppelin.notebook.Note)
    */
@@ -314,7 +500,6 @@ public class LuceneSearch implements SearchService {
   public void addIndexDoc(Note note) {
     try {
       addIndexDocAsync(note);
-      writer.commit();
     } catch (IOException e) {
       LOG.error("Failed to add note {} to index", note, e);
     }
@@ -327,6 +512,7 @@ public class LuceneSearch implements SearchService {
    * @throws IOException
    */
   private void addIndexDocAsync(Note note) throws IOException {
+    updateVersionDoc(note);
     indexNoteName(writer, note.getId(), note.getName());
     for (Paragraph doc : note.getParagraphs()) {
       if (doc.getText() == null) {
@@ -337,6 +523,18 @@ public class LuceneSearch implements SearchService {
     }
   }
 
+  /**
+   * Stores the fingerprint of what is indexed for the given note.
+   */
+  private void updateVersionDoc(Note note) throws IOException {
+    Document version = new Document();
+    String versionId = Joiner.on('/').join(note.getId(), VERSION);
+    version.add(new StringField(ID_FIELD, versionId, Field.Store.YES));
+    version.add(new StringField(VERSION, VERSION, Field.Store.NO));
+    version.add(new StringField(VERSION_FIELD, NoteInfo.fingerprint(note), Field.Store.YES));
+    writer.updateDocument(new Term(ID_FIELD, versionId), version);
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#deleteIndexDocs(org.apache.zeppelin.notebook.Note)
    */
@@ -363,20 +561,30 @@ public class LuceneSearch implements SearchService {
     LOG.debug("Deleting note {}, out of: {}", note.getId(), writer.numDocs());
     try {
       writer.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, fullNoteOrJustParagraph)));
-      writer.commit();
     } catch (IOException e) {
       LOG.error("Failed to delete {} from index by '{}'", note, fullNoteOrJustParagraph, e);
     }
     LOG.debug("Done, index contains {} docs now" + writer.numDocs());
   }
 
+  private void deleteNoteDocs(String noteId) throws IOException {
+    writer.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, formatDeleteId(noteId, null))));
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#close()
    */
   @Override
   public void close() {
+    commitExecutor.shutdown();
     try {
-      writer.close();
+      if (searcherManager != null) {
+        searcherManager.close();
+      }
+      if (writer != null) {
+        writer.close();
+      }
+      directory.close();
     } catch (IOException e) {
       LOG.error("Failed to .close() the notebook index", e);
     }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
 
 /**
@@ -58,6 +59,16 @@ public interface SearchService {
    */
   public void addIndexDocs(Collection<Note> collection);
 
+  /**
+   * Indexes the notes listed by the repo and drops the notes which are not listed anymore.
+   * A note is read and indexed only when its listed fingerprint differs from the indexed one,
+   * or when the repo lists it without a fingerprint.
+   *
+   * @param noteInfos notes listed by the repo
+   * @param noteReader reads a listed note
+   */
+  public void addIndexDocs(List<NoteInfo> noteInfos, NoteReader noteReader);
+
   /**
    * Indexes the given note.
    *
@@ -84,4 +95,13 @@ public interface SearchService {
    */
   public void close();
 
+  /**
+   * Reads the content of a listed note.
+   */
+  interface NoteReader {
+    /**
+     * @return null when the note can not be read
+     */
+    Note read(NoteInfo noteInfo);
+  }
 }
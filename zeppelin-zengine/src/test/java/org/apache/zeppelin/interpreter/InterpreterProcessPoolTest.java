@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.junit.Test;
+
+public class InterpreterProcessPoolTest {
+
+  private final List<RemoteInterpreterProcess> launched = new CopyOnWriteArrayList<>();
+
+  private InterpreterProcessPool.ProcessLauncher launcher =
+      new InterpreterProcessPool.ProcessLauncher() {
+        @Override
+        public RemoteInterpreterProcess launch() {
+          RemoteInterpreterProcess process = mock(RemoteInterpreterProcess.class);
+          when(process.isRunning()).thenReturn(true);
+          launched.add(process);
+          return process;
+        }
+      };
+
+  @Test
+  public void testClaim() throws InterruptedException {
+    InterpreterProcessPool pool = new InterpreterProcessPool("test", 2, launcher);
+
+    // nothing started yet, the claim starts the pool
+    assertNull(pool.claim());
+    waitForIdle(pool, 2);
+
+    RemoteInterpreterProcess process = pool.claim();
+    assertNotNull(process);
+    // the claimed process is replaced
+    waitForIdle(pool, 2);
+    assertEquals(3, launched.size());
+
+    assertEquals(1, pool.getHitCount());
+    assertEquals(1, pool.getMissCount());
+    assertEquals(0.5, pool.getHitRate(), 0.001);
+
+    pool.close();
+    assertEquals(0, pool.getIdleCount());
+    for (RemoteInterpreterProcess pooled : launched) {
+      if (pooled != process) {
+        verify(pooled).stop();
+      }
+    }
+  }
+
+  @Test
+  public void testRecycleIdle() throws InterruptedException {
+    InterpreterProcessPool pool = new InterpreterProcessPool("test", 1, launcher);
+    pool.fill();
+    waitForIdle(pool, 1);
+
+    assertEquals(0, pool.recycleIdle(60 * 1000));
+    Thread.sleep(10);
+    assertEquals(1, pool.recycleIdle(0));
+    assertEquals(0, pool.getIdleCount());
+    verify(launched.get(0)).stop();
+  }
+
+  private void waitForIdle(InterpreterProcessPool pool, int count) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (pool.getIdleCount() < count && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, pool.getIdleCount());
+  }
+}
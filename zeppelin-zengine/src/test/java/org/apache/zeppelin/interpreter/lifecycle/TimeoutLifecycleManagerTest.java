@@ -23,6 +23,8 @@ import org.apache.zeppelin.interpreter.AbstractInterpreterTest;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterContextRunner;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOption;
+import org.apache.zeppelin.interpreter.InterpreterProcessPool;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.scheduler.Job;
@@ -36,6 +38,8 @@ import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class TimeoutLifecycleManagerTest extends AbstractInterpreterTest {
@@ -123,4 +127,34 @@ public class TimeoutLifecycleManagerTest extends AbstractInterpreterTest {
     assertEquals(1, interpreterSetting.getAllInterpreterGroups().size());
     assertTrue(remoteInterpreter.isOpened());
   }
+
+  @Test
+  public void testProcessPoolUnregisteredOnRestart() throws InterpreterException, IOException {
+    InterpreterSetting interpreterSetting = interpreterSettingManager.getInterpreterSettingByName("test");
+    interpreterSetting.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE.getVarName(), "1");
+    // only processes of isolated settings are pooled
+    interpreterSetting.getOption().setPerNote(InterpreterOption.ISOLATED);
+    TimeoutLifecycleManager lifecycleManager =
+        (TimeoutLifecycleManager) interpreterSetting.getLifecycleManager();
+    interpreterSettingManager.setInterpreterBinding("user1", "note1", interpreterSettingManager.getSettingIds());
+    InterpreterContext context = new InterpreterContext("noteId", "paragraphId", "repl",
+        "title", "text", AuthenticationInfo.ANONYMOUS, new HashMap<String, Object>(), new GUI(),
+        new GUI(), null, null, new ArrayList<InterpreterContextRunner>(), null);
+
+    interpreterFactory.getInterpreter("user1", "note1", "test.echo").interpret("hello", context);
+    InterpreterProcessPool processPool = interpreterSetting.getProcessPool();
+    assertNotNull(processPool);
+    assertEquals(1, lifecycleManager.getProcessPools().size());
+
+    // restart closes the pool of the setting, a new pool is created on next use
+    interpreterSettingManager.restart(interpreterSetting.getId());
+    assertNull(interpreterSetting.getProcessPool());
+    assertEquals(0, lifecycleManager.getProcessPools().size());
+
+    interpreterFactory.getInterpreter("user1", "note1", "test.echo").interpret("hello", context);
+    assertEquals(1, lifecycleManager.getProcessPools().size());
+    assertFalse(lifecycleManager.getProcessPools().contains(processPool));
+    interpreterSettingManager.restart(interpreterSetting.getId());
+  }
 }
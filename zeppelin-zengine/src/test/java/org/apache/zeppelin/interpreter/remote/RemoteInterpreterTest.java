@@ -18,6 +18,7 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.display.GUI;
 import org.apache.zeppelin.display.Input;
@@ -26,6 +27,8 @@ import org.apache.zeppelin.interpreter.*;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.remote.mock.GetAngularObjectSizeInterpreter;
 import org.apache.zeppelin.interpreter.remote.mock.GetEnvPropertyInterpreter;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.After;
 import org.junit.Before;
@@ -37,6 +40,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.*;
 
@@ -261,6 +266,26 @@ public class RemoteInterpreterTest {
     assertEquals(Code.ERROR, remoteInterpreter1.interpret("hello", context1).code());
   }
 
+  @Test
+  public void testRemoteCallMetrics() throws InterpreterException, IOException {
+    RemoteInterpreter interpreter1 =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note1");
+    InterpreterContext context1 = new InterpreterContext("noteId", "paragraphId", "repl",
+        "title", "text", AuthenticationInfo.ANONYMOUS, new HashMap<String, Object>(), new GUI(), new GUI(),
+        null, null, new ArrayList<InterpreterContextRunner>(), null);
+    assertEquals("hello", interpreter1.interpret("hello", context1).message().get(0).getData());
+    assertEquals(0, interpreter1.getProgress(context1));
+
+    RemoteInterpreterProcess process = interpreter1.getOrCreateInterpreterProcess();
+    assertTrue(process.getCallCount() >= 2);
+    assertTrue(process.getMaxInFlightCalls() >= 1);
+    assertTrue(process.getOpenConnections() >= 1);
+    assertEquals(0, process.getTimeoutCount());
+    assertEquals(0, process.getSubmittedJobs());
+    // only the event poller waits for events
+    assertTrue(process.getInFlightCalls() <= 1);
+  }
+
   @Test
   public void testFIFOScheduler() throws InterruptedException, InterpreterException {
     interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
@@ -277,7 +302,8 @@ public class RemoteInterpreterTest {
       @Override
       public void run() {
         try {
-          assertEquals(Code.SUCCESS, interpreter1.interpret("100", context1).code());
+          assertEquals(Code.SUCCESS,
+              interpreter1.interpret("100", createContext("paragraphId1")).code());
         } catch (InterpreterException e) {
           e.printStackTrace();
           fail();
@@ -288,7 +314,8 @@ public class RemoteInterpreterTest {
       @Override
       public void run() {
         try {
-          assertEquals(Code.SUCCESS, interpreter1.interpret("100", context1).code());
+          assertEquals(Code.SUCCESS,
+              interpreter1.interpret("100", createContext("paragraphId2")).code());
         } catch (InterpreterException e) {
           e.printStackTrace();
           fail();
@@ -321,7 +348,8 @@ public class RemoteInterpreterTest {
       @Override
       public void run() {
         try {
-          assertEquals(Code.SUCCESS, interpreter1.interpret("100", context1).code());
+          assertEquals(Code.SUCCESS,
+              interpreter1.interpret("100", createContext("paragraphId1")).code());
         } catch (InterpreterException e) {
           e.printStackTrace();
           fail();
@@ -332,7 +360,8 @@ public class RemoteInterpreterTest {
       @Override
       public void run() {
         try {
-          assertEquals(Code.SUCCESS, interpreter1.interpret("100", context1).code());
+          assertEquals(Code.SUCCESS,
+              interpreter1.interpret("100", createContext("paragraphId2")).code());
         } catch (InterpreterException e) {
           e.printStackTrace();
           fail();
@@ -348,6 +377,175 @@ public class RemoteInterpreterTest {
     assertTrue((end - start) <= 200);
   }
 
+  @Test
+  public void testLongInterpretsDoNotBlockShortCalls() throws Exception {
+    // fewer connections for the short calls than interprets running
+    System.setProperty(ConfVars.ZEPPELIN_INTERPRETER_CLIENT_POOL_SIZE.getVarName(), "2");
+    try {
+      interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
+      interpreterSetting.setProperty("zeppelin.SleepInterpreter.parallel", "true");
+      RemoteInterpreter interpreter1 =
+          (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "sleep");
+      InterpreterContext context1 = createContext("paragraphId");
+      interpreter1.interpret("1", context1);
+      RemoteInterpreterProcess process = interpreter1.getOrCreateInterpreterProcess();
+
+      List<Thread> threads = startInterprets(interpreter1, 4, "3000");
+      waitForSubmittedJobs(process, 4);
+
+      long start = System.currentTimeMillis();
+      assertEquals(0, interpreter1.getProgress(context1));
+      assertNotNull(interpreter1.getStatus("paragraphId0"));
+      assertTrue(System.currentTimeMillis() - start < 1000);
+      // the interprets are still running, without holding a connection
+      assertEquals(4, process.getSubmittedJobs());
+      assertTrue(process.getOpenConnections() <= 2);
+
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      assertEquals(0, process.getSubmittedJobs());
+    } finally {
+      System.clearProperty(ConfVars.ZEPPELIN_INTERPRETER_CLIENT_POOL_SIZE.getVarName());
+    }
+  }
+
+  @Test
+  public void testSubmittedJobFailsWhenProcessIsStopped() throws Exception {
+    final RemoteInterpreter interpreter1 =
+        (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "sleep");
+    interpreter1.interpret("1", createContext("paragraphId"));
+    RemoteInterpreterProcess process = interpreter1.getOrCreateInterpreterProcess();
+
+    final AtomicReference<Exception> error = new AtomicReference<>();
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          interpreter1.interpret("10000", createContext("paragraphId1"));
+        } catch (InterpreterException e) {
+          error.set(e);
+        }
+      }
+    };
+    thread.start();
+    waitForSubmittedJobs(process, 1);
+
+    process.closeClientPools();
+    thread.join(5000);
+    assertFalse(thread.isAlive());
+    assertNotNull(error.get());
+    assertEquals(0, process.getSubmittedJobs());
+  }
+
+  @Test
+  public void testSameParagraphCanNotRunTwiceInSession() throws Exception {
+    interpreterSetting.setProperty("zeppelin.SleepInterpreter.parallel", "true");
+    RemoteInterpreter interpreter1 =
+        (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "sleep");
+    interpreter1.interpret("1", createContext("paragraphId"));
+    RemoteInterpreterProcess process = interpreter1.getOrCreateInterpreterProcess();
+
+    List<Thread> threads = startInterprets(interpreter1, 1, "1000");
+    waitForSubmittedJobs(process, 1);
+    try {
+      interpreter1.interpret("1", createContext("paragraphId0"));
+      fail("the paragraph is still running");
+    } catch (InterpreterException e) {
+      assertTrue(e.getMessage().contains("paragraphId0"));
+    }
+    threads.get(0).join();
+  }
+
+  @Test
+  public void testCallReleasesClientToItsPoolAfterClose() throws Exception {
+    RemoteInterpreter interpreter1 =
+        (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "sleep");
+    interpreter1.interpret("1", createContext("paragraphId"));
+    final RemoteInterpreterProcess process = interpreter1.getOrCreateInterpreterProcess();
+
+    final CountDownLatch borrowed = new CountDownLatch(1);
+    final CountDownLatch closed = new CountDownLatch(1);
+    final AtomicReference<Client> used = new AtomicReference<>();
+    Thread call = new Thread() {
+      @Override
+      public void run() {
+        process.callRemoteFunction(new RemoteInterpreterProcess.RemoteFunction<Void>() {
+          @Override
+          public Void call(Client client) throws Exception {
+            used.set(client);
+            borrowed.countDown();
+            closed.await();
+            return null;
+          }
+        }, 10000);
+      }
+    };
+    call.start();
+    borrowed.await();
+
+    // e.g. the process is stopped while the call runs, later calls use a new pool
+    process.closeClientPools();
+    process.callRemoteFunction(new RemoteInterpreterProcess.RemoteFunction<Void>() {
+      @Override
+      public Void call(Client client) throws Exception {
+        return null;
+      }
+    });
+    closed.countDown();
+    call.join();
+
+    // closed by the pool it was borrowed from
+    assertFalse(used.get().getInputProtocol().getTransport().isOpen());
+    assertEquals(1, process.getOpenConnections());
+  }
+
+  private InterpreterContext createContext(String paragraphId) {
+    return new InterpreterContext("noteId", paragraphId, "repl",
+        "title", "text", AuthenticationInfo.ANONYMOUS, new HashMap<String, Object>(), new GUI(), new GUI(),
+        null, null, new ArrayList<InterpreterContextRunner>(), null);
+  }
+
+  private List<Thread> startInterprets(final Interpreter interpreter, int count, final String st) {
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final InterpreterContext context = createContext("paragraphId" + i);
+      Thread thread = new Thread() {
+        @Override
+        public void run() {
+          try {
+            assertEquals(Code.SUCCESS, interpreter.interpret(st, context).code());
+          } catch (InterpreterException e) {
+            e.printStackTrace();
+            fail();
+          }
+        }
+      };
+      thread.start();
+      threads.add(thread);
+    }
+    return threads;
+  }
+
+  private void waitForSubmittedJobs(RemoteInterpreterProcess process, int count)
+      throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (process.getSubmittedJobs() < count && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, process.getSubmittedJobs());
+  }
+
+  @Test
+  public void testInvalidSchedulerProperties() {
+    interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
+    interpreterSetting.setProperty("zeppelin.interpreter.max.poolsize", "ten");
+    interpreterSetting.setProperty("zeppelin.interpreter.scheduler.user.maxConcurrency", "1.5");
+    Interpreter interpreter1 = interpreterSetting.getInterpreter("user1", "note1", "sleep");
+    // invalid values fall back to the defaults
+    assertTrue(interpreter1.getScheduler() instanceof RemoteScheduler);
+  }
+
   @Test
   public void testRemoteInterpreterSharesTheSameSchedulerInstanceInTheSameGroup() {
     interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class NoteCacheTest {
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    NoteCache cache = new NoteCache(2);
+    Note note1 = note("note1", false);
+    Note note2 = note("note2", false);
+    Note note3 = note("note3", false);
+
+    assertTrue(cache.touch(note1).isEmpty());
+    assertTrue(cache.touch(note2).isEmpty());
+    assertTrue(cache.touch(note1).isEmpty());
+
+    assertEquals(Arrays.asList(note2), cache.touch(note3));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testRunningNoteIsNotEvicted() {
+    NoteCache cache = new NoteCache(1);
+    Note running = note("running", true);
+    Note note = note("note", false);
+
+    cache.touch(running);
+    assertTrue(cache.touch(note).isEmpty());
+    assertEquals(2, cache.size());
+
+    when(running.isRunningOrPending()).thenReturn(false);
+    List<Note> evicted = cache.touch(note);
+    assertEquals(Arrays.asList(running), evicted);
+  }
+
+  @Test
+  public void testHeldNoteIsNotEvicted() {
+    NoteCache cache = new NoteCache(1);
+    Note held = note("held", false);
+    when(held.isHeld()).thenReturn(true);
+    Note note = note("note", false);
+
+    cache.touch(held);
+    assertTrue(cache.touch(note).isEmpty());
+
+    when(held.isHeld()).thenReturn(false);
+    assertEquals(Arrays.asList(held), cache.touch(note));
+  }
+
+  @Test
+  public void testUnbounded() {
+    NoteCache cache = new NoteCache(0);
+    for (int i = 0; i < 10; i++) {
+      assertTrue(cache.touch(note("note" + i, false)).isEmpty());
+    }
+    assertEquals(10, cache.size());
+  }
+
+  private Note note(String id, boolean running) {
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(id);
+    when(note.isRunningOrPending()).thenReturn(running);
+    return note;
+  }
+}
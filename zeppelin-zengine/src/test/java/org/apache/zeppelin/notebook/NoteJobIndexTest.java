@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.apache.zeppelin.scheduler.Job.Status;
+import org.junit.Test;
+
+public class NoteJobIndexTest {
+
+  private NoteJobIndex index = new NoteJobIndex();
+
+  @Test
+  public void testNotesUpdatedAfter() {
+    Paragraph p1 = paragraph("p1", Status.FINISHED, 100);
+    Paragraph p2 = paragraph("p2", Status.READY, 200);
+    Paragraph p3 = paragraph("p3", Status.FINISHED, 300);
+    index.putNote(note("note1", p1));
+    index.putNote(note("note2", p2, p3));
+
+    assertEquals(Arrays.asList("note2", "note1"),
+        Arrays.asList(index.getNoteIdsUpdatedAfter(0).toArray()));
+    assertEquals(Arrays.asList("note2"),
+        Arrays.asList(index.getNoteIdsUpdatedAfter(100).toArray()));
+    assertTrue(index.getNoteIdsUpdatedAfter(300).isEmpty());
+    assertEquals("note2", index.getNoteId("p3"));
+
+    // running note is always listed
+    when(p1.getStatus()).thenReturn(Status.RUNNING);
+    index.putParagraph("note1", p1);
+    assertEquals(Arrays.asList("note1"),
+        Arrays.asList(index.getNoteIdsUpdatedAfter(300).toArray()));
+
+    when(p1.getStatus()).thenReturn(Status.FINISHED);
+    when(p1.getDateFinished()).thenReturn(new Date(400));
+    index.putParagraph("note1", p1);
+    assertEquals(Arrays.asList("note1"),
+        Arrays.asList(index.getNoteIdsUpdatedAfter(300).toArray()));
+  }
+
+  @Test
+  public void testRemoveParagraphAndNote() {
+    Paragraph p1 = paragraph("p1", Status.FINISHED, 100);
+    Paragraph p2 = paragraph("p2", Status.FINISHED, 300);
+    index.putNote(note("note1", p1, p2));
+    assertEquals(1, index.getNoteIdsUpdatedAfter(200).size());
+
+    index.removeParagraph(note("note1", p1), p2);
+    assertTrue(index.getNoteIdsUpdatedAfter(200).isEmpty());
+    assertNull(index.getNoteId("p2"));
+
+    index.removeNote("note1");
+    assertTrue(index.getNoteIdsUpdatedAfter(0).isEmpty());
+    assertNull(index.getNoteId("p1"));
+  }
+
+  @Test
+  public void testListedNotes() {
+    NoteInfo dated = new NoteInfo("note1", "note1", null);
+    dated.setLastModified(new Date(200));
+    index.putListedNote(dated);
+    index.putListedNote(new NoteInfo("note2", "note2", null));
+
+    // last run time of note2 is not known until it is read
+    assertEquals(Arrays.asList("note1", "note2"),
+        Arrays.asList(index.getNoteIdsUpdatedAfter(100).toArray()));
+    assertEquals(Arrays.asList("note2"),
+        Arrays.asList(index.getNoteIdsUpdatedAfter(200).toArray()));
+
+    index.putNote(note("note2", paragraph("p1", Status.FINISHED, 100)));
+    assertTrue(index.getNoteIdsUpdatedAfter(200).isEmpty());
+    assertTrue(index.isUpdatedAfter("note2", 50));
+  }
+
+  private Note note(String id, Paragraph... paragraphs) {
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(id);
+    when(note.getParagraphs()).thenReturn(Arrays.asList(paragraphs));
+    return note;
+  }
+
+  private Paragraph paragraph(String id, Status status, long lastRunTime) {
+    Paragraph p = mock(Paragraph.class);
+    when(p.getId()).thenReturn(id);
+    when(p.getStatus()).thenReturn(status);
+    when(p.getDateCreated()).thenReturn(new Date(0));
+    when(p.getDateStarted()).thenReturn(new Date(lastRunTime));
+    return p;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.After;
+import org.junit.Test;
+
+public class NotePersistQueueTest {
+
+  private NotePersistQueue queue;
+
+  @After
+  public void tearDown() {
+    if (queue != null) {
+      queue.close();
+    }
+  }
+
+  @Test
+  public void testCoalesceSaves() throws IOException {
+    queue = new NotePersistQueue(10, 2);
+    Note note = note("note1");
+    AuthenticationInfo user1 = new AuthenticationInfo("user1");
+    AuthenticationInfo user2 = new AuthenticationInfo("user2");
+
+    queue.schedule(note, user1, 1, TimeUnit.HOURS);
+    queue.schedule(note, user1, 1, TimeUnit.HOURS);
+    queue.schedule(note, user2, 1, TimeUnit.HOURS);
+    assertEquals(1, queue.getQueueDepth());
+    assertEquals(2, queue.getCoalescedCount());
+
+    queue.flush();
+    verify(note, times(1)).write(user2);
+    assertEquals(0, queue.getQueueDepth());
+    assertEquals(1, queue.getWriteCount());
+  }
+
+  @Test
+  public void testCloseWritesPendingNotes() throws IOException {
+    queue = new NotePersistQueue(10, 1);
+    Note note1 = note("note1");
+    Note note2 = note("note2");
+
+    queue.schedule(note1, AuthenticationInfo.ANONYMOUS, 1, TimeUnit.HOURS);
+    queue.schedule(note2, AuthenticationInfo.ANONYMOUS, 1, TimeUnit.HOURS);
+    queue.close();
+    verify(note1).write(AuthenticationInfo.ANONYMOUS);
+    verify(note2).write(AuthenticationInfo.ANONYMOUS);
+
+    // written in the calling thread once closed
+    queue.schedule(note1, AuthenticationInfo.ANONYMOUS, 1, TimeUnit.HOURS);
+    verify(note1, times(2)).write(AuthenticationInfo.ANONYMOUS);
+    queue = null;
+  }
+
+  @Test
+  public void testCancel() throws IOException {
+    queue = new NotePersistQueue(10, 1);
+    Note note = note("note1");
+
+    queue.schedule(note, AuthenticationInfo.ANONYMOUS, 1, TimeUnit.HOURS);
+    queue.cancel("note1");
+    queue.flush();
+    verify(note, never()).write(AuthenticationInfo.ANONYMOUS);
+  }
+
+  @Test
+  public void testFailedWrite() throws IOException {
+    queue = new NotePersistQueue(10, 1);
+    Note note = note("note1");
+    doThrow(new IOException("failed")).when(note).write(AuthenticationInfo.ANONYMOUS);
+
+    queue.schedule(note, AuthenticationInfo.ANONYMOUS, 0, TimeUnit.SECONDS);
+    queue.flush();
+    assertEquals(1, queue.getFailureCount());
+    assertEquals(0, queue.getWriteCount());
+    // queued again for a retry
+    assertEquals(1, queue.getRetryCount());
+    assertEquals(1, queue.getQueueDepth());
+  }
+
+  @Test
+  public void testFailedWriteIsRetried() throws Exception {
+    queue = new NotePersistQueue(10, 1, 10, 20);
+    Note note = note("note1");
+    doThrow(new IOException("failed")).doThrow(new IOException("failed")).doNothing()
+        .when(note).write(AuthenticationInfo.ANONYMOUS);
+
+    queue.schedule(note, AuthenticationInfo.ANONYMOUS, 0, TimeUnit.SECONDS);
+    long start = System.currentTimeMillis();
+    while (queue.getWriteCount() == 0 && System.currentTimeMillis() - start < 10000) {
+      Thread.sleep(10);
+    }
+    verify(note, times(3)).write(AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, queue.getWriteCount());
+    assertEquals(2, queue.getRetryCount());
+    assertEquals(0, queue.getQueueDepth());
+  }
+
+  @Test
+  public void testCancelDropsRetry() throws IOException {
+    queue = new NotePersistQueue(10, 1, 3600 * 1000, 3600 * 1000);
+    Note note = note("note1");
+    doThrow(new IOException("failed")).when(note).write(AuthenticationInfo.ANONYMOUS);
+
+    queue.schedule(note, AuthenticationInfo.ANONYMOUS, 0, TimeUnit.SECONDS);
+    queue.flush();
+    assertEquals(1, queue.getQueueDepth());
+    queue.cancel("note1");
+    assertEquals(0, queue.getQueueDepth());
+  }
+
+  private Note note(String id) {
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(id);
+    return note;
+  }
+}
@@ -37,7 +37,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -93,6 +98,24 @@ public class NoteTest {
     assertEquals("Paragraph text", pText, pCaptor.getValue().getText());
   }
 
+  @Test
+  public void runAllMarksParagraphsAsBatchUntilTheyRunAgain() throws InterpreterNotFoundException {
+    when(interpreterFactory.getInterpreter(anyString(), anyString(), eq("spark"))).thenReturn(interpreter);
+    when(interpreter.getScheduler()).thenReturn(scheduler);
+
+    Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setText("%spark sc.version");
+    note.runAll(anonymous, false);
+
+    // still batch while the job waits in the scheduler
+    verify(scheduler, only()).submit(p);
+    assertTrue(p.isBatch());
+
+    note.run(p.getId());
+    assertFalse(p.isBatch());
+  }
+
   @Test
   public void addParagraphWithEmptyReplNameTest() {
     Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
@@ -163,6 +186,49 @@ public class NoteTest {
     assertNull(p2.getReturn());
   }
 
+  @Test
+  public void paragraphIndexTest() {
+    Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    Paragraph p3 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    List<Paragraph> snapshot = note.getParagraphs();
+
+    note.moveParagraph(p3.getId(), 0);
+    assertEquals(Arrays.asList(p3, p1, p2), note.getParagraphs());
+    assertTrue(note.isLastParagraph(p2.getId()));
+    assertEquals(p2, note.getLastParagraph());
+
+    note.removeParagraph("anonymous", p1.getId());
+    assertNull(note.getParagraph(p1.getId()));
+    assertEquals(p3, note.getParagraph(p3.getId()));
+    assertEquals(2, note.getParagraphCount());
+
+    // snapshots are not affected by changes
+    assertEquals(Arrays.asList(p1, p2, p3), snapshot);
+
+    Note note2 = Note.fromJson(note.toJson());
+    assertEquals(p2.getId(), note2.getParagraph(p2.getId()).getId());
+    assertEquals(p2.getId(), note2.getLastParagraph().getId());
+  }
+
+  @Test
+  public void streamingJsonTest() throws IOException {
+    Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
+    note.setName("/test_note");
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setText("%md hello");
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, InterpreterResult.Type.TEXT, "result"));
+
+    StringWriter writer = new StringWriter();
+    note.toJson(writer);
+    assertEquals(note.toJson(), writer.toString());
+
+    Note note2 = Note.fromJson(new StringReader(writer.toString()));
+    assertEquals(note.getName(), note2.getName());
+    assertEquals("%md hello", note2.getParagraph(p.getId()).getText());
+  }
+
   @Test
   public void getFolderIdTest() {
     Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
@@ -241,6 +307,33 @@ public class NoteTest {
     assertNotEquals(System.identityHashCode(user1Paragraph), System.identityHashCode(user2Paragraph));
   }
 
+  @Test
+  public void delayedPersistsWithoutQueueAreCoalesced() throws IOException {
+    Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
+
+    note.persist(1, anonymous);
+    note.persist(1, anonymous);
+    note.persist(1, anonymous);
+    verify(repo, never()).save(note, anonymous);
+    verify(repo, timeout(5000).times(1)).save(note, anonymous);
+    assertFalse(note.isDirty());
+
+    // a persist after the write schedules a new one
+    note.persist(1, anonymous);
+    verify(repo, timeout(5000).times(2)).save(note, anonymous);
+  }
+
+  @Test
+  public void persistCancelsDelayedPersist() throws IOException, InterruptedException {
+    Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
+
+    note.persist(1, anonymous);
+    note.persist(anonymous);
+    verify(repo, times(1)).save(note, anonymous);
+    Thread.sleep(1500);
+    verify(repo, times(1)).save(note, anonymous);
+  }
+
   public void testNoteJson() {
     Note note = new Note(repo, interpreterFactory, interpreterSettingManager, jobListenerFactory, index, credentials, noteEventListener);
     note.setName("/test_note");
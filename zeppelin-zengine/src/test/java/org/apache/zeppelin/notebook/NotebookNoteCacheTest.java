@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.interpreter.AbstractInterpreterTest;
+import org.apache.zeppelin.interpreter.InterpreterGroup;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.notebook.repo.NotebookRepo;
+import org.apache.zeppelin.notebook.repo.NotebookRepoSettingsInfo;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.search.SearchService;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.apache.zeppelin.user.Credentials;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Loading and unloading of notes by Notebook when zeppelin.notebook.cache.size is set.
+ */
+public class NotebookNoteCacheTest extends AbstractInterpreterTest implements JobListenerFactory {
+  private AuthenticationInfo anonymous = AuthenticationInfo.ANONYMOUS;
+  private JsonNotebookRepo notebookRepo;
+  private Notebook notebook;
+
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName(), "1");
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_QUEUE_SIZE.getVarName(), "10");
+    super.setUp();
+    notebookRepo = new JsonNotebookRepo();
+    notebook = createNotebook();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    notebook.close();
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName());
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_PERSIST_QUEUE_SIZE.getVarName());
+    super.tearDown();
+  }
+
+  private Notebook createNotebook() throws Exception {
+    return new Notebook(conf, notebookRepo, SchedulerFactory.singleton(), interpreterFactory,
+        interpreterSettingManager, this, mock(SearchService.class),
+        NotebookAuthorization.init(conf), new Credentials(false, null, null));
+  }
+
+  private Note createNote(String text) throws IOException {
+    Note note = notebook.createNote(anonymous);
+    note.setName("note " + text);
+    note.addNewParagraph(anonymous).setText(text);
+    note.persist(anonymous);
+    notebook.flushPersistQueue();
+    return note;
+  }
+
+  @Test
+  public void testCleanNoteIsUnloadedWithoutSaving() throws IOException {
+    Note note1 = createNote("text1");
+    int saves = notebookRepo.getSaveCount(note1.getId());
+
+    createNote("text2");
+    assertFalse(note1.isLoaded());
+    // eviction doesn't save note1 again
+    assertEquals(saves, notebookRepo.getSaveCount(note1.getId()));
+
+    Note loaded = notebook.getNote(note1.getId());
+    assertTrue(loaded == note1);
+    assertTrue(note1.isLoaded());
+    assertEquals("text1", note1.getParagraphs().get(0).getText());
+  }
+
+  @Test
+  public void testWriteOfUnloadedNoteIsSkipped() throws IOException {
+    Note note1 = createNote("text1");
+    createNote("text2");
+    assertFalse(note1.isLoaded());
+
+    // e.g. a write scheduled before the note was written and unloaded
+    int saves = notebookRepo.getSaveCount(note1.getId());
+    note1.write(anonymous);
+    assertEquals(saves, notebookRepo.getSaveCount(note1.getId()));
+    assertEquals("text1", notebookRepo.get(note1.getId(), anonymous)
+        .getParagraphs().get(0).getText());
+  }
+
+  @Test
+  public void testDirtyNoteIsNotUnloaded() throws IOException {
+    Note note1 = createNote("text1");
+    note1.getParagraphs().get(0).setText("changed");
+    // waits in the persist queue
+    note1.persist(3600, anonymous);
+
+    createNote("text2");
+    assertTrue(note1.isLoaded());
+
+    notebook.flushPersistQueue();
+    assertEquals("changed", notebookRepo.get(note1.getId(), anonymous)
+        .getParagraphs().get(0).getText());
+    createNote("text3");
+    assertFalse(note1.isLoaded());
+  }
+
+  @Test
+  public void testHeldNoteIsNotUnloaded() throws IOException {
+    Note note1 = createNote("text1");
+    createNote("text2");
+    assertFalse(note1.isLoaded());
+
+    Note acquired = notebook.acquireNote(note1.getId());
+    try {
+      Paragraph held = acquired.getParagraphs().get(0);
+      createNote("text3");
+      assertTrue(note1.isLoaded());
+
+      held.setText("changed");
+      note1.persist(anonymous);
+      notebook.flushPersistQueue();
+    } finally {
+      notebook.releaseNote(acquired);
+    }
+    assertEquals("changed", notebookRepo.get(note1.getId(), anonymous)
+        .getParagraphs().get(0).getText());
+
+    // released notes are unloaded on the next use of another note
+    createNote("text4");
+    assertFalse(note1.isLoaded());
+  }
+
+  @Test
+  public void testAcquireLoadsNote() throws IOException {
+    Note note1 = createNote("text1");
+    createNote("text2");
+    assertFalse(note1.isLoaded());
+
+    assertTrue(note1.acquire());
+    assertTrue(note1.isLoaded());
+    assertTrue(note1.isHeld());
+    note1.release();
+    assertFalse(note1.isHeld());
+  }
+
+  @Test
+  public void testChangeOfUnloadedNoteIsWritten() throws IOException {
+    Note note1 = createNote("text1");
+    // e.g. a paragraph kept by a caller which doesn't hold the note
+    Paragraph paragraph = note1.getParagraphs().get(0);
+    createNote("text2");
+    assertFalse(note1.isLoaded());
+
+    paragraph.setText("changed");
+    note1.persist(anonymous);
+    assertTrue(note1.isLoaded());
+    assertTrue(note1.getParagraphs().get(0) == paragraph);
+    notebook.flushPersistQueue();
+    assertEquals("changed", notebookRepo.get(note1.getId(), anonymous)
+        .getParagraphs().get(0).getText());
+  }
+
+  @Test
+  public void testAngularObjectsOfListedNoteAreRestoredOnFirstLoad() throws Exception {
+    Note note1 = createNote("text1");
+    interpreterSettingManager.setInterpreterBinding(anonymous.getUser(), note1.getId(),
+        interpreterSettingManager.getInterpreterSettingIds());
+    InterpreterGroup intpGroup = interpreterSettingManager.getInterpreterSettings(note1.getId())
+        .get(0).getOrCreateInterpreterGroup(anonymous.getUser(), note1.getId());
+    intpGroup.getAngularObjectRegistry().add("name", "value", note1.getId(), null);
+    note1.persist(anonymous);
+    notebook.flushPersistQueue();
+    intpGroup.getAngularObjectRegistry().removeAll(note1.getId(), null);
+    notebook.close();
+
+    // note1 is listed without its paragraphs and angular objects
+    notebook = createNotebook();
+    assertFalse(notebook.getAllNotes().isEmpty());
+    assertNull(intpGroup.getAngularObjectRegistry().get("name", note1.getId(), null));
+
+    notebook.getNote(note1.getId());
+    assertEquals("value",
+        intpGroup.getAngularObjectRegistry().get("name", note1.getId(), null).get());
+  }
+
+  @Test
+  public void testJobListDoesNotLoadNotes() throws Exception {
+    Note note1 = createNote("text1");
+    Note note2 = createNote("text2");
+    notebook.close();
+
+    // notes are listed with name and config, without their paragraphs
+    notebook = createNotebook();
+    List<Map<String, Object>> jobs = notebook.getJobListByUnixTime(false, 0, anonymous);
+    assertEquals(2, jobs.size());
+    for (Map<String, Object> job : jobs) {
+      assertEquals(1, ((List) job.get("paragraphs")).size());
+    }
+
+    int loads = notebookRepo.getCount.get();
+    notebook.getNote(note1.getId());
+    notebook.getNote(note2.getId());
+    // job listing did not keep the notes loaded
+    assertEquals(loads + 2, notebookRepo.getCount.get());
+  }
+
+  @Override
+  public ParagraphJobListener getParagraphJobListener(Note note) {
+    return new ParagraphJobListener() {
+      @Override
+      public void onOutputAppend(Paragraph paragraph, int idx, String output) {
+      }
+
+      @Override
+      public void onOutputUpdate(Paragraph paragraph, int idx, InterpreterResultMessage msg) {
+      }
+
+      @Override
+      public void onOutputUpdateAll(Paragraph paragraph, List<InterpreterResultMessage> msgs) {
+      }
+
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+      }
+
+      @Override
+      public void onStatusChange(Job job, Job.Status before, Job.Status after) {
+      }
+    };
+  }
+
+  /**
+   * Keeps notes as json, like a repo on disk does.
+   */
+  private static class JsonNotebookRepo implements NotebookRepo {
+    private final Map<String, String> notes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> saveCounts = new ConcurrentHashMap<>();
+    final AtomicInteger getCount = new AtomicInteger();
+
+    @Override
+    public void init(ZeppelinConfiguration zConf) {
+    }
+
+    @Override
+    public List<NoteInfo> list(AuthenticationInfo subject) {
+      List<NoteInfo> infos = new ArrayList<>();
+      for (String json : notes.values()) {
+        Note note = Note.fromJson(json);
+        infos.add(new NoteInfo(note.getId(), note.getName(), note.getConfig()));
+      }
+      return infos;
+    }
+
+    @Override
+    public Note get(String noteId, AuthenticationInfo subject) {
+      getCount.incrementAndGet();
+      String json = notes.get(noteId);
+      return json == null ? null : Note.fromJson(json);
+    }
+
+    @Override
+    public void save(Note note, AuthenticationInfo subject) {
+      saveCounts.putIfAbsent(note.getId(), new AtomicInteger());
+      saveCounts.get(note.getId()).incrementAndGet();
+      notes.put(note.getId(), note.toJson());
+    }
+
+    int getSaveCount(String noteId) {
+      AtomicInteger count = saveCounts.get(noteId);
+      return count == null ? 0 : count.get();
+    }
+
+    @Override
+    public void remove(String noteId, AuthenticationInfo subject) {
+      notes.remove(noteId);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public List<NotebookRepoSettingsInfo> getSettings(AuthenticationInfo subject) {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public void updateSettings(Map<String, String> settings, AuthenticationInfo subject) {
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares and copies notes between two in memory repositories.
+ */
+public class NotebookRepoSyncDiffTest {
+  private InMemoryNotebookRepo srcRepo;
+  private InMemoryNotebookRepo dstRepo;
+  // later than the creation date of the paragraphs
+  private long baseTime;
+
+  @Before
+  public void setUp() throws IOException {
+    baseTime = System.currentTimeMillis() + 60 * 60 * 1000;
+    // source repo lists modification dates, destination repo needs to read the notes
+    srcRepo = new InMemoryNotebookRepo(true);
+    dstRepo = new InMemoryNotebookRepo(false);
+
+    srcRepo.save(note("onlySrc", "src", 1000), null);
+    dstRepo.save(note("onlyDst", "dst", 1000), null);
+    srcRepo.save(note("srcNewer", "src", 2000), null);
+    dstRepo.save(note("srcNewer", "dst", 1000), null);
+    srcRepo.save(note("dstNewer", "src", 1000), null);
+    dstRepo.save(note("dstNewer", "dst", 2000), null);
+    srcRepo.save(note("same", "src", 1000), null);
+    dstRepo.save(note("same", "dst", 1000), null);
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC.getVarName());
+  }
+
+  @Test
+  public void testSync() throws IOException {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC.getVarName(), "false");
+    NotebookRepoSync sync = new NotebookRepoSync(ZeppelinConfiguration.create(),
+        Arrays.<NotebookRepo>asList(srcRepo, dstRepo));
+    sync.sync(AuthenticationInfo.ANONYMOUS);
+
+    // missing notes are copied to both sides
+    assertEquals("src", dstRepo.get("onlySrc", null).getName());
+    assertEquals("dst", srcRepo.get("onlyDst", null).getName());
+    // newer note wins
+    assertEquals("src", dstRepo.get("srcNewer", null).getName());
+    assertEquals("dst", srcRepo.get("dstNewer", null).getName());
+    // notes with the same date are not copied
+    assertEquals("src", srcRepo.get("same", null).getName());
+    assertEquals("dst", dstRepo.get("same", null).getName());
+  }
+
+  @Test
+  public void testOneWaySync() throws IOException {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC.getVarName(), "true");
+    NotebookRepoSync sync = new NotebookRepoSync(ZeppelinConfiguration.create(),
+        Arrays.<NotebookRepo>asList(srcRepo, dstRepo));
+    sync.sync(AuthenticationInfo.ANONYMOUS);
+
+    // destination mirrors source
+    assertEquals("src", dstRepo.get("onlySrc", null).getName());
+    assertFalse(dstRepo.contains("onlyDst"));
+    assertFalse(srcRepo.contains("onlyDst"));
+    assertEquals("src", dstRepo.get("srcNewer", null).getName());
+    assertEquals("src", dstRepo.get("dstNewer", null).getName());
+    assertEquals("src", srcRepo.get("dstNewer", null).getName());
+    assertTrue(dstRepo.contains("same"));
+  }
+
+  private Note note(String id, String name, long modified) {
+    Note note = new Note();
+    note.setId(id);
+    note.setName(name);
+    Paragraph p = new Paragraph(note, null, null);
+    p.setDateFinished(new Date(baseTime + modified));
+    note.addParagraph(p);
+    return note;
+  }
+
+  /**
+   * Notebook repo keeping notes in memory.
+   */
+  private static class InMemoryNotebookRepo implements NotebookRepo {
+    private final Map<String, Note> notes = new ConcurrentHashMap<>();
+    private final boolean listDates;
+
+    InMemoryNotebookRepo(boolean listDates) {
+      this.listDates = listDates;
+    }
+
+    boolean contains(String noteId) {
+      return notes.containsKey(noteId);
+    }
+
+    @Override
+    public void init(ZeppelinConfiguration zConf) {
+    }
+
+    @Override
+    public List<NoteInfo> list(AuthenticationInfo subject) {
+      List<NoteInfo> infos = new ArrayList<>();
+      for (Note note : notes.values()) {
+        infos.add(listDates ? new NoteInfo(note)
+            : new NoteInfo(note.getId(), note.getName(), note.getConfig()));
+      }
+      // order of the listing doesn't matter
+      Collections.reverse(infos);
+      return infos;
+    }
+
+    @Override
+    public Note get(String noteId, AuthenticationInfo subject) throws IOException {
+      Note note = notes.get(noteId);
+      if (note == null) {
+        throw new IOException("Note " + noteId + " not found");
+      }
+      return note;
+    }
+
+    @Override
+    public void save(Note note, AuthenticationInfo subject) {
+      notes.put(note.getId(), note);
+    }
+
+    @Override
+    public void remove(String noteId, AuthenticationInfo subject) {
+      notes.remove(noteId);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public List<NotebookRepoSettingsInfo> getSettings(AuthenticationInfo subject) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public void updateSettings(Map<String, String> settings, AuthenticationInfo subject) {
+    }
+  }
+}
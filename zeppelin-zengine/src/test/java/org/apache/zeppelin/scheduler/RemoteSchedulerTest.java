@@ -165,6 +165,77 @@ public class RemoteSchedulerTest implements RemoteInterpreterProcessListener {
     schedulerSvc.removeScheduler("test");
   }
 
+  @Test
+  public void testJobWaitsForInterpreterProcess() throws Exception {
+    final RemoteInterpreter intpA = (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note1");
+
+    // the interpreter process is started by the scheduler
+    Scheduler scheduler = intpA.getScheduler();
+
+    Job job = new Job("jobId", "jobName", null, 200) {
+      Object results;
+
+      @Override
+      public Object getReturn() {
+        return results;
+      }
+
+      @Override
+      public int progress() {
+        return 0;
+      }
+
+      @Override
+      public Map<String, Object> info() {
+        return null;
+      }
+
+      @Override
+      protected Object jobRun() throws Throwable {
+        intpA.interpret("100", new InterpreterContext(
+            "note",
+            "jobId",
+            null,
+            "title",
+            "text",
+            new AuthenticationInfo(),
+            new HashMap<String, Object>(),
+            new GUI(),
+            new GUI(),
+            null,
+            new LocalResourcePool("pool1"),
+            new LinkedList<InterpreterContextRunner>(), null));
+        return "100";
+      }
+
+      @Override
+      protected boolean jobAbort() {
+        return false;
+      }
+
+      @Override
+      public void setResult(Object results) {
+        this.results = results;
+      }
+    };
+    scheduler.submit(job);
+    assertEquals(Status.PENDING, job.getStatus());
+
+    int cycles = 0;
+    while (!job.isTerminated() && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+
+    assertEquals(Status.FINISHED, job.getStatus());
+    assertNotNull(intpA.getInterpreterGroup().getRemoteInterpreterProcess());
+    assertEquals(0, scheduler.getJobsWaiting().size());
+    assertEquals(0, scheduler.getJobsRunning().size());
+
+    intpA.close();
+    schedulerSvc.removeScheduler("test");
+  }
+
   @Test
   public void testAbortOnPending() throws Exception {
     final RemoteInterpreter intpA = (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note1");
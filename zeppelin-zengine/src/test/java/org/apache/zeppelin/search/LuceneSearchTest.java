@@ -20,14 +20,19 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Mockito.*;
 import static org.apache.zeppelin.search.LuceneSearch.formatId;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -241,6 +246,82 @@ public class LuceneSearchTest {
     assertThat(resultForQuery("NotebookN").size()).isEqualTo(1);
   }
 
+  @Test public void onlyChangedNotesAreReindexedFromPersistedIndex() throws IOException {
+    File indexDir = Files.createTempDirectory("search-index").toFile();
+    try {
+      //given: index persisted on disk
+      Note note1 = newNoteWithParagraph("Notebook1", "test");
+      Note note2 = newNoteWithParagraph("Notebook2", "not test");
+      LuceneSearch search = new LuceneSearch(new MMapDirectory(indexDir.toPath()), 1000);
+      search.addIndexDocs(Arrays.asList(note1, note2));
+      search.close();
+
+      //when: note2 changed and note1 removed while the server was down
+      note2.getLastParagraph().setText("not test anymore");
+      search = new LuceneSearch(new MMapDirectory(indexDir.toPath()), 1000);
+      search.addIndexDocs(Arrays.asList(note2));
+
+      //then
+      assertThat(search.query("test").size()).isEqualTo(1);
+      assertThat(search.query("Notebook1")).isEmpty();
+      assertThat(search.query("anymore").size()).isEqualTo(1);
+      search.close();
+    } finally {
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
+  @Test public void unchangedListedNotesAreNotRead() throws IOException {
+    File indexDir = Files.createTempDirectory("search-index").toFile();
+    try {
+      //given: index persisted on disk, note2 updated after it was indexed
+      Note note1 = newNoteWithParagraph("Notebook1", "test");
+      Note note2 = newNoteWithParagraph("Notebook2", "not test");
+      LuceneSearch search = new LuceneSearch(new MMapDirectory(indexDir.toPath()), 1000);
+      search.addIndexDocs(Arrays.asList(note1, note2));
+      note2.getLastParagraph().setText("not test anymore");
+      search.updateIndexDoc(note2);
+      search.close();
+
+      //when: notes listed with their fingerprint, and one without it
+      Note note3 = newNoteWithParagraph("Notebook3", "three");
+      NoteInfo listedNote3 = new NoteInfo(note3.getId(), "Notebook3", null);
+      SearchService.NoteReader reader = mock(SearchService.NoteReader.class);
+      when(reader.read(listedNote3)).thenReturn(note3);
+      search = new LuceneSearch(new MMapDirectory(indexDir.toPath()), 1000);
+      search.addIndexDocs(Arrays.asList(new NoteInfo(note1), new NoteInfo(note2), listedNote3),
+          reader);
+
+      //then: only the note listed without fingerprint is read
+      verify(reader).read(listedNote3);
+      verifyNoMoreInteractions(reader);
+      assertThat(search.query("anymore").size()).isEqualTo(1);
+      assertThat(search.query("three").size()).isEqualTo(1);
+      search.close();
+    } finally {
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
+  @Test public void lockedIndexFallsBackToInMemoryIndex() throws IOException {
+    File indexDir = Files.createTempDirectory("search-index").toFile();
+    try {
+      //given: index path locked by another writer
+      LuceneSearch first = new LuceneSearch(new MMapDirectory(indexDir.toPath()), 1000);
+
+      //when
+      LuceneSearch second = new LuceneSearch(new MMapDirectory(indexDir.toPath()), 1000);
+      second.addIndexDoc(newNoteWithParagraph("Notebook1", "test"));
+
+      //then
+      assertThat(second.query("test").size()).isEqualTo(1);
+      second.close();
+      first.close();
+    } finally {
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
   private List<Map<String, String>> resultForQuery(String q) {
     return noteSearchService.query(q);
   }